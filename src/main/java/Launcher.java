@@ -1,10 +1,17 @@
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
  * A launcher class to workaround classpath issues.
+ * Runs headless when asked to import a file with --import, and opens the GUI otherwise.
  */
 public class Launcher {
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--import")) {
+            edith.Edith.main(args);
+            return;
+        }
         Application.launch(edith.Main.class, args);
     }
 }
\ No newline at end of file
@@ -1,11 +1,19 @@
 package edith;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import edith.schedule.ReminderScheduler;
+import edith.schedule.ReminderSink;
 import edith.storage.Storage;
 import edith.storage.TaskList;
 import edith.ui.GuiUi;
 import edith.ui.Ui;
 import edith.command.Command;
+import edith.command.ImportCommand;
+import edith.parser.ParseCache;
 import edith.parser.Parser;
 import edith.exception.EdithException;
 
@@ -14,11 +22,17 @@ import edith.exception.EdithException;
  * Handles initialization, command processing loop, and coordinates between UI, storage, and task management.
  */
 public class Edith {
+    private static final long REMINDER_LEAD_MINUTES = 60;
+    private static final int PARSE_CACHE_SIZE = 256;
+    private static final String IMPORT_FLAG = "--import";
+    private static final String COMPRESS_FLAG = "--compress";
 
     private final Storage storage;
     private TaskList tasks;
     private final Ui ui;
+    private final ParseCache parseCache = new ParseCache(PARSE_CACHE_SIZE);
     private boolean shouldExit = false;
+    private ScheduledExecutorService reminderClock;
 
     /**
      * Creates a new E.D.I.T.H. instance with the specified file path for task storage.
@@ -27,14 +41,40 @@ public class Edith {
      * @param filePath the name of the file to store tasks in
      */
     public Edith(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a new E.D.I.T.H. instance that saves its tasks in the given format.
+     * A data file that is already compressed is always saved compressed again.
+     *
+     * @param filePath the name of the file to store tasks in
+     * @param isCompressed whether to save tasks as a compressed block file
+     */
+    public Edith(String filePath, boolean isCompressed) {
         ui = new Ui();
-        storage = new Storage("data", filePath);
+        storage = new Storage("data", filePath, isCompressed);
+        tasks = new TaskList();
         try {
-            tasks = new TaskList(storage.loadTasksFromFile());
+            storage.loadTasksInto(tasks);
         } catch (IOException e) {
             ui.showError("Could not load saved tasks. " + e.getMessage());
             tasks = new TaskList();
         }
+        if (!storage.getDamagedRecords().isEmpty()) {
+            ui.showError("Skipped " + storage.getDamagedRecords().size() + " damaged saved tasks. "
+                    + "Copies will be kept in " + storage.getDamagedPath() + " when your tasks are next saved.");
+        }
+        try {
+            storage.loadViews().forEach(tasks.getViews()::restore);
+        } catch (IOException e) {
+            ui.showError("Could not load saved views. " + e.getMessage());
+        }
+        try {
+            storage.loadAliases().forEach(Parser.getCommands()::restore);
+        } catch (IOException e) {
+            ui.showError("Could not load saved aliases. " + e.getMessage());
+        }
     }
 
     /**
@@ -43,21 +83,58 @@ public class Edith {
      */
     public void run() {
         ui.showWelcome();
+        startReminders(reminder -> ui.showNotification(reminder.getMessage()));
         boolean isExit = false;
         while (!isExit) {
+            String fullCommand = ui.readCommandFromTerminal();
+            ui.beginResponse();
             try {
-                String fullCommand = ui.readCommandFromTerminal();
-                Command c = Parser.parse(fullCommand, tasks.size());
+                Command c = parseCache.parse(fullCommand, tasks.size());
                 c.execute(tasks, ui, storage);
                 isExit = c.isExit();
             } catch (EdithException e) {
                 ui.showError(e.getMessage());
+            } finally {
+                ui.endResponse();
             }
         }
+        stopReminders();
         ui.showGoodbye();
         ui.close();
     }
 
+    /**
+     * Starts delivering reminders for pending deadlines and events to the given sink.
+     * A single background thread advances the reminder clock once a minute.
+     *
+     * @param sink where reminders are delivered as they fall due
+     */
+    public void startReminders(ReminderSink sink) {
+        assert reminderClock == null : "Reminders have already been started";
+        ReminderScheduler scheduler = new ReminderScheduler(sink, REMINDER_LEAD_MINUTES, LocalDateTime.now());
+        for (int i = 0; i < tasks.size(); i++) {
+            scheduler.taskAdded(i, tasks.get(i));
+        }
+        tasks.addListener(scheduler);
+
+        reminderClock = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "edith-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reminderClock.scheduleAtFixedRate(() -> scheduler.advanceTo(LocalDateTime.now()), 0, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stops the reminder clock, if it was started.
+     */
+    public void stopReminders() {
+        if (reminderClock != null) {
+            reminderClock.shutdownNow();
+            reminderClock = null;
+        }
+    }
+
     /**
      * Generates a response for the user's chat message using the command processing system.
      * This method processes the input through the parser and executes the appropriate command,
@@ -68,7 +145,7 @@ public class Edith {
      */
     public String getResponse(String input) {
         try {
-            Command c = Parser.parse(input, tasks.size());
+            Command c = parseCache.parse(input, tasks.size());
 
             GuiUi guiUi = new GuiUi();
             c.execute(tasks, guiUi, storage);
@@ -84,6 +161,45 @@ public class Edith {
         }
     }
 
+    /**
+     * Completes the command word the user is typing, as far as the known commands and aliases agree.
+     *
+     * @param input the text typed so far
+     * @return the completed text, or the input unchanged if there is nothing to add
+     */
+    public String completeInput(String input) {
+        return Parser.getCommands().extend(input);
+    }
+
+    /**
+     * Returns the cache of parsed input lines. Its hit rate and saved parse time are kept off the
+     * console so the transcript stays the same from run to run; {@link ParseCache#describe()} sums them up.
+     *
+     * @return the parse cache
+     */
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
+    /**
+     * Imports the tasks in a CSV or JSON-lines file and saves them, without starting the command loop.
+     *
+     * @param fileName the file to import
+     * @return true if the file was imported, even if some rows were rejected
+     */
+    public boolean importFile(String fileName) {
+        ui.beginResponse();
+        try {
+            new ImportCommand("import " + fileName).execute(tasks, ui, storage);
+            return true;
+        } catch (EdithException e) {
+            ui.showError(e.getMessage());
+            return false;
+        } finally {
+            ui.endResponse();
+        }
+    }
+
     /**
      * Checks if the last processed command was an exit command.
      *
@@ -96,21 +212,38 @@ public class Edith {
     /**
      * Main entry point for the E.D.I.T.H. application.
      *
-     * @param args command line arguments - optional file path for data storage
+     * @param args command line arguments - optional file path for data storage,
+     *             "--import FILE" to import a CSV or JSON-lines file and exit, and
+     *             "--compress" to save the data file compressed
      */
     public static void main(String[] args) {
         String filePath = "edith.txt";
+        String importPath = null;
+        boolean isCompressed = false;
 
-        if (args.length > 0) {
-            filePath = args[0];
-            if (filePath.trim().isEmpty()) {
-                System.err.println("Error: File path cannot be empty");
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(COMPRESS_FLAG)) {
+                isCompressed = true;
+            } else if (!args[i].equals(IMPORT_FLAG)) {
+                filePath = args[i];
+            } else if (i + 1 < args.length) {
+                importPath = args[++i];
+            } else {
+                System.err.println("Error: " + IMPORT_FLAG + " needs a file to import");
                 System.exit(1);
             }
         }
+        if (filePath.trim().isEmpty()) {
+            System.err.println("Error: File path cannot be empty");
+            System.exit(1);
+        }
 
         try {
-            new Edith(filePath).run();
+            Edith edith = new Edith(filePath, isCompressed);
+            if (importPath != null) {
+                System.exit(edith.importFile(importPath) ? 0 : 1);
+            }
+            edith.run();
         } catch (Exception e) {
             System.err.println("Fatal error: " + e.getMessage());
             System.exit(1);
@@ -5,6 +5,8 @@ import javafx.scene.control.Button;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 
@@ -30,13 +32,21 @@ public class MainWindow extends AnchorPane {
     private Image edithImage = new Image(this.getClass().getResourceAsStream("/images/DaEdith.png"));
 
     /**
-     * Initializes the MainWindow by setting up scroll pane binding.
+     * Initializes the MainWindow by setting up scroll pane binding and Tab completion of command words.
      * This method is automatically called by the FXML loader after loading the layout.
      */
     @FXML
     public void initialize() {
         scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
         dialogContainer.prefWidthProperty().bind(scrollPane.widthProperty().subtract(SCROLL_PANE_PADDING));
+        userInput.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && edith != null) {
+                String completed = edith.completeInput(userInput.getText());
+                userInput.setText(completed);
+                userInput.positionCaret(completed.length());
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -47,6 +57,9 @@ public class MainWindow extends AnchorPane {
     public void setEdith(Edith e) {
         edith = e;
         showWelcomeMessage();
+        edith.startReminders(reminder -> javafx.application.Platform.runLater(() ->
+                dialogContainer.getChildren().add(
+                        BotDialogBox.getBotDialog(reminder.getMessage().trim(), edithImage))));
     }
 
     /**
@@ -0,0 +1,74 @@
+package edith.command;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import edith.parser.CommandRegistry;
+import edith.parser.Parser;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.ui.Ui;
+import edith.exception.AliasException;
+import edith.exception.EdithException;
+
+/**
+ * Command for listing, defining and deleting user-defined command aliases.
+ * Aliases are saved next to the task file and restored on start-up.
+ */
+public class AliasCommand extends Command {
+    private String input;
+
+    /**
+     * Creates an alias command from the user's input.
+     *
+     * @param input the full command string like "alias dl deadline", "alias delete dl" or "alias"
+     */
+    public AliasCommand(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Runs the alias action named in the input.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        String[] parts = input.trim().split("\\s+");
+        CommandRegistry commands = Parser.getCommands();
+        if (parts.length == 1) {
+            showAliases(commands.getAliases(), ui);
+        } else if (parts.length != 3) {
+            throw new AliasException("OOPS!!! Alias format should be: alias <name> <command>");
+        } else if (parts[1].equalsIgnoreCase("delete")) {
+            if (!commands.removeAlias(parts[2])) {
+                throw new AliasException("OOPS!!! There is no alias with that name.");
+            }
+            saveAliases(commands, ui, storage);
+            ui.showMessages(" Alias \"" + parts[2].toLowerCase() + "\" deleted.");
+        } else {
+            commands.defineAlias(parts[1], parts[2]);
+            saveAliases(commands, ui, storage);
+            ui.showMessages(" Alias \"" + parts[1].toLowerCase() + "\" now runs "
+                    + commands.resolveCommandWord(parts[1]) + ".");
+        }
+    }
+
+    private void showAliases(Map<String, String> aliases, Ui ui) {
+        if (aliases.isEmpty()) {
+            ui.showMessages(" No aliases yet. Add one with: alias <name> <command>");
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(" Your aliases:");
+        aliases.forEach((alias, command) -> lines.add(" " + alias + " -> " + command));
+        ui.showMessages(lines.toArray(new String[0]));
+    }
+
+    private void saveAliases(CommandRegistry commands, Ui ui, Storage storage) {
+        try {
+            storage.saveAliases(commands.getAliases());
+        } catch (IOException e) {
+            ui.showError("Warning: Could not save aliases to file. " + e.getMessage());
+        }
+    }
+}
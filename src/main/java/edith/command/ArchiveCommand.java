@@ -0,0 +1,94 @@
+package edith.command;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Task;
+import edith.ui.Ui;
+import edith.exception.ArchiveException;
+import edith.exception.EdithException;
+
+/**
+ * Command for moving completed tasks older than a number of days out of the task list and into
+ * a compressed archive segment next to the data file. Archived tasks are no longer loaded at
+ * start-up, but can still be searched with "find --archive".
+ */
+public class ArchiveCommand extends Command {
+    private static final int DEFAULT_DAYS = 30;
+
+    private final int days;
+
+    /**
+     * Creates an archive command from the user's input.
+     *
+     * @param input the full command string like "archive" or "archive 90"
+     */
+    public ArchiveCommand(String input) {
+        String[] parts = input.trim().split("\\s+");
+        this.days = parts.length > 1 ? Integer.parseInt(parts[1]) : DEFAULT_DAYS;
+    }
+
+    /**
+     * Writes the eligible tasks to a new archive segment, then removes them from the list and saves it.
+     * The segment is written first, so a failure leaves every task in the list.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        long cutoff = DateTimeParser.toEpochMinutes(LocalDateTime.now().minusDays(days));
+        List<Integer> positions = new ArrayList<>();
+        List<Task> archived = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (isArchivable(task, cutoff)) {
+                positions.add(i);
+                archived.add(task);
+            }
+        }
+        if (archived.isEmpty()) {
+            ui.showMessages(" Nothing to archive. No completed tasks ended more than " + days + " days ago.");
+            return;
+        }
+
+        Path segment;
+        try {
+            segment = storage.saveArchiveSegment(archived);
+        } catch (IOException e) {
+            throw new ArchiveException("OOPS!!! Could not write the archive. " + e.getMessage());
+        }
+        for (int i = positions.size() - 1; i >= 0; i--) {
+            tasks.delete(positions.get(i));
+        }
+        try {
+            storage.saveTasksToFile(tasks.getList());
+        } catch (IOException e) {
+            throw new ArchiveException("OOPS!!! Archived to " + segment.getFileName()
+                    + " but could not save the task list. " + e.getMessage());
+        }
+        ui.showMessages(" Archived " + archived.size() + " completed tasks to " + segment.getFileName() + ".",
+                " " + tasks.size() + " tasks remain. Search the archive with: find --archive <query>");
+    }
+
+    /**
+     * Returns whether a task can be archived: it is done, does not repeat, and its deadline or end
+     * is before the cutoff. Todos have no date, so a done todo is always archived.
+     */
+    private static boolean isArchivable(Task task, long cutoff) {
+        if (!task.isDone() || task.isRecurring()) {
+            return false;
+        }
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getByMinutes() < cutoff;
+        }
+        if (task instanceof Event) {
+            return ((Event) task).getToMinutes() < cutoff;
+        }
+        return true;
+    }
+}
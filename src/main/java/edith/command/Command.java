@@ -1,8 +1,13 @@
 package edith.command;
 
 import java.io.IOException;
+import java.time.format.DateTimeParseException;
 import edith.storage.Storage;
 import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Occurrence;
+import edith.task.Recurrence;
+import edith.task.Task;
 import edith.ui.Ui;
 import edith.exception.EdithException;
 
@@ -11,6 +16,9 @@ import edith.exception.EdithException;
  * Implements the Command pattern to encapsulate different user actions.
  */
 public abstract class Command {
+    /** Marker that picks out a single occurrence of a repeating task, as in "mark 3 /on 2026-10-22". */
+    protected static final String OCCURRENCE_CLAUSE = " /on ";
+
     /**
      * Executes the command with the provided task list, user interface, and storage.
      * Each concrete command implements this method to perform its specific action.
@@ -46,4 +54,45 @@ public abstract class Command {
             ui.showError("Warning: Could not save tasks to file. " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Parses the repeat rule that follows "/every" in a deadline or event command.
+     *
+     * @param clause the text after "/every"
+     * @return the parsed repeat rule
+     * @throws EdithException if the rule cannot be understood
+     */
+    protected static Recurrence parseRecurrence(String clause) throws EdithException {
+        try {
+            return Recurrence.parse(clause);
+        } catch (IllegalArgumentException e) {
+            throw new EdithException("OOPS!!! " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the occurrence of a repeating task that falls on the date given after "/on".
+     *
+     * @param tasks the task list holding the task
+     * @param taskIndex the position of the task (0-based)
+     * @param date the date text, in any supported date format
+     * @return the matching occurrence
+     * @throws EdithException if the task does not repeat or has no occurrence on that date
+     */
+    protected static Occurrence findOccurrence(TaskList tasks, int taskIndex, String date) throws EdithException {
+        Task task = tasks.get(taskIndex);
+        if (!task.isRecurring()) {
+            throw new EdithException("OOPS!!! Task " + (taskIndex + 1) + " does not repeat.");
+        }
+        long number;
+        try {
+            number = task.getRecurrence().occurrenceOn(task.getScheduledTime(), DateTimeParser.parseDateTime(date));
+        } catch (DateTimeParseException e) {
+            throw new EdithException("OOPS!!! " + e.getMessage());
+        }
+        if (number < 0) {
+            throw new EdithException("OOPS!!! Task " + (taskIndex + 1) + " does not occur on " + date.trim() + ".");
+        }
+        return Occurrence.of(task, number);
+    }
+}
@@ -1,41 +1,47 @@
 package edith.command;
 
 import java.time.format.DateTimeParseException;
-import edith.task.Task;
+import edith.parser.CommandLine;
+import edith.parser.CommandLine.Clause;
 import edith.task.Deadline;
+import edith.task.Recurrence;
 import edith.storage.Storage;
 import edith.storage.TaskList;
 import edith.ui.Ui;
 import edith.exception.EdithException;
 
 public class DeadlineCommand extends Command {
-    private String input;
+    private final CommandLine line;
     
     public DeadlineCommand(String input) {
-        this.input = input;
+        this(CommandLine.scan(input, Clause.BY, Clause.EVERY));
+    }
+
+    public DeadlineCommand(CommandLine line) {
+        this.line = line;
     }
     
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
-        String[] deadlineParts = input.split(" /by ");
-        if (deadlineParts.length != 2) {
+        String by = line.get(Clause.BY);
+        if (by == null || line.isRepeated(Clause.BY)) {
             throw new EdithException("OOPS!!! Deadline format should be: deadline <description> /by <time>");
         }
 
-        String[] commandParts = deadlineParts[0].split(" ", 2);
-        String deadlineDesc = commandParts.length > 1 ? commandParts[1].trim() : "";
-
+        String deadlineDesc = line.getHead().trim();
         if (deadlineDesc.isEmpty()) {
             throw new EdithException("OOPS!!! Deadline description cannot be empty.");
         }
 
-        String by = deadlineParts[1].trim();
+        String every = line.get(Clause.EVERY);
+        Recurrence recurrence = every == null ? null : parseRecurrence(every);
 
         if (by.isEmpty()) {
             throw new EdithException("OOPS!!! Deadline time cannot be empty.");
         }
         try {
-            Task deadlineTask = new Deadline(deadlineDesc, by);
+            Deadline deadlineTask = new Deadline(deadlineDesc, by);
+            deadlineTask.setRecurrence(recurrence);
             tasks.add(deadlineTask);
             ui.showTaskAdded(deadlineTask, tasks.size());
             saveTasksToFile(tasks, ui, storage);
@@ -1,6 +1,7 @@
 package edith.command;
 
 import edith.task.Task;
+import edith.parser.CommandLine;
 import edith.storage.Storage;
 import edith.storage.TaskList;
 import edith.ui.Ui;
@@ -12,7 +13,7 @@ import edith.exception.EdithException;
  * Removes the specified task and shows confirmation to the user.
  */
 public class DeleteCommand extends Command {
-    private String input;
+    private final CommandLine line;
     
     /**
      * Creates a new DeleteCommand with the given input string.
@@ -21,7 +22,16 @@ public class DeleteCommand extends Command {
      * @param input the command input containing the task number
      */
     public DeleteCommand(String input) {
-        this.input = input;
+        this(CommandLine.scan(input));
+    }
+
+    /**
+     * Creates a new DeleteCommand from an already scanned line.
+     *
+     * @param line the scanned input containing the task number
+     */
+    public DeleteCommand(CommandLine line) {
+        this.line = line;
     }
     
     /**
@@ -39,16 +49,11 @@ public class DeleteCommand extends Command {
         assert ui != null : "UI cannot be null";
         assert storage != null : "Storage cannot be null";
         
-        String[] deleteParts = input.split(" ");
-
-        if (deleteParts.length < 2) {
+        int deleteNum = line.getTaskNumber();
+        if (deleteNum == CommandLine.NO_TASK_NUMBER) {
             throw new EdithException("OOPS!!! Please provide a task number to delete.");
         }
-
-        int deleteNum;
-        try {
-            deleteNum = Integer.parseInt(deleteParts[1]);
-        } catch (NumberFormatException e) {
+        if (deleteNum == CommandLine.BAD_TASK_NUMBER) {
             throw new EdithException("OOPS!!! Task number must be a valid number.");
         }
 
@@ -1,8 +1,10 @@
 package edith.command;
 
 import java.time.format.DateTimeParseException;
-import edith.task.Task;
+import edith.parser.CommandLine;
+import edith.parser.CommandLine.Clause;
 import edith.task.Event;
+import edith.task.Recurrence;
 import edith.storage.Storage;
 import edith.storage.TaskList;
 import edith.ui.Ui;
@@ -10,39 +12,42 @@ import edith.exception.EdithException;
 
 
 public class EventCommand extends Command {
-    private String input;
+    private final CommandLine line;
     
     public EventCommand(String input) {
-        this.input = input;
+        this(CommandLine.scan(input, Clause.FROM, Clause.TO, Clause.EVERY));
+    }
+
+    public EventCommand(CommandLine line) {
+        this.line = line;
     }
     
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
-        String[] fromSplit = input.split(" /from ");
-        if (fromSplit.length != 2) {
+        if (line.get(Clause.FROM) == null || line.isRepeated(Clause.FROM)) {
             throw new EdithException("OOPS!!! Event format should be: event <description> /from <start> /to <end>");
         }
 
-        String[] commandParts = fromSplit[0].split(" ", 2);
-        String eventDesc = commandParts.length > 1 ? commandParts[1].trim() : "";
-
+        String eventDesc = line.getHead().trim();
         if (eventDesc.isEmpty()) {
             throw new EdithException("OOPS!!! Event description cannot be empty.");
         }
 
-        String[] toSplit = fromSplit[1].split(" /to ");
-        if (toSplit.length != 2) {
+        if (line.get(Clause.TO) == null || line.isRepeated(Clause.TO)) {
             throw new EdithException("OOPS!!! Event format should be: event <description> /from <start> /to <end>");
         }
 
-        String from = toSplit[0].trim();
-        String to = toSplit[1].trim();
+        String from = line.get(Clause.FROM);
+        String to = line.get(Clause.TO);
+        String every = line.get(Clause.EVERY);
+        Recurrence recurrence = every == null ? null : parseRecurrence(every);
 
         if (from.isEmpty() || to.isEmpty()) {
             throw new EdithException("OOPS!!! Event times cannot be empty.");
         }
         try {
-            Task eventTask = new Event(eventDesc, from, to);
+            Event eventTask = new Event(eventDesc, from, to);
+            eventTask.setRecurrence(recurrence);
             tasks.add(eventTask);
             ui.showTaskAdded(eventTask, tasks.size());
             saveTasksToFile(tasks, ui, storage);
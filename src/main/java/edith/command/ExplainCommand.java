@@ -0,0 +1,37 @@
+package edith.command;
+
+import edith.query.Query;
+import edith.query.QueryPlan;
+import edith.query.QueryPlanner;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+import edith.exception.FindException;
+
+/**
+ * Command for showing how a find query would be run without running it.
+ */
+public class ExplainCommand extends Command {
+    private final Query query;
+
+    /**
+     * Creates an explain command, compiling the query in the user input.
+     *
+     * @param input the full command string like "explain done:false by<2026-12-01"
+     * @throws FindException if a field term in the query is invalid
+     */
+    public ExplainCommand(String input) throws FindException {
+        String[] parts = input.split(" ", 2);
+        this.query = Query.compile(parts.length > 1 ? parts[1] : "");
+    }
+
+    /**
+     * Plans the query against the current task list and shows the chosen access path.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        QueryPlan plan = QueryPlanner.plan(query, tasks);
+        ui.showMessages(plan.explain().toArray(new String[0]));
+    }
+}
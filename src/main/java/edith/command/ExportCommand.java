@@ -0,0 +1,94 @@
+package edith.command;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import edith.query.Query;
+import edith.storage.Storage;
+import edith.storage.TaskExporter;
+import edith.storage.TaskList;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+import edith.exception.ExportException;
+import edith.exception.FindException;
+
+/**
+ * Command for writing the tasks, or those matching a find query, to a CSV, JSON-lines or iCalendar file.
+ * The tasks are captured in a snapshot first, so a large export is written in the background
+ * while the user carries on with other commands.
+ */
+public class ExportCommand extends Command {
+    /** Snapshots larger than this are written in the background; smaller ones finish before the reply. */
+    private static final int BACKGROUND_THRESHOLD = 100_000;
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "edith-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TaskExporter.Format format;
+    private final String fileName;
+    private final Query filter;
+
+    /**
+     * Creates an export command, compiling any find query in the input once up front.
+     *
+     * @param input the full command string like "export ics week.ics type:E" or "export csv all.csv"
+     * @throws ExportException if the format is unknown
+     * @throws FindException if the find query is invalid
+     */
+    public ExportCommand(String input) throws EdithException {
+        String[] parts = input.trim().split("\\s+", 4);
+        assert parts.length >= 3 : "Export needs a format and a file: " + input;
+        this.format = TaskExporter.Format.of(parts[1]);
+        if (format == null) {
+            throw new ExportException("OOPS!!! I can only export to csv, jsonl or ics, not " + parts[1] + ".");
+        }
+        this.fileName = parts[2];
+        this.filter = parts.length < 4 ? null : Query.compile(parts[3]);
+    }
+
+    /**
+     * Takes the snapshot and writes it, in the background if it is large and the UI can still
+     * report the outcome once this command's reply has been shown.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        Path target;
+        try {
+            target = Paths.get(fileName);
+        } catch (InvalidPathException e) {
+            throw new ExportException("OOPS!!! \"" + fileName + "\" is not a valid file name.");
+        }
+        TaskExporter snapshot = filter == null
+                ? TaskExporter.snapshotOf(tasks)
+                : TaskExporter.snapshotOf(tasks, filter);
+
+        if (snapshot.size() <= BACKGROUND_THRESHOLD || !ui.canNotifyLater()) {
+            write(snapshot, target);
+            ui.showMessages(" Exported " + snapshot.size() + " tasks to " + fileName + ".");
+            return;
+        }
+        ui.showMessages(" Exporting " + snapshot.size() + " tasks to " + fileName + " in the background.",
+                " You can carry on in the meantime.");
+        WRITER.execute(() -> {
+            try {
+                write(snapshot, target);
+                ui.showNotification(" Finished exporting " + snapshot.size() + " tasks to " + fileName + ".");
+            } catch (ExportException e) {
+                ui.showNotification(" " + e.getMessage());
+            }
+        });
+    }
+
+    private void write(TaskExporter snapshot, Path target) throws ExportException {
+        try {
+            snapshot.writeTo(format, target);
+        } catch (IOException e) {
+            throw new ExportException("OOPS!!! Could not export to " + fileName + ". " + e.getMessage());
+        }
+    }
+}
@@ -1,37 +1,51 @@
 package edith.command;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import edith.query.Query;
+import edith.query.QueryPlanner;
 import edith.storage.Storage;
 import edith.storage.TaskList;
 import edith.task.Task;
 import edith.ui.Ui;
 import edith.exception.EdithException;
+import edith.exception.FindException;
 
 /**
- * Command for finding tasks that contain a specific keyword in their description.
- * Uses regex pattern matching to search through task descriptions case-insensitively.
+ * Command for finding tasks that match a query.
+ * A plain keyword searches task descriptions case-insensitively; field terms such as
+ * {@code type:D done:false by<2026-12-01 note:"laptop"} narrow the search further.
+ * With a leading {@code --archive}, the archive segments are searched instead of the task list.
  */
 public class FindCommand extends Command {
-    private String keyword;
+    private static final String ARCHIVE_FLAG = "--archive";
+
+    private final Query query;
+    private final boolean searchesArchive;
 
     /**
-     * Creates a FindCommand with the user input containing the search keyword.
+     * Creates a FindCommand, compiling the query in the user input once up front.
      *
-     * @param input the full command input from the user (e.g., "find book")
+     * @param input the full command input from the user (e.g., "find book" or "find --archive book")
+     * @throws FindException if a field term in the query is invalid
      */
-    public FindCommand(String input) {
+    public FindCommand(String input) throws FindException {
         String[] parts = input.split(" ", 2);
-        this.keyword = parts.length > 1 ? parts[1] : "";
+        String text = parts.length > 1 ? parts[1].trim() : "";
+        this.searchesArchive = text.equals(ARCHIVE_FLAG) || text.startsWith(ARCHIVE_FLAG + " ");
+        if (searchesArchive) {
+            text = text.substring(ARCHIVE_FLAG.length()).trim();
+            if (text.isEmpty()) {
+                throw new FindException("OOPS!!! Tell me what to search the archive for, e.g. find --archive book");
+            }
+        }
+        this.query = Query.compile(text);
     }
 
     /**
-     * Executes the find command by searching for tasks containing the keyword.
-     * Uses regex pattern matching to find all tasks whose descriptions contain
-     * the keyword (case-insensitive search).
+     * Executes the find command by planning the query against the task list's indexes
+     * and showing every matching task with its original number.
      *
      * @param tasks the task list to search through
      * @param ui the user interface for displaying results
@@ -40,24 +54,61 @@ public class FindCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
-        Pattern pattern = Pattern.compile(".*" + Pattern.quote(keyword) + ".*", Pattern.CASE_INSENSITIVE);
-        ArrayList<Task> allTasks = tasks.getList();
-
-        List<Integer> matchingIndices = IntStream.range(0, allTasks.size())
-                .filter(i -> pattern.matcher(allTasks.get(i).getDescription()).matches())
-                .boxed()
-                .collect(Collectors.toList());
+        if (searchesArchive) {
+            findInArchive(ui, storage);
+            return;
+        }
+        List<Integer> matchingIndices = QueryPlanner.plan(query, tasks).execute();
 
-        ArrayList<Task> matchingTasks = matchingIndices.stream()
-                .map(allTasks::get)
-                .collect(Collectors.toCollection(ArrayList::new));
-
-        ArrayList<Integer> originalIndices = matchingIndices.stream()
-                .map(i -> i + 1)
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<Task> matchingTasks = new ArrayList<>();
+        ArrayList<Integer> originalIndices = new ArrayList<>();
+        for (int index : matchingIndices) {
+            matchingTasks.add(tasks.get(index));
+            originalIndices.add(index + 1);
+        }
 
         ui.displayLineSeparator();
         ui.showFoundTasks(matchingTasks, originalIndices);
         ui.displayLineSeparator();
     }
+
+    /**
+     * Streams the archive segments and shows the first page of archived tasks that match.
+     * Archived tasks have no number in the list, so they are shown with bullets; the rest are only counted.
+     * Damaged archived records are skipped, and the reply says how many there were.
+     */
+    private void findInArchive(Ui ui, Storage storage) throws FindException {
+        List<Task> shown = new ArrayList<>();
+        int[] matched = new int[1];
+        int damaged;
+        try {
+            damaged = storage.readArchive(task -> {
+                if (query.matches(task)) {
+                    if (matched[0] < Ui.PAGE_SIZE) {
+                        shown.add(task);
+                    }
+                    matched[0]++;
+                }
+            });
+        } catch (IOException e) {
+            throw new FindException("OOPS!!! Could not search the archive. " + e.getMessage());
+        }
+
+        List<String> lines = new ArrayList<>(shown.size() + 3);
+        if (shown.isEmpty()) {
+            lines.add(" Scan complete. No matching archived tasks found.");
+        } else {
+            lines.add(" Scan results - matching archived tasks:");
+        }
+        for (Task task : shown) {
+            lines.add(" - " + task);
+        }
+        if (matched[0] > shown.size()) {
+            lines.add(" ...and " + (matched[0] - shown.size()) + " more. Narrow the query to see them.");
+        }
+        if (damaged > 0) {
+            lines.add(" Skipped " + damaged + " damaged archived " + (damaged == 1 ? "record" : "records") + ".");
+        }
+        ui.showMessages(lines.toArray(new String[0]));
+    }
 }
@@ -0,0 +1,71 @@
+package edith.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import edith.storage.Storage;
+import edith.storage.TaskImporter;
+import edith.storage.TaskList;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+import edith.exception.ImportException;
+
+/**
+ * Command for adding every task in a CSV or JSON-lines file at once.
+ * Rows are parsed in parallel by {@link TaskImporter} and the tasks are saved once at the end,
+ * rather than once per task as adding them one command at a time would.
+ */
+public class ImportCommand extends Command {
+    private final String fileName;
+
+    /**
+     * Creates an import command from the user's input.
+     *
+     * @param input the full command string like "import tasks.csv"
+     */
+    public ImportCommand(String input) {
+        String[] parts = input.trim().split("\\s+", 2);
+        this.fileName = parts.length < 2 ? "" : parts[1];
+    }
+
+    /**
+     * Imports the file, saves the task list and reports how many rows went in and how fast.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        Path source;
+        try {
+            source = Paths.get(fileName);
+        } catch (InvalidPathException e) {
+            throw new ImportException("OOPS!!! \"" + fileName + "\" is not a valid file name.");
+        }
+        if (!Files.isRegularFile(source)) {
+            throw new ImportException("OOPS!!! There is no file called \"" + fileName + "\".");
+        }
+
+        int before = tasks.size();
+        TaskImporter.Result result;
+        try {
+            result = new TaskImporter().importInto(source, tasks);
+        } catch (IOException e) {
+            int kept = tasks.size() - before;
+            throw new ImportException("OOPS!!! Could not import " + fileName + ". " + e.getMessage()
+                    + (kept == 0 ? "" : " The " + kept + " tasks read before that were kept."));
+        } finally {
+            if (tasks.size() > before) {
+                saveTasksToFile(tasks, ui, storage);
+            }
+        }
+
+        String rejects = result.getRejected() == 0 ? ""
+                : ", rejected " + result.getRejected() + " (see " + result.getRejectsPath() + ")";
+        ui.showMessages(
+                " Imported " + result.getImported() + " tasks" + rejects + ".",
+                String.format(" Took %.2f s, %,.0f rows/sec.", result.getElapsedNanos() / 1e9,
+                        result.getRowsPerSecond()),
+                " Now you have " + tasks.size() + " tasks in the list."
+        );
+    }
+}
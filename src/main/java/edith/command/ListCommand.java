@@ -1,22 +1,130 @@
 package edith.command;
 
+import java.util.Arrays;
+import java.util.List;
+import edith.index.SortKey;
+import edith.parser.CommandLine;
 import edith.storage.Storage;
 import edith.storage.TaskList;
+import edith.task.Task;
 import edith.ui.Ui;
+import edith.exception.EdithException;
+import edith.exception.InvalidCommandException;
 
 /**
  * Command for displaying all current tasks.
- * Simple and straightforward - just shows everything you've got.
+ * Shows them in list order, or sorted with "list sort:<key>" while keeping each task's list number.
+ * "list <page> [size]" shows a single page, so huge lists never have to be rendered in one go.
  */
 public class ListCommand extends Command {
+    private static final String SORT_PREFIX = "sort:";
+
+    private final SortKey sortKey;
+    private final int page;
+    private final int pageSize;
+
     /**
-     * Shows all tasks in a nice numbered list format.
-     * No fancy filtering or sorting, just the raw list.
+     * Creates a list command that shows every task in list order.
+     */
+    public ListCommand() {
+        this.sortKey = null;
+        this.page = 0;
+        this.pageSize = Ui.PAGE_SIZE;
+    }
+
+    /**
+     * Creates a list command from the user's input, which may ask for a sort order and a page.
+     * Assumes the input has already been validated by the parser.
+     *
+     * @param input the full command string like "list", "list sort:deadline" or "list 3 20"
+     */
+    public ListCommand(String input) {
+        this.sortKey = parseSortKey(input);
+        int[] numbers = parsePageNumbers(input);
+        assert numbers != null : "List input should have been validated: " + input;
+        this.page = numbers.length > 0 ? numbers[0] : 0;
+        this.pageSize = numbers.length > 1 ? numbers[1] : Ui.PAGE_SIZE;
+    }
+
+    /**
+     * Reads the sort key out of a list command.
+     *
+     * @param input the full command string
+     * @return the requested order, or null if the input has no valid "sort:" term
+     */
+    public static SortKey parseSortKey(String input) {
+        String[] parts = input.trim().split("\\s+");
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].toLowerCase().startsWith(SORT_PREFIX)) {
+                return SortKey.fromName(parts[i].substring(SORT_PREFIX.length()));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the page number and page size out of a list command, skipping any sort term.
+     *
+     * @param input the full command string
+     * @return the numbers in the order given, or null if a word is not a number
+     */
+    public static int[] parsePageNumbers(String input) {
+        String[] parts = input.trim().split("\\s+");
+        int[] numbers = new int[parts.length];
+        int count = 0;
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].toLowerCase().startsWith(SORT_PREFIX)) {
+                continue;
+            }
+            numbers[count] = CommandLine.parseNumber(parts[i]);
+            if (numbers[count++] == CommandLine.NOT_A_NUMBER) {
+                return null;
+            }
+        }
+        return Arrays.copyOf(numbers, count);
+    }
+
+    /**
+     * Shows the tasks in a nice numbered list format, either all of them or one page.
+     * Sorted orders come straight from the task list's sort indexes, so nothing is sorted here,
+     * and a page is a view onto the list rather than a copy.
      */
     @Override
-    public void execute(TaskList tasks, Ui ui, Storage storage) {
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        if (page > 0) {
+            showPage(tasks, ui);
+            return;
+        }
+        ui.displayLineSeparator();
+        if (sortKey == null) {
+            ui.showTaskList(tasks.getList());
+        } else {
+            ui.showSortedTaskList(tasks.getSortIndex(sortKey).view(), task -> tasks.indexOf(task) + 1,
+                    sortKey.toString());
+        }
+        ui.displayLineSeparator();
+    }
+
+    /**
+     * Shows one page between separators, checking the page number before anything is shown.
+     */
+    private void showPage(TaskList tasks, Ui ui) throws InvalidCommandException {
+        List<Task> ordered = sortKey == null ? tasks.getList() : tasks.getSortIndex(sortKey).view();
+        int pageCount = Math.max(1, (ordered.size() + pageSize - 1) / pageSize);
+        if (page > pageCount) {
+            throw new InvalidCommandException("OOPS!!! Page " + page + " is past the end. There "
+                    + (pageCount == 1 ? "is 1 page." : "are " + pageCount + " pages."));
+        }
+
+        int from = (page - 1) * pageSize;
+        List<Task> pageTasks = ordered.subList(from, Math.min(from + pageSize, ordered.size()));
+        String nextPageCommand = page < pageCount
+                ? "list " + (page + 1) + (pageSize != Ui.PAGE_SIZE ? " " + pageSize : "")
+                        + (sortKey != null ? " " + SORT_PREFIX + sortKey : "")
+                : null;
         ui.displayLineSeparator();
-        ui.showTaskList(tasks.getList());
+        ui.showTaskPage(pageTasks, task -> tasks.indexOf(task) + 1, page, pageCount,
+                sortKey == null ? null : sortKey.toString(), nextPageCommand);
         ui.displayLineSeparator();
     }
 }
@@ -1,7 +1,10 @@
 package edith.command;
 
+import edith.parser.CommandLine;
+import edith.parser.CommandLine.Clause;
 import edith.storage.Storage;
 import edith.storage.TaskList;
+import edith.task.Occurrence;
 import edith.ui.Ui;
 import edith.exception.EdithException;
 
@@ -11,15 +14,24 @@ import edith.exception.EdithException;
  * Takes a task number and flips that task's status to done.
  */
 public class MarkCommand extends Command {
-    private String input;
+    private final CommandLine line;
     
     /**
      * Creates a mark command from the user's input.
      * 
-     * @param input the full command string like "mark 3"
+     * @param input the full command string like "mark 3", or "mark 3 /on 2026-10-22" for one occurrence
      */
     public MarkCommand(String input) {
-        this.input = input;
+        this(CommandLine.scan(input, Clause.ON));
+    }
+
+    /**
+     * Creates a mark command from an already scanned line.
+     *
+     * @param line the scanned input, with any "/on" clause
+     */
+    public MarkCommand(CommandLine line) {
+        this.line = line;
     }
     
     /**
@@ -28,16 +40,11 @@ public class MarkCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
-        String[] split = input.split(" ");
-
-        if (split.length < 2) {
+        int taskNum = line.getTaskNumber();
+        if (taskNum == CommandLine.NO_TASK_NUMBER) {
             throw new EdithException("OOPS!!! Please provide a task number to mark.");
         }
-
-        int taskNum;
-        try {
-            taskNum = Integer.parseInt(split[1]);
-        } catch (NumberFormatException e) {
+        if (taskNum == CommandLine.BAD_TASK_NUMBER) {
             throw new EdithException("OOPS!!! Task number must be a valid number.");
         }
 
@@ -46,6 +53,18 @@ public class MarkCommand extends Command {
                     + "Valid range: 1 to " + tasks.size());
         }
 
+        String date = line.get(Clause.ON);
+        if (date != null) {
+            Occurrence occurrence = findOccurrence(tasks, taskNum - 1, date);
+            tasks.markOccurrence(taskNum - 1, occurrence.getNumber());
+            ui.showMessages(
+                    " Nice! I've marked this occurrence as done:",
+                    "   " + occurrence
+            );
+            saveTasksToFile(tasks, ui, storage);
+            return;
+        }
+
         tasks.markTask(taskNum - 1);
         ui.showMessages(
                 " Nice! I've marked this task as done:",
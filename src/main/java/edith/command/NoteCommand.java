@@ -42,7 +42,7 @@ public class NoteCommand extends Command {
                 throw new NoteException("OOPS!!! Note cannot be empty.");
             }
             
-            tasks.get(taskNum - 1).setNote(noteText);
+            tasks.setNote(taskNum - 1, noteText);
             ui.showMessages(
                     " Got it! I've added a note to this task:",
                     "   " + tasks.get(taskNum - 1)
@@ -0,0 +1,21 @@
+package edith.command;
+
+import java.time.LocalDateTime;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.ui.Ui;
+
+/**
+ * Command for showing every pending deadline that is already past due, most overdue first.
+ */
+public class OverdueCommand extends Command {
+    /**
+     * Shows the overdue deadlines with their original list numbers.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        ui.showMessages(UpcomingCommand.formatDeadlines(tasks,
+                tasks.getDeadlineIndex().overdue(LocalDateTime.now()),
+                " Overdue deadlines:", " Nothing overdue. Well done."));
+    }
+}
@@ -0,0 +1,84 @@
+package edith.command;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import edith.schedule.Agenda;
+import edith.schedule.FreeSlotPlanner;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Task;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+import edith.exception.PlanException;
+
+/**
+ * Command for proposing an agenda that fits pending duration-bearing tasks into free time.
+ * Events block out their time range, and deadline tasks must finish before they are due.
+ */
+public class PlanCommand extends Command {
+    private String input;
+
+    /**
+     * Creates a plan command from the user's input.
+     *
+     * @param input the full command string like "plan 2026-10-20 /to 2026-10-27"
+     */
+    public PlanCommand(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Plans the window and shows the proposed agenda with each task's original number.
+     * Does not modify the task list.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        String[] windowParts = input.split(" /to ");
+        String[] commandParts = windowParts[0].split(" ", 2);
+        if (windowParts.length != 2 || commandParts.length < 2) {
+            throw new PlanException("OOPS!!! Plan format should be: plan <start> /to <end>");
+        }
+
+        LocalDateTime start;
+        LocalDateTime end;
+        try {
+            start = DateTimeParser.parseDateTime(commandParts[1]);
+            end = DateTimeParser.parseDateTime(windowParts[1]);
+        } catch (DateTimeParseException e) {
+            throw new PlanException("OOPS!!! " + e.getMessage());
+        }
+        if (start.isAfter(end)) {
+            throw new PlanException("OOPS!!! Plan start time cannot be after end time");
+        }
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks.getList(), start, end);
+        ui.showMessages(formatAgenda(agenda, tasks, start, end));
+    }
+
+    private String[] formatAgenda(Agenda agenda, TaskList tasks, LocalDateTime start, LocalDateTime end) {
+        List<String> lines = new ArrayList<>();
+        if (agenda.getSlots().isEmpty() && agenda.getUnscheduled().isEmpty()) {
+            lines.add(" No pending tasks with a duration to plan.");
+            return lines.toArray(new String[0]);
+        }
+
+        lines.add(" Proposed agenda (" + DateTimeParser.formatForDisplay(start)
+                + " - " + DateTimeParser.formatForDisplay(end) + "):");
+        for (Agenda.Slot slot : agenda.getSlots()) {
+            Task task = tasks.get(slot.getTaskIndex());
+            lines.add(" " + DateTimeParser.formatWithTime(slot.getStart()) + " - "
+                    + DateTimeParser.formatWithTime(slot.getEnd()) + "  "
+                    + (slot.getTaskIndex() + 1) + "." + task);
+        }
+        if (!agenda.getUnscheduled().isEmpty()) {
+            lines.add(" Could not fit:");
+            for (int index : agenda.getUnscheduled()) {
+                lines.add(" " + (index + 1) + "." + tasks.get(index));
+            }
+        }
+        return lines.toArray(new String[0]);
+    }
+}
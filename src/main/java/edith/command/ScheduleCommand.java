@@ -0,0 +1,83 @@
+package edith.command;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Occurrence;
+import edith.task.Task;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+
+/**
+ * Command for showing every deadline and event that falls inside a time window, in time order.
+ * Repeating tasks are expanded into their individual occurrences for the window only.
+ */
+public class ScheduleCommand extends Command {
+    private String input;
+
+    /**
+     * Creates a schedule command from the user's input.
+     *
+     * @param input the full command string like "schedule 2026-10-20 /to 2026-10-27"
+     */
+    public ScheduleCommand(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Shows the occurrences in the window with their original task numbers.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        String[] windowParts = input.split(" /to ");
+        String[] commandParts = windowParts[0].split(" ", 2);
+        if (windowParts.length != 2 || commandParts.length < 2) {
+            throw new EdithException("OOPS!!! Schedule format should be: schedule <start> /to <end>");
+        }
+
+        LocalDateTime start;
+        LocalDateTime end;
+        try {
+            start = DateTimeParser.parseDateTime(commandParts[1]);
+            end = DateTimeParser.parseDateTime(windowParts[1]);
+        } catch (DateTimeParseException e) {
+            throw new EdithException("OOPS!!! " + e.getMessage());
+        }
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        List<Integer> taskNumbers = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Iterator<Occurrence> inWindow = Occurrence.between(task, start, end);
+            while (inWindow.hasNext()) {
+                occurrences.add(inWindow.next());
+                taskNumbers.add(i + 1);
+            }
+        }
+
+        Integer[] order = new Integer[occurrences.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> occurrences.get(i).getStart()));
+
+        if (order.length == 0) {
+            ui.showMessages(" Nothing scheduled in this window.");
+            return;
+        }
+        String[] lines = new String[order.length + 1];
+        lines[0] = " Schedule (" + DateTimeParser.formatForDisplay(start)
+                + " - " + DateTimeParser.formatForDisplay(end) + "):";
+        for (int i = 0; i < order.length; i++) {
+            lines[i + 1] = " " + taskNumbers.get(order[i]) + "." + occurrences.get(order[i]);
+        }
+        ui.showMessages(lines);
+    }
+}
@@ -0,0 +1,56 @@
+package edith.command;
+
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.task.Occurrence;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+
+/**
+ * Command for skipping one occurrence of a repeating deadline or event.
+ * The skip is recorded against the rule, so the occurrence drops out of every query window.
+ */
+public class SkipCommand extends Command {
+    private String input;
+
+    /**
+     * Creates a skip command from the user's input.
+     *
+     * @param input the full command string like "skip 3 /on 2026-10-22"
+     */
+    public SkipCommand(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Skips the occurrence on the given date and shows confirmation.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        int occurrenceAt = input.indexOf(OCCURRENCE_CLAUSE);
+        String[] parts = input.substring(0, Math.max(occurrenceAt, 0)).trim().split(" ");
+        if (occurrenceAt < 0 || parts.length != 2) {
+            throw new EdithException("OOPS!!! Skip format should be: skip <task number> /on <date>");
+        }
+
+        int taskNum;
+        try {
+            taskNum = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new EdithException("OOPS!!! Task number must be a valid number.");
+        }
+        if (taskNum < 1 || taskNum > tasks.size()) {
+            throw new EdithException("OOPS!!! Task number " + taskNum + " is out of range. "
+                    + "Valid range: 1 to " + tasks.size());
+        }
+
+        Occurrence occurrence = findOccurrence(tasks, taskNum - 1,
+                input.substring(occurrenceAt + OCCURRENCE_CLAUSE.length()));
+        tasks.skipOccurrence(taskNum - 1, occurrence.getNumber());
+        ui.showMessages(
+                " Understood. I've skipped this occurrence:",
+                "   " + occurrence
+        );
+        saveTasksToFile(tasks, ui, storage);
+    }
+}
@@ -2,6 +2,8 @@ package edith.command;
 
 import edith.task.Task;
 import edith.task.Todo;
+import edith.parser.CommandLine;
+import edith.parser.CommandLine.Clause;
 import edith.storage.Storage;
 import edith.storage.TaskList;
 import edith.ui.Ui;
@@ -13,7 +15,8 @@ import edith.exception.EdithException;
  * Takes the user's description and creates a basic task with no time constraints.
  */
 public class TodoCommand extends Command {
-    private String input;
+    private final String description;
+    private final String duration;
 
     /**
      * Creates a todo command from the user's input.
@@ -21,29 +24,25 @@ public class TodoCommand extends Command {
      * @param input the full command string including "todo" and description
      */
     public TodoCommand(String input) {
-        this.input = input;
+        this(CommandLine.scan(input, Clause.DURATION));
+    }
+
+    /**
+     * Creates a todo command from an already scanned line.
+     *
+     * @param line the scanned input, with any "/duration" clause
+     */
+    public TodoCommand(CommandLine line) {
+        this.duration = line.get(Clause.DURATION);
+        this.description = duration == null ? line.getHead() : line.getHead().trim();
     }
 
     /**
      * Executes the todo command by creating a new Todo task.
-     * Strips off the "todo" part and uses the rest as the description.
+     * Uses the text after "todo" as the description, up to any "/duration" clause.
      */
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
-        String[] parts = input.split(" ", 2);
-        String remainingInput = parts.length > 1 ? parts[1] : "";
-
-        String description;
-        String duration = null;
-
-        if (remainingInput.contains(" /duration ")) {
-            String[] durationParts = remainingInput.split(" /duration ");
-            description = durationParts[0].trim();
-            duration = durationParts[1].trim();
-        } else {
-            description = remainingInput;
-        }
-
         Task newTask = new Todo(description);
         if (duration != null && !duration.isEmpty()) {
             try {
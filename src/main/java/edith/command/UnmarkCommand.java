@@ -1,30 +1,32 @@
 package edith.command;
 
+import edith.parser.CommandLine;
+import edith.parser.CommandLine.Clause;
 import edith.storage.Storage;
 import edith.storage.TaskList;
+import edith.task.Occurrence;
 import edith.ui.Ui;
 import edith.exception.EdithException;
 
 
 public class UnmarkCommand extends Command {
-    private String input;
+    private final CommandLine line;
     
     public UnmarkCommand(String input) {
-        this.input = input;
+        this(CommandLine.scan(input, Clause.ON));
+    }
+
+    public UnmarkCommand(CommandLine line) {
+        this.line = line;
     }
     
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
-        String[] parts = input.split(" ");
-
-        if (parts.length < 2) {
+        int unmarkNum = line.getTaskNumber();
+        if (unmarkNum == CommandLine.NO_TASK_NUMBER) {
             throw new EdithException("OOPS!!! Please provide a task number to unmark.");
         }
-
-        int unmarkNum;
-        try {
-            unmarkNum = Integer.parseInt(parts[1]);
-        } catch (NumberFormatException e) {
+        if (unmarkNum == CommandLine.BAD_TASK_NUMBER) {
             throw new EdithException("OOPS!!! Task number must be a valid number.");
         }
 
@@ -33,6 +35,18 @@ public class UnmarkCommand extends Command {
                     + "Valid range: 1 to " + tasks.size());
         }
 
+        String date = line.get(Clause.ON);
+        if (date != null) {
+            Occurrence occurrence = findOccurrence(tasks, unmarkNum - 1, date);
+            tasks.unmarkOccurrence(unmarkNum - 1, occurrence.getNumber());
+            ui.showMessages(
+                    " OK, I've cleared this occurrence:",
+                    "   " + occurrence
+            );
+            saveTasksToFile(tasks, ui, storage);
+            return;
+        }
+
         tasks.unmarkTask(unmarkNum - 1);
         ui.showMessages(
                 " OK, I've marked this task as not done yet:",
@@ -0,0 +1,62 @@
+package edith.command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.task.Occurrence;
+import edith.ui.Ui;
+
+/**
+ * Command for showing the next few pending deadlines, soonest first.
+ * Reads straight from the task list's deadline index instead of sorting the whole list.
+ */
+public class UpcomingCommand extends Command {
+    /** The most deadlines one command lists; a repeating deadline without an end has no last occurrence. */
+    public static final int MAX_COUNT = 1000;
+    private static final int DEFAULT_COUNT = 10;
+
+    private final int count;
+
+    /**
+     * Creates an upcoming command from the user's input.
+     *
+     * @param input the full command string like "upcoming" or "upcoming 5"
+     */
+    public UpcomingCommand(String input) {
+        String[] parts = input.trim().split("\\s+");
+        this.count = parts.length > 1 ? Integer.parseInt(parts[1]) : DEFAULT_COUNT;
+    }
+
+    /**
+     * Shows up to the requested number of pending deadlines that are not yet due.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        List<Occurrence> deadlines = tasks.getDeadlineIndex().upcoming(LocalDateTime.now(), count);
+        ui.showMessages(formatDeadlines(tasks, deadlines,
+                " Upcoming deadlines:", " No upcoming deadlines. Clear skies ahead."));
+    }
+
+    /**
+     * Formats deadline occurrences with their original list numbers under the given header.
+     *
+     * @param tasks the task list the deadlines belong to
+     * @param deadlines the deadline occurrences to show
+     * @param header the line shown above a non-empty result
+     * @param emptyMessage the line shown when there is nothing to list
+     * @return the lines to display
+     */
+    static String[] formatDeadlines(TaskList tasks, List<Occurrence> deadlines, String header, String emptyMessage) {
+        if (deadlines.isEmpty()) {
+            return new String[] {emptyMessage};
+        }
+        List<String> lines = new ArrayList<>(deadlines.size() + 1);
+        lines.add(header);
+        for (Occurrence deadline : deadlines) {
+            lines.add(" " + (tasks.indexOf(deadline.getTask()) + 1) + "." + deadline);
+        }
+        return lines.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,94 @@
+package edith.command;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import edith.index.RoaringBitmap;
+import edith.query.SavedView;
+import edith.query.ViewRegistry;
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+import edith.exception.ViewException;
+
+/**
+ * Command for saving, opening, listing and deleting saved views.
+ * A view is a named find query whose result is kept up to date as tasks change,
+ * so opening it only costs as much as the number of tasks it shows.
+ */
+public class ViewCommand extends Command {
+    private String input;
+
+    /**
+     * Creates a view command from the user's input.
+     *
+     * @param input the full command string like "view save week done:false by<2026-10-26" or "view week"
+     */
+    public ViewCommand(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Runs the view action named in the input.
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws EdithException {
+        String[] parts = input.trim().split("\\s+", 3);
+        ViewRegistry views = tasks.getViews();
+        if (parts.length == 1) {
+            showDefinitions(views.getDefinitions(), ui);
+        } else if (parts[1].equals("save")) {
+            if (parts.length < 3 || parts[2].split("\\s+", 2).length < 2) {
+                throw new ViewException("OOPS!!! View format should be: view save <name> <find query>");
+            }
+            String[] definition = parts[2].split("\\s+", 2);
+            SavedView view = views.save(definition[0], definition[1]);
+            saveViews(views, ui, storage);
+            ui.showMessages(" View \"" + view.getName() + "\" saved: " + view.getText());
+        } else if (parts[1].equals("delete")) {
+            if (parts.length < 3 || !views.remove(parts[2])) {
+                throw new ViewException("OOPS!!! There is no view with that name.");
+            }
+            saveViews(views, ui, storage);
+            ui.showMessages(" View \"" + parts[2] + "\" deleted.");
+        } else {
+            showView(views.get(parts[1]), tasks, ui);
+        }
+    }
+
+    private void showView(SavedView view, TaskList tasks, Ui ui) throws EdithException {
+        if (view == null) {
+            throw new ViewException("OOPS!!! There is no view with that name.");
+        }
+        RoaringBitmap positions = view.open(tasks);
+        List<String> lines = new ArrayList<>();
+        if (positions.cardinality() == 0) {
+            lines.add(" View \"" + view.getName() + "\" has no matching tasks.");
+        } else {
+            lines.add(" View \"" + view.getName() + "\" (" + view.getText() + "):");
+            positions.forEach(position -> lines.add(" " + (position + 1) + "." + tasks.get(position)));
+        }
+        ui.showMessages(lines.toArray(new String[0]));
+    }
+
+    private void showDefinitions(Map<String, String> definitions, Ui ui) {
+        if (definitions.isEmpty()) {
+            ui.showMessages(" No saved views yet. Save one with: view save <name> <find query>");
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(" Saved views:");
+        definitions.forEach((name, text) -> lines.add(" " + name + ": " + text));
+        ui.showMessages(lines.toArray(new String[0]));
+    }
+
+    private void saveViews(ViewRegistry views, Ui ui, Storage storage) {
+        try {
+            storage.saveViews(views.getDefinitions());
+        } catch (IOException e) {
+            ui.showError("Warning: Could not save views to file. " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package edith.exception;
+
+/**
+ * Exception thrown when an alias command names an unknown command or clashes with a built-in word.
+ */
+public class AliasException extends EdithException {
+    /**
+     * Creates an AliasException with the specified error message.
+     *
+     * @param message the error message describing what went wrong
+     */
+    public AliasException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package edith.exception;
+
+/**
+ * Exception thrown when an archive command is malformed or its archive segment cannot be written.
+ */
+public class ArchiveException extends EdithException {
+    /**
+     * Creates an ArchiveException with the specified error message.
+     *
+     * @param message the error message describing what went wrong
+     */
+    public ArchiveException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,17 @@
 package edith.exception;
+
+/**
+ * Base class for every error E.D.I.T.H. reports to the user.
+ * Only the message is ever shown, so no stack trace is captured: rejecting a malformed line
+ * costs little more than building its message.
+ */
 public class EdithException extends Exception {
+    /**
+     * Creates an EdithException with the specified error message.
+     *
+     * @param message the error message describing what went wrong
+     */
     public EdithException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
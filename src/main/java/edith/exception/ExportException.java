@@ -0,0 +1,15 @@
+package edith.exception;
+
+/**
+ * Exception thrown when an export command is malformed or its file cannot be written.
+ */
+public class ExportException extends EdithException {
+    /**
+     * Creates an ExportException with the specified error message.
+     *
+     * @param message the error message describing what went wrong
+     */
+    public ExportException(String message) {
+        super(message);
+    }
+}
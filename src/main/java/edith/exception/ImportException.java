@@ -0,0 +1,15 @@
+package edith.exception;
+
+/**
+ * Exception thrown when an import command is malformed or its file cannot be read.
+ */
+public class ImportException extends EdithException {
+    /**
+     * Creates an ImportException with the specified error message.
+     *
+     * @param message the error message describing what went wrong
+     */
+    public ImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package edith.exception;
+
+/**
+ * Exception thrown when the plan command is given a malformed planning window.
+ */
+public class PlanException extends EdithException {
+    /**
+     * Creates a PlanException with the specified error message.
+     *
+     * @param message the error message describing what went wrong
+     */
+    public PlanException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package edith.exception;
+
+/**
+ * Exception thrown when a saved view command names an unknown view or is malformed.
+ */
+public class ViewException extends EdithException {
+    /**
+     * Creates a ViewException with the specified error message.
+     *
+     * @param message the error message describing what went wrong
+     */
+    public ViewException(String message) {
+        super(message);
+    }
+}
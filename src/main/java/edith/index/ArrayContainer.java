@@ -0,0 +1,143 @@
+package edith.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A sparse chunk: the members' low bits as a sorted array of unsigned shorts.
+ */
+class ArrayContainer extends Container {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private short[] values;
+    private int cardinality;
+
+    ArrayContainer() {
+        this(new short[INITIAL_CAPACITY], 0);
+    }
+
+    private ArrayContainer(short[] values, int cardinality) {
+        this.values = values;
+        this.cardinality = cardinality;
+    }
+
+    static ArrayContainer fromWords(long[] words, int cardinality) {
+        short[] values = new short[Math.max(cardinality, INITIAL_CAPACITY)];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                values[count++] = (short) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(values, count);
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+        return find(low) >= 0;
+    }
+
+    @Override
+    Container add(int low) {
+        int at = find(low);
+        if (at >= 0) {
+            return this;
+        }
+        if (cardinality == ARRAY_LIMIT) {
+            return new BitmapContainer(toWords(), cardinality).add(low);
+        }
+        at = -at - 1;
+        if (cardinality == values.length) {
+            values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_LIMIT));
+        }
+        System.arraycopy(values, at, values, at + 1, cardinality - at);
+        values[at] = (short) low;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(int low) {
+        int at = find(low);
+        if (at >= 0) {
+            System.arraycopy(values, at + 1, values, at, cardinality - at - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    @Override
+    Container removeAndShift(int low) {
+        int at = find(low);
+        int firstAbove = at >= 0 ? at : -at - 1;
+        if (at >= 0) {
+            System.arraycopy(values, at + 1, values, at, cardinality - at - 1);
+            cardinality--;
+        }
+        for (int i = firstAbove; i < cardinality; i++) {
+            values[i]--;
+        }
+        return this;
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+        for (int i = 0; i < cardinality; i++) {
+            action.accept(base + Short.toUnsignedInt(values[i]));
+        }
+    }
+
+    @Override
+    long[] toWords() {
+        long[] words = new long[CHUNK_SIZE / Long.SIZE];
+        for (int i = 0; i < cardinality; i++) {
+            int value = Short.toUnsignedInt(values[i]);
+            words[value >>> 6] |= 1L << value;
+        }
+        return words;
+    }
+
+    @Override
+    Container and(Container other) {
+        if (!(other instanceof ArrayContainer)) {
+            return super.and(other);
+        }
+        ArrayContainer result = new ArrayContainer();
+        for (int i = 0; i < cardinality; i++) {
+            int value = Short.toUnsignedInt(values[i]);
+            if (other.contains(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    long sizeInBytes() {
+        return 16L + 2L * values.length;
+    }
+
+    private int find(int low) {
+        int from = 0;
+        int to = cardinality - 1;
+        while (from <= to) {
+            int middle = (from + to) >>> 1;
+            int value = Short.toUnsignedInt(values[middle]);
+            if (value < low) {
+                from = middle + 1;
+            } else if (value > low) {
+                to = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(from + 1);
+    }
+}
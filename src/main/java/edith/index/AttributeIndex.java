@@ -0,0 +1,134 @@
+package edith.index;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import edith.storage.TaskListListener;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Task;
+import edith.task.Todo;
+
+/**
+ * Keeps one compressed bitmap of task positions per boolean attribute, such as "done" or "has a note".
+ * Bits are updated in place as tasks are added, changed and deleted, so combined filters are bitwise
+ * AND/OR over bitmaps and counts are popcounts, without visiting the tasks themselves.
+ */
+public class AttributeIndex implements TaskListListener {
+
+    /**
+     * A task attribute with its own bitmap.
+     */
+    public enum Facet {
+        DONE(Task::isDone),
+        PENDING(task -> !task.isDone()),
+        TODO(task -> task instanceof Todo),
+        DEADLINE(task -> task instanceof Deadline),
+        EVENT(task -> task instanceof Event),
+        HAS_NOTE(Task::hasNote),
+        HAS_DURATION(task -> task.hasDuration() && task.getDurationMinutes() != 0);
+
+        private final Predicate<Task> test;
+
+        Facet(Predicate<Task> test) {
+            this.test = test;
+        }
+
+        /**
+         * Checks whether the task has this attribute.
+         *
+         * @param task the task to check
+         * @return true if the task's bit should be set
+         */
+        public boolean test(Task task) {
+            return test.test(task);
+        }
+    }
+
+    private final Map<Facet, RoaringBitmap> bitmaps = new EnumMap<>(Facet.class);
+    private int size = 0;
+
+    /**
+     * Creates an index with an empty bitmap for every facet.
+     */
+    public AttributeIndex() {
+        for (Facet facet : Facet.values()) {
+            bitmaps.put(facet, new RoaringBitmap());
+        }
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        assert index == size : "Tasks are only ever appended, expected position " + size + " but got " + index;
+        size++;
+        update(index, task);
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        for (RoaringBitmap bitmap : bitmaps.values()) {
+            bitmap.removeAndShift(index);
+        }
+        size--;
+    }
+
+    @Override
+    public void taskChanged(int index, Task task) {
+        update(index, task);
+    }
+
+    /**
+     * Returns the live bitmap of positions with the facet. Combine it with {@link RoaringBitmap#and}
+     * and friends, which return new bitmaps, rather than changing it.
+     *
+     * @param facet the attribute to look up
+     * @return the positions of the tasks that have it
+     */
+    public RoaringBitmap get(Facet facet) {
+        return bitmaps.get(facet);
+    }
+
+    /**
+     * Returns the positions of the tasks that have every one of the given facets.
+     *
+     * @param first the first facet
+     * @param rest any further facets
+     * @return a new bitmap holding the intersection
+     */
+    public RoaringBitmap allOf(Facet first, Facet... rest) {
+        RoaringBitmap result = get(first).copy();
+        for (Facet facet : rest) {
+            result = result.and(get(facet));
+        }
+        return result;
+    }
+
+    /**
+     * Counts the tasks that have the facet.
+     *
+     * @param facet the attribute to count
+     * @return the number of tasks with it
+     */
+    public int count(Facet facet) {
+        return get(facet).cardinality();
+    }
+
+    /**
+     * Estimates the heap used by all bitmaps.
+     *
+     * @return the approximate size in bytes
+     */
+    public long sizeInBytes() {
+        long total = 0;
+        for (RoaringBitmap bitmap : bitmaps.values()) {
+            total += bitmap.sizeInBytes();
+        }
+        return total;
+    }
+
+    private void update(int index, Task task) {
+        for (Map.Entry<Facet, RoaringBitmap> entry : bitmaps.entrySet()) {
+            entry.getValue().set(index, entry.getKey().test(task));
+        }
+    }
+}
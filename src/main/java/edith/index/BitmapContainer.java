@@ -0,0 +1,86 @@
+package edith.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A dense chunk: one bit per position, 8 KB regardless of how many are set.
+ */
+class BitmapContainer extends Container {
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer(long[] words, int cardinality) {
+        assert words.length == CHUNK_SIZE / Long.SIZE : "Bitmap container needs a full chunk of words";
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+        return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    Container add(int low) {
+        if (!contains(low)) {
+            words[low >>> 6] |= 1L << low;
+            cardinality++;
+        }
+        return this;
+    }
+
+    @Override
+    Container remove(int low) {
+        if (!contains(low)) {
+            return this;
+        }
+        words[low >>> 6] &= ~(1L << low);
+        cardinality--;
+        return shrinkIfSparse();
+    }
+
+    @Override
+    Container removeAndShift(int low) {
+        if (contains(low)) {
+            cardinality--;
+        }
+        int index = low >>> 6;
+        long keep = (1L << low) - 1;
+        words[index] = (words[index] & keep) | ((words[index] >>> 1) & ~keep);
+        for (int i = index; i < words.length - 1; i++) {
+            words[i] |= words[i + 1] << 63;
+            words[i + 1] >>>= 1;
+        }
+        return shrinkIfSparse();
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept(base + i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    long[] toWords() {
+        return words.clone();
+    }
+
+    @Override
+    long sizeInBytes() {
+        return 24L + 8L * words.length;
+    }
+
+    private Container shrinkIfSparse() {
+        return cardinality > ARRAY_LIMIT ? this : ArrayContainer.fromWords(words, cardinality);
+    }
+}
@@ -0,0 +1,75 @@
+package edith.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Holds the low 16 bits of the members of one 65536-position chunk of a {@link RoaringBitmap}.
+ * Sparse chunks use a sorted array and dense ones a plain bitmap; operations return the container
+ * that should replace this one, which may be of the other kind once the cardinality crosses over.
+ */
+abstract class Container {
+    /** Chunk width in positions. */
+    static final int CHUNK_SIZE = 1 << 16;
+    /** Largest cardinality kept in an array container; beyond it a bitmap is smaller. */
+    static final int ARRAY_LIMIT = 4096;
+
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    abstract Container add(int low);
+
+    abstract Container remove(int low);
+
+    /**
+     * Removes the position and moves every later position down by one, leaving the top position empty.
+     */
+    abstract Container removeAndShift(int low);
+
+    abstract void forEach(int base, IntConsumer action);
+
+    abstract long[] toWords();
+
+    abstract long sizeInBytes();
+
+    Container and(Container other) {
+        long[] words = toWords();
+        long[] otherWords = other.toWords();
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= otherWords[i];
+        }
+        return fromWords(words);
+    }
+
+    Container or(Container other) {
+        long[] words = toWords();
+        long[] otherWords = other.toWords();
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= otherWords[i];
+        }
+        return fromWords(words);
+    }
+
+    Container andNot(Container other) {
+        long[] words = toWords();
+        long[] otherWords = other.toWords();
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~otherWords[i];
+        }
+        return fromWords(words);
+    }
+
+    /**
+     * Wraps bitmap words in whichever container kind is smaller for their cardinality.
+     */
+    static Container fromWords(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        if (cardinality > ARRAY_LIMIT) {
+            return new BitmapContainer(words, cardinality);
+        }
+        return ArrayContainer.fromWords(words, cardinality);
+    }
+}
@@ -0,0 +1,263 @@
+package edith.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import edith.storage.TaskListListener;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Occurrence;
+import edith.task.Task;
+
+/**
+ * Keeps every pending deadline ordered by its due time.
+ * Done deadlines are dropped from the index when marked and put back when unmarked,
+ * so queries never visit them. Top-k and overdue queries cost O(log n + k).
+ * Repeating deadlines are kept as rules and expanded lazily, merged in due order with the one-off ones.
+ * Due times are keyed by epoch minutes, so lookups compare numbers rather than date objects.
+ */
+public class DeadlineIndex implements TaskListListener {
+    private static final Comparator<Occurrence> BY_START = Comparator.comparing(Occurrence::getStart);
+
+    private final TreeMap<Long, Set<Deadline>> byDueTime = new TreeMap<>();
+    private final Set<Deadline> recurring = new LinkedHashSet<>();
+    private int size = 0;
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        if (task instanceof Deadline && !task.isDone()) {
+            insert((Deadline) task);
+        }
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        if (task instanceof Deadline) {
+            remove((Deadline) task);
+        }
+    }
+
+    @Override
+    public void taskChanged(int index, Task task) {
+        if (!(task instanceof Deadline)) {
+            return;
+        }
+        if (task.isDone()) {
+            remove((Deadline) task);
+        } else {
+            insert((Deadline) task);
+        }
+    }
+
+    /**
+     * Returns the number of pending deadlines in the index, counting each repeating deadline once.
+     *
+     * @return the pending deadline count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code k} pending deadline occurrences due at or after the given time, soonest first.
+     *
+     * @param now the time to look forward from
+     * @param k the maximum number of occurrences to return
+     * @return the upcoming occurrences in due order
+     */
+    public List<Occurrence> upcoming(LocalDateTime now, int k) {
+        assert k >= 0 : "Count cannot be negative: " + k;
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparing(cursor -> cursor.head.getStart()));
+        Cursor.addIfNotEmpty(cursors, oneOffsFrom(now));
+        for (Deadline deadline : recurring) {
+            Cursor.addIfNotEmpty(cursors, Occurrence.between(deadline, now, LocalDateTime.MAX));
+        }
+
+        List<Occurrence> result = new ArrayList<>(Math.min(k, size));
+        while (result.size() < k && !cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            result.add(cursor.head);
+            Cursor.addIfNotEmpty(cursors, cursor.rest);
+        }
+        return result;
+    }
+
+    /**
+     * Returns every pending deadline occurrence due strictly before the given time, most overdue first.
+     * For a repeating deadline, each missed occurrence that is neither done nor skipped is included.
+     *
+     * @param now the current time
+     * @return the overdue occurrences in due order
+     */
+    public List<Occurrence> overdue(LocalDateTime now) {
+        List<Occurrence> result = new ArrayList<>();
+        for (Set<Deadline> bucket : byDueTime.headMap(ceilMinutes(now), false).values()) {
+            for (Deadline deadline : bucket) {
+                result.add(occurrenceOf(deadline));
+            }
+        }
+        if (recurring.isEmpty()) {
+            return result;
+        }
+        for (Deadline deadline : recurring) {
+            Iterator<Occurrence> occurrences = Occurrence.between(deadline, LocalDateTime.MIN, now);
+            while (occurrences.hasNext()) {
+                Occurrence occurrence = occurrences.next();
+                if (!occurrence.isDone()) {
+                    result.add(occurrence);
+                }
+            }
+        }
+        result.sort(BY_START);
+        return result;
+    }
+
+    /**
+     * Counts pending deadlines first due in {@code [from, to)}, giving up once {@code limit} is reached.
+     * Lets a query planner compare this index against others without walking a large range.
+     *
+     * @param from the earliest due time to count in epoch minutes, inclusive
+     * @param to the latest due time to count in epoch minutes, exclusive
+     * @param limit the count at which to stop
+     * @return the number of matching deadlines, or {@code limit} if there are at least that many
+     */
+    public int countDueBetween(long from, long to, int limit) {
+        int count = 0;
+        for (Deadline deadline : recurring) {
+            if (count >= limit) {
+                return limit;
+            }
+            if (isWithin(deadline.getByMinutes(), from, to)) {
+                count++;
+            }
+        }
+        for (Set<Deadline> bucket : dueRange(from, to).values()) {
+            if (count >= limit) {
+                return limit;
+            }
+            count += bucket.size();
+        }
+        return Math.min(count, limit);
+    }
+
+    /**
+     * Returns the pending deadlines first due in {@code [from, to)}.
+     * A repeating deadline is matched on its first due time, the same one shown in the list.
+     *
+     * @param from the earliest due time in epoch minutes, inclusive
+     * @param to the latest due time in epoch minutes, exclusive
+     * @return the matching deadlines, one-off ones in due order followed by repeating ones
+     */
+    public List<Deadline> dueBetween(long from, long to) {
+        List<Deadline> result = new ArrayList<>();
+        for (Set<Deadline> bucket : dueRange(from, to).values()) {
+            result.addAll(bucket);
+        }
+        for (Deadline deadline : recurring) {
+            if (isWithin(deadline.getByMinutes(), from, to)) {
+                result.add(deadline);
+            }
+        }
+        return result;
+    }
+
+    private NavigableMap<Long, Set<Deadline>> dueRange(long from, long to) {
+        if (from >= to) {
+            return Collections.emptyNavigableMap();
+        }
+        return byDueTime.subMap(from, true, to, false);
+    }
+
+    private static boolean isWithin(long time, long from, long to) {
+        return time >= from && time < to;
+    }
+
+    /**
+     * Returns the first whole minute at or after the given time. A deadline is due at or after
+     * {@code now} exactly when its due minute is at or after this one.
+     */
+    private static long ceilMinutes(LocalDateTime time) {
+        long minutes = DateTimeParser.toEpochMinutes(time);
+        return time.getSecond() == 0 && time.getNano() == 0 ? minutes : minutes + 1;
+    }
+
+    private static Occurrence occurrenceOf(Deadline deadline) {
+        LocalDateTime by = deadline.getBy();
+        return new Occurrence(deadline, 0, by, by);
+    }
+
+    private Iterator<Occurrence> oneOffsFrom(LocalDateTime now) {
+        Iterator<Set<Deadline>> buckets = byDueTime.tailMap(ceilMinutes(now), true).values().iterator();
+        return new Iterator<Occurrence>() {
+            private Iterator<Deadline> bucket = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!bucket.hasNext() && buckets.hasNext()) {
+                    bucket = buckets.next().iterator();
+                }
+                return bucket.hasNext();
+            }
+
+            @Override
+            public Occurrence next() {
+                hasNext();
+                return occurrenceOf(bucket.next());
+            }
+        };
+    }
+
+    private void insert(Deadline deadline) {
+        boolean isNew = deadline.isRecurring()
+                ? recurring.add(deadline)
+                : byDueTime.computeIfAbsent(deadline.getByMinutes(), by -> new LinkedHashSet<>()).add(deadline);
+        if (isNew) {
+            size++;
+        }
+    }
+
+    private void remove(Deadline deadline) {
+        if (recurring.remove(deadline)) {
+            size--;
+            return;
+        }
+        Set<Deadline> bucket = byDueTime.get(deadline.getByMinutes());
+        if (bucket != null && bucket.remove(deadline)) {
+            size--;
+            if (bucket.isEmpty()) {
+                byDueTime.remove(deadline.getByMinutes());
+            }
+        }
+    }
+
+    /**
+     * Head of one sorted stream of occurrences, skipping those already done.
+     */
+    private static class Cursor {
+        private final Occurrence head;
+        private final Iterator<Occurrence> rest;
+
+        private Cursor(Occurrence head, Iterator<Occurrence> rest) {
+            this.head = head;
+            this.rest = rest;
+        }
+
+        static void addIfNotEmpty(PriorityQueue<Cursor> cursors, Iterator<Occurrence> occurrences) {
+            while (occurrences.hasNext()) {
+                Occurrence next = occurrences.next();
+                if (!next.isDone()) {
+                    cursors.add(new Cursor(next, occurrences));
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package edith.index;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of task positions in the style of Roaring bitmaps.
+ * Positions are split into 65536-wide chunks by their high bits; each chunk is stored as a sorted
+ * array when sparse or a plain bitmap when dense. Unlike a general-purpose bitmap, it can remove a
+ * position and shift every later one down, so it stays aligned with list numbers across deletes.
+ */
+public class RoaringBitmap {
+    private Container[] chunks;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public RoaringBitmap() {
+        this(new Container[0]);
+    }
+
+    private RoaringBitmap(Container[] chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Checks whether the position is in the set.
+     *
+     * @param position the position to check
+     * @return true if it is set
+     */
+    public boolean contains(int position) {
+        Container chunk = chunkOf(position);
+        return chunk != null && chunk.contains(low(position));
+    }
+
+    /**
+     * Adds or removes a single position.
+     *
+     * @param position the position to update
+     * @param value true to add it, false to remove it
+     */
+    public void set(int position, boolean value) {
+        assert position >= 0 : "Position cannot be negative: " + position;
+        int high = position >>> 16;
+        if (value) {
+            if (high >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, high + 1);
+            }
+            Container chunk = chunks[high] == null ? new ArrayContainer() : chunks[high];
+            chunks[high] = chunk.add(low(position));
+        } else if (high < chunks.length && chunks[high] != null) {
+            chunks[high] = normalize(chunks[high].remove(low(position)));
+        }
+    }
+
+    /**
+     * Removes the position and moves every later position down by one,
+     * mirroring what deleting a task does to the numbers after it.
+     *
+     * @param position the position being removed
+     */
+    public void removeAndShift(int position) {
+        int high = position >>> 16;
+        if (high >= chunks.length) {
+            return;
+        }
+        chunks[high] = shift(chunks[high], low(position));
+        for (int next = high + 1; next < chunks.length; next++) {
+            if (chunks[next] != null && chunks[next].contains(0)) {
+                chunks[next - 1] = (chunks[next - 1] == null ? new ArrayContainer() : chunks[next - 1])
+                        .add(Container.CHUNK_SIZE - 1);
+            }
+            chunks[next] = shift(chunks[next], 0);
+        }
+    }
+
+    /**
+     * Counts the positions in the set.
+     *
+     * @return the population count
+     */
+    public int cardinality() {
+        int total = 0;
+        for (Container chunk : chunks) {
+            if (chunk != null) {
+                total += chunk.cardinality();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the positions in both this bitmap and the other.
+     *
+     * @param other the bitmap to intersect with
+     * @return a new bitmap holding the intersection
+     */
+    public RoaringBitmap and(RoaringBitmap other) {
+        Container[] result = new Container[Math.min(chunks.length, other.chunks.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = combine(chunks[i], other.chunks[i], Container::and, false);
+        }
+        return new RoaringBitmap(result);
+    }
+
+    /**
+     * Returns the positions in either this bitmap or the other.
+     *
+     * @param other the bitmap to unite with
+     * @return a new bitmap holding the union
+     */
+    public RoaringBitmap or(RoaringBitmap other) {
+        Container[] result = new Container[Math.max(chunks.length, other.chunks.length)];
+        for (int i = 0; i < result.length; i++) {
+            Container mine = i < chunks.length ? chunks[i] : null;
+            Container theirs = i < other.chunks.length ? other.chunks[i] : null;
+            result[i] = combine(mine, theirs, Container::or, true);
+        }
+        return new RoaringBitmap(result);
+    }
+
+    /**
+     * Returns the positions in this bitmap but not in the other.
+     *
+     * @param other the bitmap to subtract
+     * @return a new bitmap holding the difference
+     */
+    public RoaringBitmap andNot(RoaringBitmap other) {
+        Container[] result = new Container[chunks.length];
+        for (int i = 0; i < result.length; i++) {
+            Container theirs = i < other.chunks.length ? other.chunks[i] : null;
+            result[i] = theirs == null ? copy(chunks[i]) : combine(chunks[i], theirs, Container::andNot, false);
+        }
+        return new RoaringBitmap(result);
+    }
+
+    /**
+     * Returns an independent copy of this bitmap.
+     *
+     * @return a new bitmap with the same positions
+     */
+    public RoaringBitmap copy() {
+        Container[] result = new Container[chunks.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = copy(chunks[i]);
+        }
+        return new RoaringBitmap(result);
+    }
+
+    /**
+     * Calls the action with every position in the set, in ascending order.
+     *
+     * @param action the action to run for each position
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                chunks[i].forEach(i << 16, action);
+            }
+        }
+    }
+
+    /**
+     * Returns the positions in the set in ascending order.
+     *
+     * @return the positions as an array
+     */
+    public int[] toArray() {
+        int[] positions = new int[cardinality()];
+        int[] count = {0};
+        forEach(position -> positions[count[0]++] = position);
+        return positions;
+    }
+
+    /**
+     * Estimates the heap used by the containers, ignoring object headers of the bitmap itself.
+     *
+     * @return the approximate size in bytes
+     */
+    public long sizeInBytes() {
+        long total = 16L + 8L * chunks.length;
+        for (Container chunk : chunks) {
+            if (chunk != null) {
+                total += chunk.sizeInBytes();
+            }
+        }
+        return total;
+    }
+
+    private Container chunkOf(int position) {
+        int high = position >>> 16;
+        return high < chunks.length ? chunks[high] : null;
+    }
+
+    private static int low(int position) {
+        return position & (Container.CHUNK_SIZE - 1);
+    }
+
+    private static Container shift(Container chunk, int low) {
+        return chunk == null ? null : normalize(chunk.removeAndShift(low));
+    }
+
+    private static Container normalize(Container chunk) {
+        return chunk.cardinality() == 0 ? null : chunk;
+    }
+
+    private static Container copy(Container chunk) {
+        return chunk == null ? null : Container.fromWords(chunk.toWords());
+    }
+
+    private static Container combine(Container left, Container right, BinaryOperator<Container> operation,
+            boolean keepsUnmatched) {
+        if (left == null || right == null) {
+            return keepsUnmatched ? copy(left == null ? right : left) : null;
+        }
+        return normalize(operation.apply(left, right));
+    }
+}
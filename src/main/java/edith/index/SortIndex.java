@@ -0,0 +1,124 @@
+package edith.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import edith.storage.TaskListListener;
+import edith.task.Task;
+
+/**
+ * Keeps the tasks sorted under one {@link SortKey}, ties broken by list order.
+ * The permutation is built with a single sort the first time it is asked for, so loading a large
+ * file pays nothing for orders nobody uses. From then on every change is a binary search plus one
+ * array shift, so showing a sorted list never sorts and never copies the tasks.
+ * Each task's key is remembered from when it was last filed, so a task whose key has just changed
+ * is still found by binary search under the key it is filed under.
+ */
+public class SortIndex implements TaskListListener {
+    private final SortKey sortKey;
+    private final List<Task> tasks;
+    private final ToIntFunction<Task> positionOf;
+    private ArrayList<Task> order;
+    private final Map<Task, Long> filedKeys = new IdentityHashMap<>();
+
+    /**
+     * Creates an index for the given order over a live task list.
+     *
+     * @param sortKey the key to sort by
+     * @param tasks the tasks in list order, read when the permutation is first built
+     * @param positionOf looks up a task's current list position, used to break ties
+     */
+    public SortIndex(SortKey sortKey, List<Task> tasks, ToIntFunction<Task> positionOf) {
+        this.sortKey = sortKey;
+        this.tasks = tasks;
+        this.positionOf = positionOf;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        if (order == null) {
+            return;
+        }
+        long key = sortKey.keyOf(task);
+        filedKeys.put(task, key);
+        order.add(-search(task, key, index) - 1, task);
+    }
+
+    /**
+     * Called while the removed task still counts towards positions, so ties resolve as before the delete.
+     */
+    @Override
+    public void taskRemoved(int index, Task task) {
+        if (order == null) {
+            return;
+        }
+        int at = search(task, filedKeys.remove(task), index);
+        assert at >= 0 : "Removed task is not in the sort index: " + task;
+        order.remove(at);
+    }
+
+    @Override
+    public void taskChanged(int index, Task task) {
+        if (order == null) {
+            return;
+        }
+        long filedKey = filedKeys.get(task);
+        long key = sortKey.keyOf(task);
+        if (key == filedKey) {
+            return;
+        }
+        int at = search(task, filedKey, index);
+        assert at >= 0 : "Changed task is not in the sort index: " + task;
+        order.remove(at);
+        filedKeys.put(task, key);
+        order.add(-search(task, key, index) - 1, task);
+    }
+
+    /**
+     * Returns the tasks in sorted order as a read-only view backed by this index.
+     *
+     * @return the sorted tasks; later changes to the task list show through
+     */
+    public List<Task> view() {
+        if (order == null) {
+            order = new ArrayList<>(tasks);
+            for (Task task : order) {
+                filedKeys.put(task, sortKey.keyOf(task));
+            }
+            order.sort(Comparator.comparingLong(sortKey::keyOf));
+        }
+        return Collections.unmodifiableList(order);
+    }
+
+    private int compare(Task candidate, long key, int position) {
+        int comparison = Long.compare(filedKeys.get(candidate), key);
+        return comparison != 0 ? comparison : Integer.compare(positionOf.applyAsInt(candidate), position);
+    }
+
+    /**
+     * Binary searches for the task by key and position.
+     *
+     * @return the slot holding the task, or {@code -(insertion point) - 1} if it is not there
+     */
+    private int search(Task target, long key, int position) {
+        int from = 0;
+        int to = order.size() - 1;
+        while (from <= to) {
+            int middle = (from + to) >>> 1;
+            Task candidate = order.get(middle);
+            if (candidate == target) {
+                return middle;
+            }
+            if (compare(candidate, key, position) < 0) {
+                from = middle + 1;
+            } else {
+                to = middle - 1;
+            }
+        }
+        return -(from + 1);
+    }
+}
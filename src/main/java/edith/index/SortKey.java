@@ -0,0 +1,56 @@
+package edith.index;
+
+import java.util.function.ToLongFunction;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Task;
+
+/**
+ * An order the task list can be shown in. Each key maps a task to a number to sort by;
+ * tasks without the attribute get {@link Long#MAX_VALUE} so they come last.
+ */
+public enum SortKey {
+    DEADLINE("deadline", task -> task instanceof Deadline ? ((Deadline) task).getByMinutes() : Long.MAX_VALUE),
+    START("start", task -> task instanceof Event ? ((Event) task).getFromMinutes() : Long.MAX_VALUE),
+    DURATION("duration", task -> !task.hasDuration() || task.getDurationMinutes() == 0
+            ? Long.MAX_VALUE : task.getDurationMinutes()),
+    STATUS("status", task -> task.isDone() ? 1 : 0);
+
+    private final String name;
+    private final ToLongFunction<Task> key;
+
+    SortKey(String name, ToLongFunction<Task> key) {
+        this.name = name;
+        this.key = key;
+    }
+
+    /**
+     * Returns the value the task is sorted by under this key.
+     *
+     * @param task the task to look at
+     * @return the sort value, or {@link Long#MAX_VALUE} if the task has no such attribute
+     */
+    public long keyOf(Task task) {
+        return key.applyAsLong(task);
+    }
+
+    /**
+     * Looks up a sort key by the name used in {@code list sort:<name>}.
+     *
+     * @param name the key name, ignoring case
+     * @return the matching key, or null if there is none
+     */
+    public static SortKey fromName(String name) {
+        for (SortKey sortKey : values()) {
+            if (sortKey.name.equalsIgnoreCase(name)) {
+                return sortKey;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
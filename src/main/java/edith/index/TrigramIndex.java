@@ -0,0 +1,126 @@
+package edith.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import edith.storage.TaskListListener;
+import edith.task.Task;
+
+/**
+ * Maps every three-character run of a task description to the tasks containing it.
+ * A substring search of three or more characters only has to check the tasks that contain
+ * all of its trigrams, so the index narrows down the candidates without ever missing a match.
+ * Letters are folded the same way as the ASCII-only case-insensitive search in find.
+ */
+public class TrigramIndex implements TaskListListener {
+    /** Shortest search text the index can narrow down. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<Task>> postings = new HashMap<>();
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        for (long gram : gramsOf(task.getDescription())) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(task);
+        }
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        for (long gram : gramsOf(task.getDescription())) {
+            Set<Task> posting = postings.get(gram);
+            if (posting != null && posting.remove(task) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    @Override
+    public void taskChanged(int index, Task task) {
+        // Descriptions never change, so neither do the trigrams.
+    }
+
+    /**
+     * Checks whether the index can narrow down a search for the given text.
+     *
+     * @param text the text to search for
+     * @return true if the text is long enough to have a trigram
+     */
+    public static boolean canSearch(String text) {
+        return text.length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Returns an upper bound on the number of tasks containing the text: the size of its rarest trigram.
+     *
+     * @param text the text to search for, at least {@link #GRAM_LENGTH} characters long
+     * @return the size of the smallest posting list among the text's trigrams
+     */
+    public int estimate(String text) {
+        assert canSearch(text) : "Text too short for the trigram index: " + text;
+        int smallest = Integer.MAX_VALUE;
+        for (long gram : gramsOf(text)) {
+            smallest = Math.min(smallest, postingOf(gram).size());
+        }
+        return smallest;
+    }
+
+    /**
+     * Returns every task whose description contains all trigrams of the text.
+     * This is a superset of the tasks containing the text itself; callers still check each one.
+     *
+     * @param text the text to search for, at least {@link #GRAM_LENGTH} characters long
+     * @return the candidate tasks, in no particular order
+     */
+    public List<Task> candidates(String text) {
+        assert canSearch(text) : "Text too short for the trigram index: " + text;
+        List<Set<Task>> required = new ArrayList<>();
+        Set<Task> smallest = null;
+        for (long gram : gramsOf(text)) {
+            Set<Task> posting = postingOf(gram);
+            required.add(posting);
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        List<Task> result = new ArrayList<>();
+        for (Task task : smallest) {
+            if (containsInAll(required, task)) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    private static boolean containsInAll(List<Set<Task>> postings, Task task) {
+        for (Set<Task> posting : postings) {
+            if (!posting.contains(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Set<Task> postingOf(long gram) {
+        Set<Task> posting = postings.get(gram);
+        return posting == null ? Set.of() : posting;
+    }
+
+    private static Set<Long> gramsOf(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) fold(text.charAt(i)) << 32)
+                    | ((long) fold(text.charAt(i + 1)) << 16)
+                    | fold(text.charAt(i + 2)));
+        }
+        return grams;
+    }
+
+    private static char fold(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
@@ -0,0 +1,269 @@
+package edith.parser;
+
+import java.util.Locale;
+
+/**
+ * One line of user input, scanned once into the parts a command needs: the text between
+ * the command word and the first clause, the value of each clause such as "/by" or "/to",
+ * and the task number for commands that take one.
+ * Commands are built from these fields and never split the raw input again.
+ *
+ * <p>Clauses are recognised in the order they are given to {@link #scan}, each one only
+ * after the one before it, so that "/to" means nothing until "/from" has been seen.
+ * A clause marker that shows up again ends the clause before it and is flagged with
+ * {@link #isRepeated}; the text after it is not read.
+ * A marker that ends the line, with nothing after it, is left as plain text.
+ */
+public final class CommandLine {
+    /** Returned by {@link #getTaskNumber()} when there is not exactly one word after the command. */
+    public static final int NO_TASK_NUMBER = Integer.MIN_VALUE;
+    /** Returned by {@link #parseNumber} when the text is not a whole number. */
+    public static final int NOT_A_NUMBER = Integer.MIN_VALUE + 1;
+    /** Returned by {@link #getTaskNumber()} when the word after the command is not a whole number. */
+    public static final int BAD_TASK_NUMBER = NOT_A_NUMBER;
+
+    /**
+     * A clause that can follow the description, introduced by a marker with a space on each side.
+     */
+    public enum Clause {
+        BY(" /by "),
+        FROM(" /from "),
+        TO(" /to "),
+        DURATION(" /duration "),
+        ON(" /on "),
+        EVERY(" /every ");
+
+        private final String marker;
+
+        Clause(String marker) {
+            this.marker = marker;
+        }
+    }
+
+    private static final int CLAUSE_COUNT = Clause.values().length;
+
+    private final String input;
+    /** Where the command word starts, after any blanks in front of it. */
+    private final int commandStart;
+    private final int headStart;
+    private final int headEnd;
+    private final String[] values = new String[CLAUSE_COUNT];
+    private int repeated = 0;
+
+    private CommandLine(String input, Clause[] clauses) {
+        this.input = input;
+        int start = 0;
+        while (start < input.length() && input.charAt(start) <= ' ') {
+            start++;
+        }
+        this.commandStart = start;
+        int space = input.indexOf(' ', commandStart);
+        this.headStart = space < 0 ? input.length() : space + 1;
+        this.headEnd = space < 0 ? input.length() : scanClauses(space, clauses);
+    }
+
+    /**
+     * Scans a line of input for the given clauses in a single pass.
+     *
+     * @param input the raw input line
+     * @param clauses the clauses the command takes, in the order they must appear
+     * @return the scanned line
+     */
+    public static CommandLine scan(String input, Clause... clauses) {
+        assert input != null : "Input cannot be null";
+        return new CommandLine(input, clauses);
+    }
+
+    /**
+     * Returns the raw input this line was scanned from.
+     *
+     * @return the input line
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the text between the command word and the first clause exactly as typed,
+     * including any spaces around it.
+     *
+     * @return the head text, or an empty string if there is none
+     */
+    public String getHead() {
+        return headEnd > headStart ? input.substring(headStart, headEnd) : "";
+    }
+
+    /**
+     * Returns the trimmed value of a clause.
+     *
+     * @param clause the clause to look up
+     * @return the text after the clause marker up to the next clause, or null if the clause is absent
+     */
+    public String get(Clause clause) {
+        String value = values[clause.ordinal()];
+        return value == null ? null : value.trim();
+    }
+
+    /**
+     * Checks whether a clause marker appeared more than once.
+     *
+     * @param clause the clause to check
+     * @return true if the clause was given twice
+     */
+    public boolean isRepeated(Clause clause) {
+        return (repeated & (1 << clause.ordinal())) != 0;
+    }
+
+    /**
+     * Checks whether the line holds a clause's marker in any letter case. Only a marker typed in
+     * lower case starts a clause, but one in another case still tells a missing clause from an
+     * empty one when reporting errors.
+     *
+     * @param clause the clause to look for
+     * @return true if the marker appears anywhere in the line, ignoring case
+     */
+    public boolean mentions(Clause clause) {
+        return input.toLowerCase(Locale.ROOT).contains(clause.marker);
+    }
+
+    /**
+     * Counts the space-separated words before the first clause, including the command word,
+     * the way {@link String#split} would: a run of spaces makes empty words between them,
+     * while trailing spaces are ignored.
+     *
+     * @return the number of words
+     */
+    public int getWordCount() {
+        int end = headEndWithoutTrailingSpaces();
+        int count = 1;
+        for (int i = 0; i < end; i++) {
+            if (input.charAt(i) == ' ') {
+                count++;
+            }
+        }
+        return end == 0 ? 1 : count;
+    }
+
+    /**
+     * Returns the task number given as the word right after the command.
+     * Accepts the same numbers as {@link Integer#parseInt} but reports bad input with a
+     * sentinel rather than an exception.
+     *
+     * @return the number, or {@link #NO_TASK_NUMBER} if there is no word after the command,
+     *         or {@link #BAD_TASK_NUMBER} if that word is not a whole number
+     */
+    public int getTaskNumber() {
+        int end = headEndWithoutTrailingSpaces();
+        int space = input.indexOf(' ');
+        if (space < 0 || space >= end) {
+            return NO_TASK_NUMBER;
+        }
+        int wordEnd = input.indexOf(' ', space + 1);
+        return parseNumber(input, space + 1, wordEnd < 0 || wordEnd > end ? end : wordEnd);
+    }
+
+    private int headEndWithoutTrailingSpaces() {
+        int end = headEnd;
+        while (end > 0 && input.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Reads the clauses in one pass from the first space onwards, recording where each value
+     * starts and ends.
+     *
+     * @return the position where the head ends, which is the start of the first clause
+     */
+    private int scanClauses(int from, Clause[] clauses) {
+        int headEnd = input.length();
+        int current = -1;
+        int valueStart = 0;
+        int i = input.indexOf(" /", from);
+        while (i >= 0) {
+            int found = markerAt(i, clauses, current);
+            if (found < 0) {
+                i = input.indexOf(" /", i + 1);
+                continue;
+            }
+            if (current < 0) {
+                headEnd = i;
+            } else {
+                values[clauses[current].ordinal()] = input.substring(valueStart, i);
+            }
+            if (found <= current) {
+                repeated |= 1 << clauses[found].ordinal();
+                return headEnd;
+            }
+            current = found;
+            valueStart = i + clauses[found].marker.length();
+            // The marker's trailing space may also start the next marker.
+            i = input.indexOf(" /", valueStart - 1);
+        }
+        if (current >= 0) {
+            values[clauses[current].ordinal()] = input.substring(valueStart);
+        }
+        return headEnd;
+    }
+
+    /**
+     * Finds which clause marker starts at the given position. Only the clause expected next
+     * and those already read count; a later clause met too early is left as plain text.
+     * A marker with nothing after it is plain text too, as it would be to {@link String#split}.
+     */
+    private int markerAt(int position, Clause[] clauses, int current) {
+        int last = Math.min(current + 1, clauses.length - 1);
+        for (int k = 0; k <= last; k++) {
+            if (input.startsWith(clauses[k].marker, position)
+                    && position + clauses[k].marker.length() < input.length()) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a whole number the way {@link Integer#parseInt} does, but reports bad input with
+     * {@link #NOT_A_NUMBER} instead of throwing, so rejecting a line costs no stack trace.
+     * The two smallest int values are reported as not a number, since they double as sentinels.
+     *
+     * @param text the text holding the number
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return the number, or {@link #NOT_A_NUMBER}
+     */
+    public static int parseNumber(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return NOT_A_NUMBER;
+        }
+        boolean isNegative = text.charAt(start) == '-';
+        int i = isNegative || text.charAt(start) == '+' ? start + 1 : start;
+        if (i == end) {
+            return NOT_A_NUMBER;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_A_NUMBER;
+            }
+        }
+        value = isNegative ? -value : value;
+        return value > Integer.MAX_VALUE || value <= NOT_A_NUMBER ? NOT_A_NUMBER : (int) value;
+    }
+
+    /**
+     * Reads a whole word as a number.
+     *
+     * @param word the word
+     * @return the number, or {@link #NOT_A_NUMBER}
+     */
+    public static int parseNumber(String word) {
+        return parseNumber(word, 0, word.length());
+    }
+}
@@ -0,0 +1,335 @@
+package edith.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import edith.exception.AliasException;
+
+/**
+ * Maps command words, built-in aliases and user-defined aliases to the command they run.
+ * Words are kept in a character trie stored in flat arrays, one slot per node, so a command word
+ * is resolved in one walk over its characters without copying or lower-casing the input.
+ * The same trie answers prefix completion for anything that offers autocomplete.
+ *
+ * <p>A word that is not known in full still resolves when every known word starting with it
+ * runs the same command, so "dea" runs deadline while "de" is ambiguous between deadline and delete.
+ */
+public final class CommandRegistry {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int INITIAL_NODES = 128;
+    /** Stands for "words below here run different commands"; compared by identity. */
+    private static final String AMBIGUOUS = new String("ambiguous");
+
+    private char[] labels = new char[INITIAL_NODES];
+    private int[] firstChild = new int[INITIAL_NODES];
+    private int[] nextSibling = new int[INITIAL_NODES];
+    private String[] commands = new String[INITIAL_NODES];
+    private boolean[] isUserDefined = new boolean[INITIAL_NODES];
+    private int nodeCount = 1;
+    private int version = 0;
+
+    /**
+     * Creates a registry holding only the given command names.
+     *
+     * @param commandNames the names of the built-in commands
+     */
+    public CommandRegistry(String... commandNames) {
+        firstChild[ROOT] = NONE;
+        nextSibling[ROOT] = NONE;
+        for (String name : commandNames) {
+            put(name, name, false);
+        }
+    }
+
+    /**
+     * Adds a built-in alias. Built-in aliases cannot be replaced or removed by the user.
+     *
+     * @param alias the alias word, in lower case
+     * @param command the command it runs
+     */
+    public void addBuiltInAlias(String alias, String command) {
+        assert command.equals(resolveCommandWord(command)) : "Alias target must be a command: " + command;
+        put(alias, command, false);
+    }
+
+    /**
+     * Finds the command run by the first word of a line of input, ignoring case and leading spaces.
+     *
+     * @param input the raw input line
+     * @return the command name, or null if the word is unknown or an ambiguous prefix
+     */
+    public String resolveCommandWord(CharSequence input) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int wordEnd = start;
+        while (wordEnd < end && input.charAt(wordEnd) != ' ') {
+            wordEnd++;
+        }
+        int node = find(input, start, wordEnd);
+        if (node == NONE) {
+            return null;
+        }
+        if (commands[node] != null) {
+            return commands[node];
+        }
+        String command = commandUnder(node);
+        return command == AMBIGUOUS ? null : command;
+    }
+
+    /**
+     * Lists the known words, commands and aliases alike, that start with the given text.
+     *
+     * @param prefix the text typed so far, compared ignoring case
+     * @param limit the most words to return
+     * @return the matching words in alphabetical order
+     */
+    public List<String> complete(CharSequence prefix, int limit) {
+        List<String> words = new ArrayList<>();
+        int node = find(prefix, 0, prefix.length());
+        if (node != NONE && limit > 0) {
+            StringBuilder word = new StringBuilder(prefix.length() + 8);
+            word.append(prefix.toString().toLowerCase());
+            collect(node, word, words, limit);
+        }
+        return words;
+    }
+
+    /**
+     * Extends a partly typed command word as far as every matching word agrees.
+     * A word with only one completion is finished and followed by a space, ready for its arguments.
+     *
+     * @param prefix the text typed so far
+     * @return the extended text, or the prefix itself if nothing matches or the text already has a space
+     */
+    public String extend(String prefix) {
+        if (prefix.indexOf(' ') >= 0) {
+            return prefix;
+        }
+        int node = find(prefix, 0, prefix.length());
+        if (node == NONE) {
+            return prefix;
+        }
+        StringBuilder extended = new StringBuilder(prefix.toLowerCase());
+        while (commands[node] == null && firstChild[node] != NONE && nextSibling[firstChild[node]] == NONE) {
+            node = firstChild[node];
+            extended.append(labels[node]);
+        }
+        if (commands[node] != null && firstChild[node] == NONE) {
+            extended.append(' ');
+        }
+        return extended.toString();
+    }
+
+    /**
+     * Defines or replaces a user alias.
+     *
+     * @param alias the new word, letters and digits only
+     * @param target the command or alias it should run
+     * @throws AliasException if the alias is not a plain word, is already a built-in word,
+     *         or the target is not a known command
+     */
+    public void defineAlias(String alias, String target) throws AliasException {
+        String word = alias.toLowerCase();
+        if (word.isEmpty() || !word.chars().allMatch(Character::isLetterOrDigit)) {
+            throw new AliasException("OOPS!!! An alias must be a single word of letters and digits.");
+        }
+        int existing = find(word, 0, word.length());
+        if (existing != NONE && commands[existing] != null && !isUserDefined[existing]) {
+            throw new AliasException("OOPS!!! \"" + word + "\" is already a command.");
+        }
+        int targetNode = find(target, 0, target.length());
+        if (targetNode == NONE || commands[targetNode] == null) {
+            throw new AliasException("OOPS!!! There is no command called \"" + target + "\".");
+        }
+        put(word, commands[targetNode], true);
+        version++;
+    }
+
+    /**
+     * Restores a user alias read back from disk, skipping it if it is no longer valid.
+     *
+     * @param alias the alias word
+     * @param command the command it runs
+     */
+    public void restore(String alias, String command) {
+        try {
+            defineAlias(alias, command);
+        } catch (AliasException e) {
+            // An alias that now clashes with a command is dropped, as if it had never been saved
+        }
+    }
+
+    /**
+     * Removes a user alias.
+     *
+     * @param alias the alias word
+     * @return true if a user alias was removed
+     */
+    public boolean removeAlias(String alias) {
+        int node = find(alias, 0, alias.length());
+        if (node == NONE || commands[node] == null || !isUserDefined[node]) {
+            return false;
+        }
+        commands[node] = null;
+        isUserDefined[node] = false;
+        rebuild();
+        version++;
+        return true;
+    }
+
+    /**
+     * Returns a number that changes whenever a user alias is defined or removed,
+     * so anything that remembers resolved words knows when to forget them.
+     *
+     * @return the alias version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the user-defined aliases.
+     *
+     * @return the command each alias runs, keyed by alias, in alphabetical order
+     */
+    public Map<String, String> getAliases() {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        List<String> words = new ArrayList<>();
+        collect(ROOT, new StringBuilder(), words, Integer.MAX_VALUE);
+        for (String word : words) {
+            int node = find(word, 0, word.length());
+            if (isUserDefined[node]) {
+                aliases.put(word, commands[node]);
+            }
+        }
+        return aliases;
+    }
+
+    /**
+     * Walks the trie along the given characters, ignoring case.
+     *
+     * @return the node reached, or NONE if no word starts with those characters
+     */
+    private int find(CharSequence text, int start, int end) {
+        int node = ROOT;
+        for (int i = start; i < end && node != NONE; i++) {
+            node = child(node, Character.toLowerCase(text.charAt(i)));
+        }
+        return node;
+    }
+
+    private int child(int node, char label) {
+        for (int next = firstChild[node]; next != NONE && labels[next] <= label; next = nextSibling[next]) {
+            if (labels[next] == label) {
+                return next;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the command every word below a node runs, null if there are no words below it,
+     * or AMBIGUOUS if they run different ones.
+     */
+    private String commandUnder(int node) {
+        String command = commands[node];
+        for (int next = firstChild[node]; next != NONE; next = nextSibling[next]) {
+            String below = commandUnder(next);
+            if (below == AMBIGUOUS || below != null && command != null && !command.equals(below)) {
+                return AMBIGUOUS;
+            }
+            command = below != null ? below : command;
+        }
+        return command;
+    }
+
+    private void collect(int node, StringBuilder word, List<String> words, int limit) {
+        if (commands[node] != null) {
+            words.add(word.toString());
+        }
+        for (int next = firstChild[node]; next != NONE && words.size() < limit; next = nextSibling[next]) {
+            word.append(labels[next]);
+            collect(next, word, words, limit);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    /**
+     * Rebuilds the trie from the words it still holds, dropping the nodes a removed alias leaves behind.
+     * Removal is rare, so this keeps lookups free of dead branches at little cost.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>();
+        collect(ROOT, new StringBuilder(), words, Integer.MAX_VALUE);
+        String[] wordCommands = new String[words.size()];
+        boolean[] wordIsUser = new boolean[words.size()];
+        for (int i = 0; i < words.size(); i++) {
+            int node = find(words.get(i), 0, words.get(i).length());
+            wordCommands[i] = commands[node];
+            wordIsUser[i] = isUserDefined[node];
+        }
+        Arrays.fill(commands, null);
+        Arrays.fill(isUserDefined, false);
+        nodeCount = 1;
+        firstChild[ROOT] = NONE;
+        for (int i = 0; i < words.size(); i++) {
+            put(words.get(i), wordCommands[i], wordIsUser[i]);
+        }
+    }
+
+    private void put(String word, String command, boolean isUser) {
+        int node = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            node = childOrNew(node, word.charAt(i));
+        }
+        commands[node] = command;
+        isUserDefined[node] = isUser;
+    }
+
+    /**
+     * Finds or adds the child with the given label, keeping siblings in label order.
+     */
+    private int childOrNew(int node, char label) {
+        int previous = NONE;
+        int next = firstChild[node];
+        while (next != NONE && labels[next] < label) {
+            previous = next;
+            next = nextSibling[next];
+        }
+        if (next != NONE && labels[next] == label) {
+            return next;
+        }
+        int added = newNode(label, next);
+        if (previous == NONE) {
+            firstChild[node] = added;
+        } else {
+            nextSibling[previous] = added;
+        }
+        return added;
+    }
+
+    private int newNode(char label, int sibling) {
+        if (nodeCount == labels.length) {
+            int capacity = labels.length * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            commands = Arrays.copyOf(commands, capacity);
+            isUserDefined = Arrays.copyOf(isUserDefined, capacity);
+        }
+        int node = nodeCount++;
+        labels[node] = label;
+        firstChild[node] = NONE;
+        nextSibling[node] = sibling;
+        return node;
+    }
+}
@@ -0,0 +1,134 @@
+package edith.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import edith.command.Command;
+import edith.exception.EdithException;
+
+/**
+ * Remembers the commands parsed from recent input lines, so a line typed or sent again is not parsed again.
+ * Parsed commands hold no state that changes when they run, which makes them safe to reuse.
+ *
+ * <p>Commands that name a task, such as "mark 3", were only valid for the task count they were parsed
+ * against. Each entry keeps the number of tasks it needs, and a hit is only served while there are at
+ * least that many; otherwise the line is parsed afresh so the usual error is reported.
+ * Lines that fail to parse are never cached, and the whole cache is dropped when aliases change.
+ */
+public final class ParseCache {
+    private final Map<String, Entry> entries;
+    private long hits = 0;
+    private long misses = 0;
+    private long missNanos = 0;
+    private int aliasVersion;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the most lines to remember; the least recently used line is dropped first
+     */
+    public ParseCache(int capacity) {
+        assert capacity > 0 : "Capacity must be positive: " + capacity;
+        this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.aliasVersion = Parser.getCommands().getVersion();
+    }
+
+    /**
+     * Returns the command for a line of input, reusing an earlier parse of the same line where it still holds.
+     *
+     * @param input the command string entered by the user
+     * @param taskCount the current number of tasks in the task list
+     * @return the command the line describes
+     * @throws EdithException if the input is invalid, exactly as {@link Parser#parse} reports it
+     */
+    public synchronized Command parse(String input, int taskCount) throws EdithException {
+        int version = Parser.getCommands().getVersion();
+        if (version != aliasVersion) {
+            entries.clear();
+            aliasVersion = version;
+        }
+        Entry entry = input == null ? null : entries.get(input);
+        if (entry != null && taskCount >= entry.requiredTasks) {
+            hits++;
+            return entry.command;
+        }
+
+        long start = System.nanoTime();
+        Command command = Parser.parse(input, taskCount);
+        entries.put(input, new Entry(command, Parser.requiredTaskCount(input)));
+        missNanos += System.nanoTime() - start;
+        misses++;
+        return command;
+    }
+
+    /**
+     * Returns how many lines were served from the cache.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns how many lines were parsed and cached.
+     *
+     * @return the number of misses, not counting lines that failed to parse
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the share of successfully parsed lines that came from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 before any line is parsed
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Estimates the parse time the cache has saved, taking each hit as costing the average miss.
+     *
+     * @return the estimated nanoseconds saved
+     */
+    public synchronized long getNanosSaved() {
+        return misses == 0 ? 0 : hits * (missNanos / misses);
+    }
+
+    /**
+     * Describes how much the cache has helped so far. The time saved is an estimate and differs
+     * between runs, so this is for diagnostics rather than the console transcript.
+     *
+     * @return a line giving the reuse count, hit rate and estimated parse time saved
+     */
+    public synchronized String describe() {
+        return String.format("Reused %d of %d parsed commands (%.0f%% hit rate), saving about %.2f ms of parsing.",
+                hits, hits + misses, getHitRate() * 100, getNanosSaved() / 1_000_000.0);
+    }
+
+    /**
+     * Returns how many lines are cached.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final Command command;
+        private final int requiredTasks;
+
+        private Entry(Command command, int requiredTasks) {
+            this.command = command;
+            this.requiredTasks = requiredTasks;
+        }
+    }
+}
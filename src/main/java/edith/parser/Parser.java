@@ -1,30 +1,49 @@
 package edith.parser;
 
+import edith.command.AliasCommand;
+import edith.command.ArchiveCommand;
 import edith.command.Command;
 import edith.command.DeadlineCommand;
 import edith.command.DeleteCommand;
 import edith.command.EventCommand;
 import edith.command.ExitCommand;
+import edith.command.ExplainCommand;
+import edith.command.ExportCommand;
 import edith.command.FindCommand;
+import edith.command.ImportCommand;
 import edith.command.ListCommand;
 import edith.command.MarkCommand;
 import edith.command.NoteCommand;
+import edith.command.OverdueCommand;
+import edith.command.PlanCommand;
+import edith.command.ScheduleCommand;
+import edith.command.SkipCommand;
 import edith.command.TodoCommand;
 import edith.command.UnmarkCommand;
+import edith.command.UpcomingCommand;
+import edith.command.ViewCommand;
+import edith.exception.AliasException;
+import edith.exception.ArchiveException;
 import edith.exception.DeadlineException;
 import edith.exception.EdithException;
 import edith.exception.EventException;
+import edith.exception.ExportException;
 import edith.exception.FindException;
+import edith.exception.ImportException;
 import edith.exception.InvalidCommandException;
 import edith.exception.InvalidTaskNumberException;
 import edith.exception.NoteException;
+import edith.exception.PlanException;
 import edith.exception.TodoException;
+import edith.exception.ViewException;
+import edith.parser.CommandLine.Clause;
 
 /**
  * Utility class for parsing user input commands and converting them into Command objects.
  * Handles validation of command formats and parameters.
  */
 public class Parser {
+    private static final CommandRegistry COMMANDS = createRegistry();
 
     /**
      * Parses the user input command string and returns the appropriate Command object.
@@ -39,10 +58,21 @@ public class Parser {
         assert taskCount >= 0 : "Task count cannot be negative: " + taskCount;
         validateInputNotEmpty(input);
 
-        String command = extractCommand(input);
-        String normalizedCommand = resolveCommandAlias(command);
+        String command = COMMANDS.resolveCommandWord(input);
+        if (command == null) {
+            throw new InvalidCommandException("OOPS!!! I'm sorry, but I don't know what that means :-(");
+        }
+        return createCommand(command, input, taskCount);
+    }
 
-        return createCommand(normalizedCommand, input, taskCount);
+    /**
+     * Returns the registry of command words, including user-defined aliases.
+     * It also offers prefix completion of command words for autocomplete.
+     *
+     * @return the shared command registry
+     */
+    public static CommandRegistry getCommands() {
+        return COMMANDS;
     }
 
     /**
@@ -58,46 +88,48 @@ public class Parser {
     }
 
     /**
-     * Extracts the command word from the input string.
+     * Returns how many tasks a valid line needs, because it names a task by number.
      *
-     * @param input the full input string
-     * @return the first word of the input as the command
+     * @param input a command string that has already parsed successfully
+     * @return the task number it names, or 0 if it does not depend on the task count
      */
-    private static String extractCommand(String input) {
-        return input.toLowerCase().trim().split(" ")[0];
+    static int requiredTaskCount(String input) {
+        String command = COMMANDS.resolveCommandWord(input);
+        switch (command) {
+        case "mark":
+        case "unmark":
+        case "skip":
+            return CommandLine.scan(input, Clause.ON).getTaskNumber();
+        case "delete":
+            return CommandLine.scan(input).getTaskNumber();
+        case "note":
+            return CommandLine.parseNumber(input.split(" ", 3)[1]);
+        default:
+            return 0;
+        }
     }
 
     /**
-     * Resolves command aliases to their full command names.
+     * Builds the registry of commands and their built-in aliases.
      *
-     * @param command the command to resolve
-     * @return the full command name
+     * @return the registry
      */
-    private static String resolveCommandAlias(String command) {
-        switch (command) {
-        case "t":
-            return "todo";
-        case "d":
-            return "deadline";
-        case "e":
-            return "event";
-        case "l":
-            return "list";
-        case "m":
-            return "mark";
-        case "u":
-            return "unmark";
-        case "del":
-            return "delete";
-        case "f":
-            return "find";
-        case "exit":
-        case "quit":
-        case "q":
-            return "bye";
-        default:
-            return command;
-        }
+    private static CommandRegistry createRegistry() {
+        CommandRegistry registry = new CommandRegistry("todo", "deadline", "event", "list", "mark", "unmark",
+                "skip", "delete", "find", "explain", "note", "plan", "schedule", "upcoming", "overdue", "view",
+                "alias", "import", "export", "archive", "bye");
+        registry.addBuiltInAlias("t", "todo");
+        registry.addBuiltInAlias("d", "deadline");
+        registry.addBuiltInAlias("e", "event");
+        registry.addBuiltInAlias("l", "list");
+        registry.addBuiltInAlias("m", "mark");
+        registry.addBuiltInAlias("u", "unmark");
+        registry.addBuiltInAlias("del", "delete");
+        registry.addBuiltInAlias("f", "find");
+        registry.addBuiltInAlias("exit", "bye");
+        registry.addBuiltInAlias("quit", "bye");
+        registry.addBuiltInAlias("q", "bye");
+        return registry;
     }
 
     /**
@@ -112,31 +144,69 @@ public class Parser {
     private static Command createCommand(String command, String input, int taskCount) throws EdithException {
         switch (command) {
         case "todo":
-            validateTodoInput(input);
-            return new TodoCommand(input);
+            return new TodoCommand(validateTodoInput(CommandLine.scan(input, Clause.DURATION)));
         case "deadline":
-            validateDeadlineInput(input);
-            return new DeadlineCommand(input);
+            return new DeadlineCommand(validateDeadlineInput(CommandLine.scan(input, Clause.BY, Clause.EVERY)));
         case "event":
-            validateEventInput(input);
-            return new EventCommand(input);
+            return new EventCommand(validateEventInput(CommandLine.scan(input, Clause.FROM, Clause.TO, Clause.EVERY)));
         case "list":
-            return new ListCommand();
+            validateListInput(input);
+            return new ListCommand(input);
         case "mark":
-            validateTaskNumber(input, taskCount);
-            return new MarkCommand(input);
+            return new MarkCommand(validateTaskNumber(CommandLine.scan(input, Clause.ON), taskCount));
         case "unmark":
-            validateTaskNumber(input, taskCount);
-            return new UnmarkCommand(input);
+            return new UnmarkCommand(validateTaskNumber(CommandLine.scan(input, Clause.ON), taskCount));
+        case "skip":
+            validateSkipInput(input, taskCount);
+            return new SkipCommand(input);
         case "delete":
-            validateTaskNumber(input, taskCount);
-            return new DeleteCommand(input);
+            return new DeleteCommand(validateTaskNumber(CommandLine.scan(input), taskCount));
         case "find":
             validateFindInput(input);
             return new FindCommand(input);
+        case "explain":
+            if (input.trim().split("\\s+", 2).length < 2) {
+                throw new FindException("OOPS!!! Explain format should be: explain <find query>");
+            }
+            return new ExplainCommand(input);
         case "note":
             validateNoteInput(input, taskCount);
             return new NoteCommand(input);
+        case "plan":
+            if (!hasWindow(input)) {
+                throw new PlanException("OOPS!!! Plan format should be: plan <start> /to <end>");
+            }
+            return new PlanCommand(input);
+        case "schedule":
+            if (!hasWindow(input)) {
+                throw new InvalidCommandException("OOPS!!! Schedule format should be: schedule <start> /to <end>");
+            }
+            return new ScheduleCommand(input);
+        case "upcoming":
+            validateUpcomingInput(input);
+            return new UpcomingCommand(input);
+        case "overdue":
+            return new OverdueCommand();
+        case "view":
+            validateViewInput(input);
+            return new ViewCommand(input);
+        case "alias":
+            validateAliasInput(input);
+            return new AliasCommand(input);
+        case "import":
+            if (input.trim().split("\\s+", 2).length < 2) {
+                throw new ImportException("OOPS!!! Import format should be: import <file>");
+            }
+            return new ImportCommand(input);
+        case "export":
+            if (input.trim().split("\\s+", 4).length < 3) {
+                throw new ExportException(
+                        "OOPS!!! Export format should be: export <csv|jsonl|ics> <file> [find query]");
+            }
+            return new ExportCommand(input);
+        case "archive":
+            validateArchiveInput(input);
+            return new ArchiveCommand(input);
         case "bye":
             return new ExitCommand();
         default:
@@ -148,87 +218,87 @@ public class Parser {
     /**
      * Validates the format of a todo command input.
      *
-     * @param input the todo command string to validate
+     * @param line the scanned todo command
+     * @return the same line, once it is valid
      * @throws TodoException if the todo description is empty or contains only whitespace
      */
-    private static void validateTodoInput(String input) throws TodoException {
-        String trimmedCommand = input.trim().toLowerCase();
-        if (trimmedCommand.equals("todo") || trimmedCommand.matches("todo\\s*")) {
+    private static CommandLine validateTodoInput(CommandLine line) throws TodoException {
+        if (line.getHead().isBlank()) {
             throw new TodoException("OOPS!!! The description of a todo cannot be empty.");
         }
+        return line;
     }
 
     /**
      * Validates the format of a deadline command input.
      *
-     * @param input the deadline command string to validate
+     * @param line the scanned deadline command
+     * @return the same line, once it is valid
      * @throws DeadlineException if the deadline format is incorrect or missing required parts
      */
-    private static void validateDeadlineInput(String input) throws DeadlineException {
-        String trimmedCommand = input.trim().toLowerCase();
-        if (trimmedCommand.equals("deadline") || trimmedCommand.matches("deadline\\s*")) {
+    private static CommandLine validateDeadlineInput(CommandLine line) throws DeadlineException {
+        if (line.getHead().isBlank() && line.get(Clause.BY) == null) {
             throw new DeadlineException("OOPS!!! The description of a deadline cannot be empty.");
         }
 
-        if (!input.toLowerCase().contains(" /by ")) {
+        // A marker in the wrong case, like "/BY", names the clause but gives it no time.
+        if (line.get(Clause.BY) == null && !line.mentions(Clause.BY)) {
             throw new DeadlineException("OOPS!!! Deadline format should be: deadline <description> /by <time>");
         }
 
-        String[] parts = input.split(" /by ");
-        if (parts.length != 2 || parts[1].trim().isEmpty()) {
+        if (line.get(Clause.BY) == null || line.isRepeated(Clause.BY) || line.get(Clause.BY).isEmpty()) {
             throw new DeadlineException("OOPS!!! The deadline time cannot be empty.");
         }
+        return line;
     }
 
     /**
      * Validates the format of an event command input.
      *
-     * @param input the event command string to validate
+     * @param line the scanned event command
+     * @return the same line, once it is valid
      * @throws EventException if the event format is incorrect or missing required time parameters
      */
-    private static void validateEventInput(String input) throws EventException {
-        String trimmedCommand = input.trim().toLowerCase();
-        if (trimmedCommand.equals("event") || trimmedCommand.matches("event\\s*")) {
+    private static CommandLine validateEventInput(CommandLine line) throws EventException {
+        if (line.getHead().isBlank() && line.get(Clause.FROM) == null) {
             throw new EventException("OOPS!!! The description of an event cannot be empty.");
         }
 
-        if (!input.toLowerCase().contains(" /from ") || !input.toLowerCase().contains(" /to ")) {
+        if (line.get(Clause.FROM) == null || line.isRepeated(Clause.FROM)
+                || line.get(Clause.TO) == null && !line.mentions(Clause.TO)) {
             throw new EventException("OOPS!!! Event format should be: event <description> /from <start> /to <end>");
         }
 
-        String[] fromSplit = input.split(" /from ");
-        if (fromSplit.length != 2) {
-            throw new EventException("OOPS!!! Event format should be: event <description> /from <start> /to <end>");
-        }
-
-        String[] toSplit = fromSplit[1].split(" /to ");
-        if (toSplit.length != 2 || toSplit[0].trim().isEmpty() || toSplit[1].trim().isEmpty()) {
+        if (line.get(Clause.TO) == null || line.isRepeated(Clause.TO) || line.get(Clause.FROM).isEmpty()
+                || line.get(Clause.TO).isEmpty()) {
             throw new EventException("OOPS!!! Event times cannot be empty.");
         }
+        return line;
     }
 
     /**
      * Validates that a task number command has a valid task number parameter.
      *
-     * @param input the command string containing the task number
+     * @param line the scanned command containing the task number
      * @param maxTasks the maximum number of tasks currently in the task list
+     * @return the same line, once it is valid
      * @throws InvalidTaskNumberException if the task number is missing, invalid, or out of range
      */
-    private static void validateTaskNumber(String input, int maxTasks) throws InvalidTaskNumberException {
-        String[] parts = input.split(" ");
-        if (parts.length != 2) {
+    private static CommandLine validateTaskNumber(CommandLine line, int maxTasks)
+            throws InvalidTaskNumberException {
+        if (line.getWordCount() != 2) {
             throw new InvalidTaskNumberException("OOPS!!! Please provide a task number.");
         }
 
-        try {
-            int taskNum = Integer.parseInt(parts[1]);
-            if (taskNum < 1 || taskNum > maxTasks) {
-                throw new InvalidTaskNumberException("OOPS!!! Task number " + taskNum
-                        + " is out of range. You have " + maxTasks + " tasks.");
-            }
-        } catch (NumberFormatException e) {
+        int taskNum = line.getTaskNumber();
+        if (taskNum == CommandLine.BAD_TASK_NUMBER) {
             throw new InvalidTaskNumberException("OOPS!!! Task number must be a valid number.");
         }
+        if (taskNum < 1 || taskNum > maxTasks) {
+            throw new InvalidTaskNumberException("OOPS!!! Task number " + taskNum
+                    + " is out of range. You have " + maxTasks + " tasks.");
+        }
+        return line;
     }
 
     /**
@@ -238,8 +308,7 @@ public class Parser {
      * @throws FindException if the search keyword is empty or contains only whitespace
      */
     private static void validateFindInput(String input) throws FindException {
-        String trimmedCommand = input.trim().toLowerCase();
-        if (trimmedCommand.equals("find") || trimmedCommand.matches("find\\s*")) {
+        if (input.trim().equalsIgnoreCase("find")) {
             throw new FindException("OOPS!!! The search keyword cannot be empty.");
         }
     }
@@ -257,18 +326,149 @@ public class Parser {
             throw new NoteException("OOPS!!! Note format should be: note <task number> <note text>");
         }
 
-        try {
-            int taskNum = Integer.parseInt(parts[1]);
-            if (taskNum < 1 || taskNum > maxTasks) {
-                throw new NoteException("OOPS!!! Task number " + taskNum
-                        + " is out of range. You have " + maxTasks + " tasks.");
-            }
-        } catch (NumberFormatException e) {
+        int taskNum = CommandLine.parseNumber(parts[1]);
+        if (taskNum == CommandLine.NOT_A_NUMBER) {
             throw new NoteException("OOPS!!! Task number must be a valid number.");
         }
+        if (taskNum < 1 || taskNum > maxTasks) {
+            throw new NoteException("OOPS!!! Task number " + taskNum
+                    + " is out of range. You have " + maxTasks + " tasks.");
+        }
 
         if (parts[2].trim().isEmpty()) {
             throw new NoteException("OOPS!!! Note cannot be empty.");
         }
     }
+
+    /**
+     * Checks that a windowed command such as plan or schedule has both a start and an end.
+     *
+     * @param input the command string to check
+     * @return true if the input has the form "command start /to end"
+     */
+    private static boolean hasWindow(String input) {
+        String[] parts = input.split(" /to ");
+        String[] commandParts = parts[0].trim().split(" ", 2);
+        return parts.length == 2 && commandParts.length == 2 && !commandParts[1].trim().isEmpty()
+                && !parts[1].trim().isEmpty();
+    }
+
+    /**
+     * Validates the format of a skip command input.
+     *
+     * @param input the skip command string to validate
+     * @param maxTasks the maximum number of tasks currently in the task list
+     * @throws InvalidTaskNumberException if the task number or occurrence date is missing or invalid
+     */
+    private static void validateSkipInput(String input, int maxTasks) throws InvalidTaskNumberException {
+        CommandLine line = CommandLine.scan(input, Clause.ON);
+        if (line.get(Clause.ON) == null || line.isRepeated(Clause.ON) || line.get(Clause.ON).isEmpty()) {
+            throw new InvalidTaskNumberException("OOPS!!! Skip format should be: skip <task number> /on <date>");
+        }
+        validateTaskNumber(line, maxTasks);
+    }
+
+    /**
+     * Validates that an archive command has at most one age in days, which may be zero.
+     *
+     * @param input the archive command string to validate
+     * @throws ArchiveException if the age is not a number of days
+     */
+    private static void validateArchiveInput(String input) throws ArchiveException {
+        String[] parts = input.trim().split("\\s+");
+        if (parts.length > 2) {
+            throw new ArchiveException("OOPS!!! Archive format should be: archive [days]");
+        }
+        if (parts.length == 2) {
+            int days = CommandLine.parseNumber(parts[1]);
+            if (days == CommandLine.NOT_A_NUMBER || days < 0) {
+                throw new ArchiveException("OOPS!!! The number of days must be a whole number, 0 or more.");
+            }
+        }
+    }
+
+    /**
+     * Validates that an upcoming command has at most one count, from 1 to {@link UpcomingCommand#MAX_COUNT}.
+     *
+     * @param input the upcoming command string to validate
+     * @throws InvalidCommandException if the count is not a positive number
+     */
+    private static void validateUpcomingInput(String input) throws InvalidCommandException {
+        String[] parts = input.trim().split("\\s+");
+        if (parts.length > 2) {
+            throw new InvalidCommandException("OOPS!!! Upcoming format should be: upcoming [count]");
+        }
+        if (parts.length == 2) {
+            int count = CommandLine.parseNumber(parts[1]);
+            if (count == CommandLine.NOT_A_NUMBER) {
+                throw new InvalidCommandException("OOPS!!! The count must be a valid number.");
+            }
+            if (count < 1) {
+                throw new InvalidCommandException("OOPS!!! The count must be at least 1.");
+            }
+            if (count > UpcomingCommand.MAX_COUNT) {
+                throw new InvalidCommandException(
+                        "OOPS!!! The count can be at most " + UpcomingCommand.MAX_COUNT + ".");
+            }
+        }
+    }
+
+    /**
+     * Validates the format of a view command input.
+     *
+     * @param input the view command string to validate
+     * @throws ViewException if a save has no name or query, or a delete has no name
+     */
+    private static void validateViewInput(String input) throws ViewException {
+        String[] parts = input.trim().split("\\s+", 4);
+        if (parts.length == 1) {
+            return;
+        }
+        if (parts[1].equals("save") && parts.length < 4) {
+            throw new ViewException("OOPS!!! View format should be: view save <name> <find query>");
+        }
+        if (parts[1].equals("delete") && parts.length != 3) {
+            throw new ViewException("OOPS!!! View format should be: view delete <name>");
+        }
+        if (!parts[1].equals("save") && !parts[1].equals("delete") && parts.length > 2) {
+            throw new ViewException("OOPS!!! View format should be: view <name>");
+        }
+    }
+
+    /**
+     * Validates that an alias command either lists the aliases, defines one, or deletes one.
+     *
+     * @param input the alias command string to validate
+     * @throws AliasException if the command has the wrong number of words
+     */
+    private static void validateAliasInput(String input) throws AliasException {
+        int wordCount = input.trim().split("\\s+").length;
+        if (wordCount != 1 && wordCount != 3) {
+            throw new AliasException("OOPS!!! Alias format should be: alias <name> <command>");
+        }
+    }
+
+    /**
+     * Validates that a list command has at most a positive page number, a positive page size
+     * and a known sort order.
+     *
+     * @param input the list command string to validate
+     * @throws InvalidCommandException if an argument is not one of those
+     */
+    private static void validateListInput(String input) throws InvalidCommandException {
+        if (input.toLowerCase().contains(" sort:") && ListCommand.parseSortKey(input) == null) {
+            throw new InvalidCommandException(
+                    "OOPS!!! List format should be: list [page] [size] [sort:deadline|start|duration|status]");
+        }
+        int[] numbers = ListCommand.parsePageNumbers(input);
+        if (numbers == null || numbers.length > 2) {
+            throw new InvalidCommandException(
+                    "OOPS!!! List format should be: list [page] [size] [sort:deadline|start|duration|status]");
+        }
+        for (int number : numbers) {
+            if (number < 1) {
+                throw new InvalidCommandException("OOPS!!! Page numbers and sizes must be at least 1.");
+            }
+        }
+    }
 }
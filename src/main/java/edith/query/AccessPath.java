@@ -0,0 +1,68 @@
+package edith.query;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Supplier;
+import edith.index.RoaringBitmap;
+import edith.storage.TaskList;
+import edith.task.Task;
+
+/**
+ * One way of producing the candidate positions for a query, with an estimate of how many it yields.
+ * A full scan has no candidate supplier and visits every task instead.
+ */
+class AccessPath {
+    private final String description;
+    private final int estimate;
+    private final Supplier<int[]> candidates;
+
+    private AccessPath(String description, int estimate, Supplier<int[]> candidates) {
+        this.description = description;
+        this.estimate = estimate;
+        this.candidates = candidates;
+    }
+
+    static AccessPath fullScan(int size) {
+        return new AccessPath("full scan", size, null);
+    }
+
+    /**
+     * Creates a path from an index that yields task references, looking up and sorting their positions.
+     */
+    static AccessPath ofTasks(String description, int estimate, TaskList tasks,
+            Supplier<Collection<? extends Task>> candidates) {
+        return new AccessPath(description, estimate, () -> {
+            int[] positions = candidates.get().stream().mapToInt(tasks::indexOf).toArray();
+            Arrays.sort(positions);
+            return positions;
+        });
+    }
+
+    /**
+     * Creates a path from a bitmap of positions, which are already in list order.
+     */
+    static AccessPath ofBitmap(String description, RoaringBitmap bitmap) {
+        return new AccessPath(description, bitmap.cardinality(), bitmap::toArray);
+    }
+
+    boolean isFullScan() {
+        return candidates == null;
+    }
+
+    int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Returns the candidate positions in ascending order.
+     */
+    int[] candidates() {
+        assert !isFullScan() : "A full scan has no candidate set";
+        return candidates.get();
+    }
+
+    @Override
+    public String toString() {
+        return description + " (~" + estimate + (estimate == 1 ? " task)" : " tasks)");
+    }
+}
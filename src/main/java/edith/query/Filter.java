@@ -0,0 +1,275 @@
+package edith.query;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+import edith.index.AttributeIndex;
+import edith.index.TrigramIndex;
+import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Task;
+
+/**
+ * One condition of a compiled query. A task matches the query when it matches every filter.
+ * Filters that an index can answer also offer an access path so the planner can start from it.
+ */
+abstract class Filter {
+
+    /**
+     * Checks whether the task satisfies this condition.
+     *
+     * @param task the task to check
+     * @return true if the task matches
+     */
+    abstract boolean matches(Task task);
+
+    /**
+     * Returns an index-backed way of finding a superset of the matching tasks, if there is one.
+     *
+     * @param tasks the task list whose indexes may be used
+     * @param query the whole query, for filters whose index only covers some tasks
+     * @param limit the candidate count beyond which the path is not worth estimating exactly
+     * @return the access path, or null if no index can help with this filter
+     */
+    AccessPath accessPath(TaskList tasks, Query query, int limit) {
+        return null;
+    }
+
+    /**
+     * Returns the attribute bitmap that holds exactly the tasks matching this filter, if there is one.
+     * The planner intersects the bitmaps of all such filters into a single access path.
+     *
+     * @return the facet, or null if this filter has no bitmap
+     */
+    AttributeIndex.Facet facet() {
+        return null;
+    }
+
+    /**
+     * Matches task descriptions containing some text, ignoring ASCII case like the original find.
+     */
+    static class Text extends Filter {
+        private final String text;
+        private final Pattern pattern;
+
+        Text(String text) {
+            this.text = text;
+            this.pattern = Pattern.compile(Pattern.quote(text), Pattern.CASE_INSENSITIVE);
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return pattern.matcher(task.getDescription()).find();
+        }
+
+        @Override
+        AccessPath accessPath(TaskList tasks, Query query, int limit) {
+            if (!TrigramIndex.canSearch(text)) {
+                return null;
+            }
+            return AccessPath.ofTasks("text index on \"" + text + "\"", tasks.getTrigramIndex().estimate(text),
+                    tasks, () -> tasks.getTrigramIndex().candidates(text));
+        }
+
+        @Override
+        public String toString() {
+            return "text contains \"" + text + "\"";
+        }
+    }
+
+    /**
+     * Matches tasks whose note contains some text, ignoring ASCII case.
+     */
+    static class Note extends Filter {
+        private final String text;
+        private final Pattern pattern;
+
+        Note(String text) {
+            this.text = text;
+            this.pattern = Pattern.compile(Pattern.quote(text), Pattern.CASE_INSENSITIVE);
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.hasNote() && pattern.matcher(task.getNote()).find();
+        }
+
+        @Override
+        public String toString() {
+            return "note contains \"" + text + "\"";
+        }
+    }
+
+    /**
+     * Matches tasks of one type: todo, deadline or event.
+     */
+    static class Type extends Filter {
+        private final AttributeIndex.Facet facet;
+        private final String name;
+
+        Type(AttributeIndex.Facet facet, String name) {
+            this.facet = facet;
+            this.name = name;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return facet.test(task);
+        }
+
+        @Override
+        AttributeIndex.Facet facet() {
+            return facet;
+        }
+
+        @Override
+        public String toString() {
+            return "type is " + name;
+        }
+
+        static Type of(String value) {
+            switch (value.toLowerCase()) {
+            case "t":
+            case "todo":
+                return new Type(AttributeIndex.Facet.TODO, "todo");
+            case "d":
+            case "deadline":
+                return new Type(AttributeIndex.Facet.DEADLINE, "deadline");
+            case "e":
+            case "event":
+                return new Type(AttributeIndex.Facet.EVENT, "event");
+            default:
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Matches tasks that are done, or tasks that are still pending.
+     */
+    static class Status extends Filter {
+        private final boolean isDone;
+
+        Status(boolean isDone) {
+            this.isDone = isDone;
+        }
+
+        boolean isDone() {
+            return isDone;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.isDone() == isDone;
+        }
+
+        @Override
+        AttributeIndex.Facet facet() {
+            return isDone ? AttributeIndex.Facet.DONE : AttributeIndex.Facet.PENDING;
+        }
+
+        @Override
+        public String toString() {
+            return isDone ? "done" : "not done";
+        }
+    }
+
+    /**
+     * Matches tasks that have a note, or tasks that have a duration.
+     */
+    static class Has extends Filter {
+        private final AttributeIndex.Facet facet;
+        private final String name;
+
+        Has(AttributeIndex.Facet facet, String name) {
+            this.facet = facet;
+            this.name = name;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return facet.test(task);
+        }
+
+        @Override
+        AttributeIndex.Facet facet() {
+            return facet;
+        }
+
+        @Override
+        public String toString() {
+            return "has " + name;
+        }
+
+        static Has of(String value) {
+            switch (value.toLowerCase()) {
+            case "note":
+                return new Has(AttributeIndex.Facet.HAS_NOTE, "note");
+            case "duration":
+                return new Has(AttributeIndex.Facet.HAS_DURATION, "duration");
+            default:
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Matches deadlines due within a half-open range {@code [from, to)}.
+     * Other task types have no due time and never match.
+     */
+    static class Due extends Filter {
+        private final long fromMinutes;
+        private final long toMinutes;
+        private final String description;
+
+        Due(long fromMinutes, long toMinutes, String description) {
+            this.fromMinutes = fromMinutes;
+            this.toMinutes = toMinutes;
+            this.description = description;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            if (!(task instanceof Deadline)) {
+                return false;
+            }
+            long by = ((Deadline) task).getByMinutes();
+            return by >= fromMinutes && by < toMinutes;
+        }
+
+        /**
+         * The deadline index only holds pending deadlines, so it can only serve queries that ask for those.
+         */
+        @Override
+        AccessPath accessPath(TaskList tasks, Query query, int limit) {
+            if (!query.requiresPending()) {
+                return null;
+            }
+            return AccessPath.ofTasks("deadline index, " + description,
+                    tasks.getDeadlineIndex().countDueBetween(fromMinutes, toMinutes, limit),
+                    tasks, () -> tasks.getDeadlineIndex().dueBetween(fromMinutes, toMinutes));
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+
+        static Due of(String operator, LocalDateTime time) {
+            String shown = DateTimeParser.formatForDisplay(time);
+            long minutes = DateTimeParser.toEpochMinutes(time);
+            switch (operator) {
+            case "<":
+                return new Due(Long.MIN_VALUE, minutes, "due before " + shown);
+            case "<=":
+                return new Due(Long.MIN_VALUE, minutes + 1, "due on or before " + shown);
+            case ">":
+                return new Due(minutes + 1, Long.MAX_VALUE, "due after " + shown);
+            case ">=":
+                return new Due(minutes, Long.MAX_VALUE, "due on or after " + shown);
+            default:
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package edith.query;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import edith.exception.FindException;
+import edith.task.DateTimeParser;
+import edith.task.Task;
+
+/**
+ * A find query compiled once into a list of filters that must all hold.
+ * Terms look like {@code type:D}, {@code done:false}, {@code has:note}, {@code by<2026-12-01},
+ * {@code note:"laptop bag"} or {@code text:report}; any other words are searched for in the description as one phrase.
+ * A query without any field terms searches for the whole text exactly as typed, like the original find.
+ */
+public class Query {
+    private static final String[] OPERATORS = {"<=", ">=", "<", ">", ":"};
+
+    private final List<Filter> filters;
+
+    private Query(List<Filter> filters) {
+        this.filters = filters;
+    }
+
+    /**
+     * Compiles the text after the find command into a query.
+     *
+     * @param text the query text, e.g. {@code type:D done:false by<2026-12-01 text:report}
+     * @return the compiled query
+     * @throws FindException if a field term has a missing or invalid value
+     */
+    public static Query compile(String text) throws FindException {
+        List<Filter> filters = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        boolean hasFieldTerms = false;
+        for (String token : tokenize(text)) {
+            Filter filter = compileTerm(token);
+            if (filter == null) {
+                words.add(token);
+            } else {
+                filters.add(filter);
+                hasFieldTerms = true;
+            }
+        }
+
+        if (!hasFieldTerms) {
+            return new Query(List.of(new Filter.Text(text)));
+        }
+        if (!words.isEmpty()) {
+            filters.add(new Filter.Text(String.join(" ", words)));
+        }
+        return new Query(Collections.unmodifiableList(filters));
+    }
+
+    /**
+     * Checks whether the task satisfies every filter of this query.
+     *
+     * @param task the task to check
+     * @return true if the task matches
+     */
+    public boolean matches(Task task) {
+        for (Filter filter : filters) {
+            if (!filter.matches(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    List<Filter> getFilters() {
+        return filters;
+    }
+
+    /**
+     * Checks whether only pending tasks can match, which lets pending-only indexes serve the query.
+     */
+    boolean requiresPending() {
+        return filters.stream()
+                .anyMatch(filter -> filter instanceof Filter.Status && !((Filter.Status) filter).isDone());
+    }
+
+    @Override
+    public String toString() {
+        return filters.stream().map(Filter::toString).collect(Collectors.joining(" AND "));
+    }
+
+    /**
+     * Splits the query on whitespace, keeping double-quoted runs together and dropping the quotes.
+     */
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasToken = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                hasToken = true;
+            } else if (Character.isWhitespace(c) && !isQuoted) {
+                if (hasToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    hasToken = false;
+                }
+            } else {
+                current.append(c);
+                hasToken = true;
+            }
+        }
+        if (hasToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Compiles one token into a filter, or returns null if it is a plain search word.
+     */
+    private static Filter compileTerm(String token) throws FindException {
+        for (String operator : OPERATORS) {
+            int at = token.indexOf(operator);
+            if (at > 0) {
+                String field = token.substring(0, at).toLowerCase();
+                String value = token.substring(at + operator.length());
+                if (isField(field)) {
+                    return compileField(field, operator, value);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isField(String field) {
+        switch (field) {
+        case "type":
+        case "done":
+        case "has":
+        case "by":
+        case "note":
+        case "text":
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static Filter compileField(String field, String operator, String value) throws FindException {
+        if (value.isEmpty()) {
+            throw new FindException("OOPS!!! The value for " + field + " cannot be empty.");
+        }
+        if (field.equals("by")) {
+            return compileDue(operator, value);
+        }
+        if (!operator.equals(":")) {
+            throw new FindException("OOPS!!! Only by can be compared with " + operator + ", use " + field + ":"
+                    + value + " instead.");
+        }
+
+        switch (field) {
+        case "type":
+            Filter type = Filter.Type.of(value);
+            if (type == null) {
+                throw new FindException("OOPS!!! Task type should be T, D or E.");
+            }
+            return type;
+        case "done":
+            if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes")) {
+                return new Filter.Status(true);
+            }
+            if (value.equalsIgnoreCase("false") || value.equalsIgnoreCase("no")) {
+                return new Filter.Status(false);
+            }
+            throw new FindException("OOPS!!! done should be true or false.");
+        case "has":
+            Filter has = Filter.Has.of(value);
+            if (has == null) {
+                throw new FindException("OOPS!!! has should be note or duration.");
+            }
+            return has;
+        case "note":
+            return new Filter.Note(value);
+        default:
+            return new Filter.Text(value);
+        }
+    }
+
+    private static Filter compileDue(String operator, String value) throws FindException {
+        if (operator.equals(":")) {
+            throw new FindException("OOPS!!! Compare due dates with by<, by<=, by> or by>=.");
+        }
+        LocalDateTime time;
+        try {
+            time = DateTimeParser.parseDateTime(value);
+        } catch (DateTimeParseException e) {
+            throw new FindException("OOPS!!! " + e.getMessage());
+        }
+        return Filter.Due.of(operator, time);
+    }
+}
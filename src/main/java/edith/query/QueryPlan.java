@@ -0,0 +1,65 @@
+package edith.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import edith.storage.TaskList;
+
+/**
+ * A query together with the access path chosen to run it.
+ */
+public class QueryPlan {
+    private final Query query;
+    private final TaskList tasks;
+    private final AccessPath access;
+    private final List<AccessPath> considered;
+
+    QueryPlan(Query query, TaskList tasks, AccessPath access, List<AccessPath> considered) {
+        this.query = query;
+        this.tasks = tasks;
+        this.access = access;
+        this.considered = considered;
+    }
+
+    /**
+     * Runs the plan and returns the positions of the matching tasks in list order.
+     *
+     * @return the 0-based positions of every task matching the query
+     */
+    public List<Integer> execute() {
+        List<Integer> matches = new ArrayList<>();
+        if (access.isFullScan()) {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (query.matches(tasks.get(i))) {
+                    matches.add(i);
+                }
+            }
+            return matches;
+        }
+
+        for (int position : access.candidates()) {
+            if (query.matches(tasks.get(position))) {
+                matches.add(position);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Describes the query, the chosen access path and the alternatives, one line each.
+     *
+     * @return the lines of the explanation
+     */
+    public List<String> explain() {
+        List<String> lines = new ArrayList<>();
+        lines.add(" Query: " + query);
+        lines.add(" Plan: " + access);
+        lines.add(access.isFullScan()
+                ? "   then check every task against the query"
+                : "   then check each candidate against the query");
+        lines.add(" Considered:");
+        for (AccessPath path : considered) {
+            lines.add("   - " + path);
+        }
+        return lines;
+    }
+}
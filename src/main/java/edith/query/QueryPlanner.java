@@ -0,0 +1,66 @@
+package edith.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import edith.index.AttributeIndex;
+import edith.index.RoaringBitmap;
+import edith.storage.TaskList;
+
+/**
+ * Picks how to run a query: start from the most selective index that can answer one of its filters,
+ * or from the intersection of the attribute bitmaps, then check each candidate against the whole query.
+ * Falls back to scanning every task when no index is expected to produce fewer candidates than the list holds.
+ */
+public class QueryPlanner {
+
+    /**
+     * Plans the query against the current state of the task list.
+     *
+     * @param query the compiled query
+     * @param tasks the task list and its indexes
+     * @return the chosen plan, along with the paths that were considered
+     */
+    public static QueryPlan plan(Query query, TaskList tasks) {
+        AccessPath best = AccessPath.fullScan(tasks.size());
+        List<AccessPath> considered = new ArrayList<>();
+        AccessPath bitmaps = bitmapPath(query, tasks);
+        if (bitmaps != null) {
+            considered.add(bitmaps);
+            best = bitmaps.getEstimate() < best.getEstimate() ? bitmaps : best;
+        }
+        for (Filter filter : query.getFilters()) {
+            AccessPath path = filter.accessPath(tasks, query, best.getEstimate());
+            if (path == null) {
+                continue;
+            }
+            considered.add(path);
+            if (path.getEstimate() < best.getEstimate()) {
+                best = path;
+            }
+        }
+        considered.add(AccessPath.fullScan(tasks.size()));
+        return new QueryPlan(query, tasks, best, considered);
+    }
+
+    /**
+     * Intersects the attribute bitmaps of every filter that has one. The cardinality is exact,
+     * so the estimate costs the same as producing the candidates.
+     */
+    private static AccessPath bitmapPath(Query query, TaskList tasks) {
+        RoaringBitmap result = null;
+        List<String> names = new ArrayList<>();
+        for (Filter filter : query.getFilters()) {
+            AttributeIndex.Facet facet = filter.facet();
+            if (facet == null) {
+                continue;
+            }
+            RoaringBitmap bitmap = tasks.getAttributeIndex().get(facet);
+            result = result == null ? bitmap : result.and(bitmap);
+            names.add(filter.toString());
+        }
+        if (result == null) {
+            return null;
+        }
+        return AccessPath.ofBitmap("attribute bitmaps, " + String.join(" AND ", names), result);
+    }
+}
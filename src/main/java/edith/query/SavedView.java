@@ -0,0 +1,75 @@
+package edith.query;
+
+import edith.exception.FindException;
+import edith.index.RoaringBitmap;
+import edith.storage.TaskList;
+import edith.task.Task;
+
+/**
+ * A named find query whose result is kept as a bitmap of task positions.
+ * The result is only built the first time the view is opened; from then on every change to the
+ * task list updates it in place, so opening the view again only walks the matching tasks.
+ */
+public class SavedView {
+    private final String name;
+    private final String text;
+    private Query query;
+    private RoaringBitmap result;
+
+    SavedView(String name, String text, Query query) {
+        this.name = name;
+        this.text = text;
+        this.query = query;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the query text the view was saved with.
+     *
+     * @return the query text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the positions of the matching tasks, building the result first if this is the first open.
+     *
+     * @param tasks the task list the view observes
+     * @return the matching positions, in list order
+     * @throws FindException if the stored query text no longer compiles
+     */
+    public RoaringBitmap open(TaskList tasks) throws FindException {
+        if (result == null) {
+            if (query == null) {
+                query = Query.compile(text);
+            }
+            result = new RoaringBitmap();
+            for (int position : QueryPlanner.plan(query, tasks).execute()) {
+                result.set(position, true);
+            }
+        }
+        return result;
+    }
+
+    boolean isMaterialized() {
+        return result != null;
+    }
+
+    void taskAdded(int index, Task task) {
+        if (query.matches(task)) {
+            result.set(index, true);
+        }
+    }
+
+    void taskRemoved(int index) {
+        result.removeAndShift(index);
+    }
+
+    void taskChanged(int index, Task task) {
+        result.set(index, query.matches(task));
+    }
+}
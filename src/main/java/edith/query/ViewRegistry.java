@@ -0,0 +1,100 @@
+package edith.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import edith.exception.FindException;
+import edith.storage.TaskListListener;
+import edith.task.Task;
+
+/**
+ * Holds the saved views of a task list and keeps every opened view's result up to date.
+ * Views restored from disk stay as plain query text until they are first opened.
+ */
+public class ViewRegistry implements TaskListListener {
+    private final Map<String, SavedView> views = new LinkedHashMap<>();
+
+    /**
+     * Saves a view, compiling its query now so mistakes are reported straight away.
+     * Replaces any view with the same name.
+     *
+     * @param name the name to save the view under
+     * @param text the find query the view shows
+     * @return the new view, not yet materialized
+     * @throws FindException if the query does not compile
+     */
+    public SavedView save(String name, String text) throws FindException {
+        SavedView view = new SavedView(name, text, Query.compile(text));
+        views.put(name, view);
+        return view;
+    }
+
+    /**
+     * Restores a view read back from disk. Its query is compiled and its result built on first open.
+     *
+     * @param name the view name
+     * @param text the find query the view shows
+     */
+    public void restore(String name, String text) {
+        views.put(name, new SavedView(name, text, null));
+    }
+
+    /**
+     * Looks up a view by name.
+     *
+     * @param name the view name
+     * @return the view, or null if there is none with that name
+     */
+    public SavedView get(String name) {
+        return views.get(name);
+    }
+
+    /**
+     * Removes a view.
+     *
+     * @param name the view name
+     * @return true if a view was removed
+     */
+    public boolean remove(String name) {
+        return views.remove(name) != null;
+    }
+
+    /**
+     * Returns the name and query text of every saved view, in the order they were first saved.
+     *
+     * @return the view definitions, keyed by name
+     */
+    public Map<String, String> getDefinitions() {
+        Map<String, String> definitions = new LinkedHashMap<>();
+        for (SavedView view : views.values()) {
+            definitions.put(view.getName(), view.getText());
+        }
+        return definitions;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        for (SavedView view : views.values()) {
+            if (view.isMaterialized()) {
+                view.taskAdded(index, task);
+            }
+        }
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        for (SavedView view : views.values()) {
+            if (view.isMaterialized()) {
+                view.taskRemoved(index);
+            }
+        }
+    }
+
+    @Override
+    public void taskChanged(int index, Task task) {
+        for (SavedView view : views.values()) {
+            if (view.isMaterialized()) {
+                view.taskChanged(index, task);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package edith.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The result of a planning run: the tasks that were given a time slot, and the ones that could not fit.
+ */
+public class Agenda {
+    private final List<Slot> slots = new ArrayList<>();
+    private final List<Integer> unscheduled = new ArrayList<>();
+
+    void addSlot(int taskIndex, LocalDateTime start, LocalDateTime end) {
+        slots.add(new Slot(taskIndex, start, end));
+    }
+
+    void addUnscheduled(int taskIndex) {
+        unscheduled.add(taskIndex);
+    }
+
+    /**
+     * Returns the planned slots in chronological order.
+     *
+     * @return the planned slots
+     */
+    public List<Slot> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the 0-based positions of tasks that could not be placed in the window.
+     *
+     * @return positions of the unscheduled tasks, in list order
+     */
+    public List<Integer> getUnscheduled() {
+        return unscheduled;
+    }
+
+    /**
+     * A single proposed block of work for one task.
+     */
+    public static class Slot {
+        private final int taskIndex;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        Slot(int taskIndex, LocalDateTime start, LocalDateTime end) {
+            this.taskIndex = taskIndex;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns the 0-based position of the planned task in the task list.
+         *
+         * @return the task position
+         */
+        public int getTaskIndex() {
+            return taskIndex;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+    }
+}
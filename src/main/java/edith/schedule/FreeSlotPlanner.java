@@ -0,0 +1,167 @@
+package edith.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Occurrence;
+import edith.task.Task;
+
+/**
+ * Packs pending tasks that carry a duration into the free time left between events,
+ * including every occurrence of a repeating event that overlaps the window.
+ * Tasks are placed earliest-deadline-first, each into the earliest free gap that can hold it,
+ * so a deadline task is only scheduled if its block finishes before it is due.
+ * The whole run is O(n log n) in the number of tasks.
+ */
+public class FreeSlotPlanner {
+
+    private static final long NO_DUE = Long.MAX_VALUE;
+
+    /**
+     * Proposes an agenda for the given window.
+     *
+     * @param tasks all tasks in list order
+     * @param windowStart start of the planning window
+     * @param windowEnd end of the planning window
+     * @return the proposed agenda
+     */
+    public static Agenda plan(List<Task> tasks, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        assert tasks != null : "Task list cannot be null";
+        assert !windowStart.isAfter(windowEnd) : "Window start cannot be after window end";
+
+        int n = tasks.size();
+        long[] busyStarts = new long[n];
+        long[] busyEnds = new long[n];
+        int busyCount = 0;
+        long[][] jobs = new long[n][];
+        int jobCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            Task task = tasks.get(i);
+            if (task instanceof Event) {
+                Event event = (Event) task;
+                LocalDateTime overlapStart = windowStart.minusMinutes(event.getToMinutes() - event.getFromMinutes());
+                Iterator<Occurrence> occurrences = Occurrence.between(event, overlapStart, windowEnd);
+                while (occurrences.hasNext()) {
+                    Occurrence occurrence = occurrences.next();
+                    if (busyCount == busyStarts.length) {
+                        busyStarts = Arrays.copyOf(busyStarts, busyCount * 2 + 1);
+                        busyEnds = Arrays.copyOf(busyEnds, busyCount * 2 + 1);
+                    }
+                    busyStarts[busyCount] = toMinutes(occurrence.getStart());
+                    busyEnds[busyCount] = toMinutes(occurrence.getEnd());
+                    busyCount++;
+                }
+            } else if (!task.isDone() && task.getDurationMinutes() > 0) {
+                long due = task instanceof Deadline ? ((Deadline) task).getByMinutes() : NO_DUE;
+                jobs[jobCount++] = new long[] {due, i, task.getDurationMinutes()};
+            }
+        }
+
+        long start = toMinutes(windowStart);
+        long end = toMinutes(windowEnd);
+        List<long[]> gaps = new IntervalIndex(busyStarts, busyEnds, busyCount).freeGaps(start, end);
+        GapTree gapTree = new GapTree(gaps);
+
+        long[][] sortedJobs = Arrays.copyOf(jobs, jobCount);
+        Arrays.sort(sortedJobs, Comparator.<long[]>comparingLong(job -> job[0]).thenComparingLong(job -> job[1]));
+
+        long[][] placed = new long[jobCount][];
+        int placedCount = 0;
+        boolean[] isUnscheduled = new boolean[n];
+        for (long[] job : sortedJobs) {
+            long slotStart = gapTree.take(job[2], job[0]);
+            if (slotStart < 0) {
+                isUnscheduled[(int) job[1]] = true;
+            } else {
+                placed[placedCount++] = new long[] {slotStart, job[1], slotStart + job[2]};
+            }
+        }
+
+        long[][] sortedSlots = Arrays.copyOf(placed, placedCount);
+        Arrays.sort(sortedSlots, Comparator.<long[]>comparingLong(slot -> slot[0]).thenComparingLong(slot -> slot[1]));
+
+        Agenda agenda = new Agenda();
+        for (long[] slot : sortedSlots) {
+            agenda.addSlot((int) slot[1], fromMinutes(slot[0]), fromMinutes(slot[2]));
+        }
+        for (int i = 0; i < n; i++) {
+            if (isUnscheduled[i]) {
+                agenda.addUnscheduled(i);
+            }
+        }
+        return agenda;
+    }
+
+    static long toMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    static LocalDateTime fromMinutes(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Max segment tree over the remaining length of each free gap.
+     * Finds the earliest gap that can hold a block in O(log g) and shrinks it from the front.
+     */
+    private static class GapTree {
+        private final long[] gapStarts;
+        private final long[] gapEnds;
+        private final long[] maxLength;
+        private final int leaves;
+
+        GapTree(List<long[]> gaps) {
+            int count = gaps.size();
+            int size = 1;
+            while (size < Math.max(count, 1)) {
+                size <<= 1;
+            }
+            leaves = size;
+            gapStarts = new long[size];
+            gapEnds = new long[size];
+            maxLength = new long[2 * size];
+            for (int i = 0; i < count; i++) {
+                gapStarts[i] = gaps.get(i)[0];
+                gapEnds[i] = gaps.get(i)[1];
+                maxLength[size + i] = gapEnds[i] - gapStarts[i];
+            }
+            for (int node = size - 1; node > 0; node--) {
+                maxLength[node] = Math.max(maxLength[2 * node], maxLength[2 * node + 1]);
+            }
+        }
+
+        /**
+         * Reserves a block of the given length in the earliest gap that fits.
+         *
+         * @param length block length in minutes
+         * @param due latest minute the block may end at
+         * @return the start minute of the reserved block, or -1 if nothing fits before the due time
+         */
+        long take(long length, long due) {
+            if (maxLength[1] < length) {
+                return -1;
+            }
+            int node = 1;
+            while (node < leaves) {
+                node = maxLength[2 * node] >= length ? 2 * node : 2 * node + 1;
+            }
+            int gap = node - leaves;
+            long blockStart = gapStarts[gap];
+            if (blockStart + length > due) {
+                return -1;
+            }
+            gapStarts[gap] += length;
+            maxLength[node] = gapEnds[gap] - gapStarts[gap];
+            for (node >>= 1; node > 0; node >>= 1) {
+                maxLength[node] = Math.max(maxLength[2 * node], maxLength[2 * node + 1]);
+            }
+            return blockStart;
+        }
+    }
+}
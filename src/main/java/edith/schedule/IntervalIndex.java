@@ -0,0 +1,99 @@
+package edith.schedule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorted, merged index of busy time intervals measured in epoch minutes.
+ * Built once in O(n log n), after which the free gaps inside any window can be read off in a single pass.
+ */
+public class IntervalIndex {
+    private final long[] starts;
+    private final long[] ends;
+    private final int size;
+
+    /**
+     * Builds the index from parallel arrays of interval starts and ends.
+     * Overlapping or touching intervals are merged so the stored intervals are disjoint and sorted.
+     *
+     * @param rawStarts start of each busy interval, in epoch minutes
+     * @param rawEnds end of each busy interval, in epoch minutes
+     * @param count how many entries of the arrays are in use
+     */
+    public IntervalIndex(long[] rawStarts, long[] rawEnds, int count) {
+        assert rawStarts.length >= count && rawEnds.length >= count : "Interval arrays shorter than count";
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(rawStarts[a], rawStarts[b]));
+
+        long[] mergedStarts = new long[count];
+        long[] mergedEnds = new long[count];
+        int merged = 0;
+        for (int i : order) {
+            if (merged > 0 && rawStarts[i] <= mergedEnds[merged - 1]) {
+                mergedEnds[merged - 1] = Math.max(mergedEnds[merged - 1], rawEnds[i]);
+            } else {
+                mergedStarts[merged] = rawStarts[i];
+                mergedEnds[merged] = rawEnds[i];
+                merged++;
+            }
+        }
+        this.starts = mergedStarts;
+        this.ends = mergedEnds;
+        this.size = merged;
+    }
+
+    /**
+     * Returns the number of disjoint busy intervals after merging.
+     *
+     * @return the merged interval count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Lists the free gaps between busy intervals that fall inside the given window.
+     * Each gap is returned as a two-element array of {start, end} in epoch minutes.
+     *
+     * @param windowStart start of the window, inclusive
+     * @param windowEnd end of the window, exclusive
+     * @return the free gaps in chronological order
+     */
+    public List<long[]> freeGaps(long windowStart, long windowEnd) {
+        List<long[]> gaps = new ArrayList<>();
+        long cursor = windowStart;
+        int i = firstEndingAfter(windowStart);
+        while (i < size && starts[i] < windowEnd) {
+            if (starts[i] > cursor) {
+                gaps.add(new long[] {cursor, starts[i]});
+            }
+            cursor = Math.max(cursor, ends[i]);
+            i++;
+        }
+        if (cursor < windowEnd) {
+            gaps.add(new long[] {cursor, windowEnd});
+        }
+        return gaps;
+    }
+
+    /**
+     * Binary searches for the first merged interval that ends after the given minute.
+     */
+    private int firstEndingAfter(long minute) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
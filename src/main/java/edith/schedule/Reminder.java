@@ -0,0 +1,44 @@
+package edith.schedule;
+
+import java.time.LocalDateTime;
+import edith.task.Event;
+import edith.task.Task;
+
+/**
+ * A reminder that a deadline is coming due or an event is about to start.
+ */
+public class Reminder {
+    private final Task task;
+    private final LocalDateTime time;
+
+    /**
+     * Creates a reminder for the given task.
+     *
+     * @param task the deadline or event being reminded about
+     * @param time when the deadline is due or the event starts
+     */
+    public Reminder(Task task, LocalDateTime time) {
+        this.task = task;
+        this.time = time;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the text shown to the user when this reminder fires.
+     *
+     * @return the reminder message
+     */
+    public String getMessage() {
+        if (task instanceof Event) {
+            return " Heads up! This event is about to start:\n   " + task;
+        }
+        return " Heads up! This deadline is coming up:\n   " + task;
+    }
+}
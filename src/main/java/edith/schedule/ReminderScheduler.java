@@ -0,0 +1,115 @@
+package edith.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import edith.storage.TaskListListener;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Occurrence;
+import edith.task.Task;
+
+/**
+ * Fires reminders a fixed lead time before each pending deadline is due and each pending event starts.
+ * Listens to task list changes to keep one timer per task in a {@link TimingWheel}, so there is no
+ * per-reminder thread and no periodic scan of the list. Time only moves when {@link #advanceTo} is
+ * called, which lets a real clock or a simulated one drive it.
+ */
+public class ReminderScheduler implements TaskListListener {
+    private final TimingWheel<Reminder> wheel;
+    private final Map<Task, TimingWheel.Timer<Reminder>> timers = new IdentityHashMap<>();
+    private final ReminderSink sink;
+    private final long leadMinutes;
+
+    /**
+     * Creates a scheduler whose clock starts at the given time.
+     *
+     * @param sink where fired reminders are delivered
+     * @param leadMinutes how many minutes before the due or start time to remind
+     * @param now the current time
+     */
+    public ReminderScheduler(ReminderSink sink, long leadMinutes, LocalDateTime now) {
+        assert sink != null : "Reminder sink cannot be null";
+        assert leadMinutes >= 0 : "Lead time cannot be negative: " + leadMinutes;
+        this.sink = sink;
+        this.leadMinutes = leadMinutes;
+        this.wheel = new TimingWheel<>(FreeSlotPlanner.toMinutes(now));
+    }
+
+    /**
+     * Moves the clock forward and delivers every reminder that falls due on the way.
+     *
+     * @param now the new current time
+     */
+    public void advanceTo(LocalDateTime now) {
+        List<Reminder> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(FreeSlotPlanner.toMinutes(now), reminder -> {
+                timers.remove(reminder.getTask());
+                due.add(reminder);
+                if (reminder.getTask().isRecurring()) {
+                    scheduleFrom(reminder.getTask(), reminder.getTime().plusMinutes(1));
+                }
+            });
+        }
+        due.forEach(sink::deliver);
+    }
+
+    /**
+     * Returns how many reminders are waiting to fire.
+     *
+     * @return the number of scheduled reminders
+     */
+    public synchronized int pendingCount() {
+        return timers.size();
+    }
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index, Task task) {
+        cancel(task);
+    }
+
+    @Override
+    public synchronized void taskChanged(int index, Task task) {
+        cancel(task);
+        schedule(task);
+    }
+
+    private void schedule(Task task) {
+        scheduleFrom(task, FreeSlotPlanner.fromMinutes(wheel.currentMinute()));
+    }
+
+    /**
+     * Arms a timer for the first pending occurrence of the task at or after the given time.
+     * Repeating tasks only ever hold one timer; the next one is armed when it fires.
+     */
+    private void scheduleFrom(Task task, LocalDateTime from) {
+        if (task.isDone() || !(task instanceof Deadline || task instanceof Event)) {
+            return;
+        }
+        Iterator<Occurrence> occurrences = Occurrence.between(task, from, LocalDateTime.MAX);
+        while (occurrences.hasNext()) {
+            Occurrence occurrence = occurrences.next();
+            if (!occurrence.isDone()) {
+                long minute = FreeSlotPlanner.toMinutes(occurrence.getStart());
+                timers.put(task, wheel.schedule(minute - leadMinutes, new Reminder(task, occurrence.getStart())));
+                return;
+            }
+        }
+    }
+
+    private void cancel(Task task) {
+        TimingWheel.Timer<Reminder> timer = timers.remove(task);
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+}
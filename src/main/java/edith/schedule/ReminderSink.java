@@ -0,0 +1,14 @@
+package edith.schedule;
+
+/**
+ * Destination for reminders as they fall due, such as the console, the GUI or a push channel.
+ */
+@FunctionalInterface
+public interface ReminderSink {
+    /**
+     * Delivers a reminder that has just fallen due.
+     *
+     * @param reminder the reminder to deliver
+     */
+    void deliver(Reminder reminder);
+}
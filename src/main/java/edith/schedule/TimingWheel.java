@@ -0,0 +1,167 @@
+package edith.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with one-minute ticks.
+ * Level 0 has one slot per minute, and each level above covers 64 slots of the level below it,
+ * so four levels reach about 32 years ahead; anything further waits in an overflow list.
+ * An entry is moved down at most once per level before it fires, which makes
+ * scheduling, cancelling and ticking O(1) amortized no matter how many entries are pending.
+ *
+ * @param <T> the type of item carried by each timer
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final List<List<Timer<T>>> slots = new ArrayList<>(LEVELS * SLOTS);
+    private List<Timer<T>> overflow = new ArrayList<>();
+    private List<Timer<T>> expired = new ArrayList<>();
+    private long current;
+    private int size = 0;
+
+    /**
+     * Creates an empty wheel whose clock starts at the given minute.
+     *
+     * @param startMinute the current time, in minutes since the epoch
+     */
+    public TimingWheel(long startMinute) {
+        this.current = startMinute;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Returns the minute the wheel has advanced to.
+     *
+     * @return the current minute
+     */
+    public long currentMinute() {
+        return current;
+    }
+
+    /**
+     * Returns how many timers are waiting to fire, including cancelled ones not yet swept.
+     *
+     * @return the number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules an item to fire at the given minute.
+     * Items scheduled at or before the current minute fire on the next advance.
+     *
+     * @param minute when the item should fire, in minutes since the epoch
+     * @param item the item to hand back when the timer fires
+     * @return a handle that can cancel the timer
+     */
+    public Timer<T> schedule(long minute, T item) {
+        Timer<T> timer = new Timer<>(minute, item);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Advances the clock one minute at a time up to the target, handing every timer that
+     * falls due to the consumer in firing order. Cancelled timers are dropped silently.
+     *
+     * @param targetMinute the minute to advance to
+     * @param onExpired receives the item of each timer that fires
+     */
+    public void advanceTo(long targetMinute, Consumer<T> onExpired) {
+        fire(expired, onExpired);
+        while (current < targetMinute) {
+            current++;
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((current & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(slotAt(level, current));
+                }
+            }
+            if ((current & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+                List<Timer<T>> waiting = overflow;
+                overflow = new ArrayList<>();
+                waiting.forEach(this::place);
+            }
+            fire(expired, onExpired);
+            fire(slotAt(0, current), onExpired);
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        if (timer.minute <= current) {
+            expired.add(timer);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            if ((timer.minute >> shift) == (current >> shift)) {
+                slotAt(level, timer.minute).add(timer);
+                return;
+            }
+        }
+        overflow.add(timer);
+    }
+
+    private List<Timer<T>> slotAt(int level, long minute) {
+        return slots.get(level * SLOTS + (int) ((minute >> (SLOT_BITS * level)) & SLOT_MASK));
+    }
+
+    private void cascade(List<Timer<T>> slot) {
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Timer<T>> moving = new ArrayList<>(slot);
+        slot.clear();
+        moving.forEach(this::place);
+    }
+
+    private void fire(List<Timer<T>> due, Consumer<T> onExpired) {
+        if (due.isEmpty()) {
+            return;
+        }
+        List<Timer<T>> firing = new ArrayList<>(due);
+        due.clear();
+        size -= firing.size();
+        for (Timer<T> timer : firing) {
+            if (!timer.isCancelled) {
+                onExpired.accept(timer.item);
+            }
+        }
+    }
+
+    /**
+     * Handle to a scheduled item.
+     *
+     * @param <T> the type of item carried by the timer
+     */
+    public static class Timer<T> {
+        private final long minute;
+        private final T item;
+        private boolean isCancelled = false;
+
+        private Timer(long minute, T item) {
+            this.minute = minute;
+            this.item = item;
+        }
+
+        /**
+         * Stops the timer from firing. The slot entry is swept lazily when its minute comes round.
+         */
+        public void cancel() {
+            isCancelled = true;
+        }
+
+        public long getMinute() {
+            return minute;
+        }
+    }
+}
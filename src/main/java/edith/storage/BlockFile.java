@@ -0,0 +1,460 @@
+package edith.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import edith.task.Task;
+
+/**
+ * A compressed data file made of independently compressed blocks of records, with an index of
+ * the blocks at the end.
+ * Records are the same framed lines the plain data file holds, grouped into blocks of about 64KB that
+ * are each compressed with {@link Deflater}. Because every block can be inflated on its own,
+ * a load can inflate and parse blocks on several threads at once, and a single block can be read
+ * without touching the rest of the file.
+ *
+ * <p>Layout: an eight byte magic number, the compressed blocks, then one index entry per block
+ * (offset, compressed length, inflated length and record count), and finally the offset of the
+ * index, the number of blocks and the magic number again. The file is written under a temporary
+ * name and moved into place, so a reader never sees a half-written index.
+ */
+final class BlockFile {
+    /** Blocks are closed once they hold at least this many bytes of records. */
+    static final int BLOCK_BYTES = 1 << 16;
+    private static final byte[] MAGIC = {'E', 'D', 'I', 'T', 'H', 'B', 'K', '1'};
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + 3 * Integer.BYTES;
+    private static final int FOOTER_BYTES = Long.BYTES + Integer.BYTES + MAGIC.length;
+
+    private final Path path;
+    private final long[] offsets;
+    private final int[] compressedLengths;
+    private final int[] inflatedLengths;
+    private final int[] recordCounts;
+    private final int[] firstLines;
+
+    private BlockFile(Path path, long[] offsets, int[] compressedLengths, int[] inflatedLengths,
+            int[] recordCounts) {
+        this.path = path;
+        this.offsets = offsets;
+        this.compressedLengths = compressedLengths;
+        this.inflatedLengths = inflatedLengths;
+        this.recordCounts = recordCounts;
+        this.firstLines = new int[recordCounts.length];
+        int line = 1;
+        for (int i = 0; i < recordCounts.length; i++) {
+            firstLines[i] = line;
+            line += recordCounts[i];
+        }
+    }
+
+    /**
+     * Checks whether a file starts with the block file magic number.
+     *
+     * @param path the file to check
+     * @return true if the file is a block file, false if it is plain text or shorter than the magic number
+     * @throws IOException if the file cannot be read
+     */
+    static boolean isBlockFile(Path path) throws IOException {
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(path)) {
+            return in.readNBytes(start, 0, start.length) == start.length && Arrays.equals(start, MAGIC);
+        }
+    }
+
+    /**
+     * Writes tasks to a block file, replacing the file if it exists.
+     *
+     * @param target the file to write
+     * @param tasks the tasks to write, in list order
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path target, List<Task> tasks) throws IOException {
+        Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(),
+                ".part");
+        Deflater deflater = new Deflater();
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary, StandardOpenOption.TRUNCATE_EXISTING), BLOCK_BYTES))) {
+                out.write(MAGIC);
+                BlockWriter blocks = new BlockWriter(out, deflater);
+                for (Task task : tasks) {
+                    blocks.add(task.toJson());
+                }
+                blocks.finish();
+            }
+            TaskExporter.moveIntoPlace(temporary, target);
+        } finally {
+            deflater.end();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads the block index of a block file.
+     *
+     * @param path the block file
+     * @return the file, ready to read blocks from
+     * @throws IOException if the file cannot be read or its footer or index is damaged
+     */
+    static BlockFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAGIC.length + FOOTER_BYTES) {
+                throw new IOException("Block file is too short to hold an index");
+            }
+            ByteBuffer footer = readFully(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            int blockCount = footer.getInt();
+            byte[] magic = new byte[MAGIC.length];
+            footer.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || blockCount < 0 || indexOffset < MAGIC.length
+                    || indexOffset + (long) blockCount * INDEX_ENTRY_BYTES != size - FOOTER_BYTES) {
+                throw new IOException("Block file index is damaged");
+            }
+
+            ByteBuffer index = readFully(channel, indexOffset, blockCount * INDEX_ENTRY_BYTES);
+            long[] offsets = new long[blockCount];
+            int[] compressedLengths = new int[blockCount];
+            int[] inflatedLengths = new int[blockCount];
+            int[] recordCounts = new int[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                offsets[i] = index.getLong();
+                compressedLengths[i] = index.getInt();
+                inflatedLengths[i] = index.getInt();
+                recordCounts[i] = index.getInt();
+                if (offsets[i] < MAGIC.length || compressedLengths[i] < 0 || inflatedLengths[i] < 0
+                        || offsets[i] + compressedLengths[i] > indexOffset) {
+                    throw new IOException("Block file index entry " + i + " is damaged");
+                }
+            }
+            return new BlockFile(path, offsets, compressedLengths, inflatedLengths, recordCounts);
+        }
+    }
+
+    /**
+     * Returns how many blocks the file holds.
+     *
+     * @return the number of blocks
+     */
+    int getBlockCount() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns how many records the file holds, from the index alone.
+     *
+     * @return the number of records in all blocks
+     */
+    long getRecordCount() {
+        long records = 0;
+        for (int count : recordCounts) {
+            records += count;
+        }
+        return records;
+    }
+
+    /**
+     * Reads, inflates and parses one block. Damaged records are skipped and reported, with line
+     * numbers counted from the start of the file as though it were a plain data file.
+     *
+     * @param block the block number, from 0
+     * @param sink receives each task in the block, in file order
+     * @return the damaged records in the block, as {@link FramedRecords#getDamaged()} reports them;
+     *     a block that does not inflate counts all of its records as damaged
+     * @throws IOException if the block cannot be read
+     */
+    List<String> readBlock(int block, Consumer<Task> sink) throws IOException {
+        assert block >= 0 && block < offsets.length : "Block out of range: " + block;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Block records = readBlock(channel, block);
+            records.tasks.forEach(sink);
+            return records.damaged;
+        }
+    }
+
+    /**
+     * Reads every block and hands the tasks to the sink in file order.
+     * Blocks are inflated and parsed on up to {@code threads} workers, a few blocks ahead of
+     * the sink, while the sink itself is only ever called from the calling thread.
+     *
+     * @param sink receives each task
+     * @param threads the number of worker threads
+     * @return the damaged records in the file, as {@link FramedRecords#getDamaged()} reports them
+     * @throws IOException if a block cannot be read
+     */
+    List<String> forEach(Consumer<Task> sink, int threads) throws IOException {
+        List<String> damaged = new ArrayList<>();
+        if (offsets.length == 0) {
+            return damaged;
+        }
+        int workerCount = Math.max(1, Math.min(threads, offsets.length));
+        if (workerCount == 1) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                for (int i = 0; i < offsets.length; i++) {
+                    readBlock(channel, i).drainTo(sink, damaged);
+                }
+            }
+            return damaged;
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "edith-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<Block>> pending = new ArrayDeque<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int i = 0; i < offsets.length; i++) {
+                int block = i;
+                pending.add(workers.submit(() -> readBlock(channel, block)));
+                if (pending.size() > workerCount * 2) {
+                    await(pending.poll()).drainTo(sink, damaged);
+                }
+            }
+            while (!pending.isEmpty()) {
+                await(pending.poll()).drainTo(sink, damaged);
+            }
+            return damaged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static Block await(Future<Block> block) throws IOException {
+        try {
+            return block.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Loading was interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Reads one block through a channel that may be shared with other threads; positional reads
+     * leave the channel's own position alone.
+     */
+    private Block readBlock(FileChannel channel, int block) throws IOException {
+        ByteBuffer compressed = readFully(channel, offsets[block], compressedLengths[block]);
+        byte[] records = new byte[inflatedLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.array(), 0, compressedLengths[block]);
+            int inflated = 0;
+            while (inflated < records.length && !inflater.finished()) {
+                int count = inflater.inflate(records, inflated, records.length - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != records.length) {
+                return unreadable(block, "Block " + block + " is shorter than its index entry says", compressed);
+            }
+        } catch (DataFormatException e) {
+            return unreadable(block, "Block " + block + " does not inflate: " + e.getMessage(), compressed);
+        } finally {
+            inflater.end();
+        }
+
+        Block parsed = new Block(recordCounts[block]);
+        FramedRecords reader = new FramedRecords(parsed.tasks::add);
+        int start = 0;
+        int line = firstLines[block];
+        for (int i = 0; i < records.length; i++) {
+            if (records[i] == '\n') {
+                reader.readLine(records, start, i, line++);
+                start = i + 1;
+            }
+        }
+        if (start < records.length) {
+            reader.readLine(records, start, records.length, line);
+        }
+        parsed.damaged.addAll(reader.getDamaged());
+        return parsed;
+    }
+
+    /**
+     * Reports every record of a block that cannot be inflated as damaged, so the rest of the file
+     * still loads. The first entry carries the compressed block in Base64, since that is all that is
+     * left of its records once the file is saved again.
+     */
+    private Block unreadable(int block, String reason, ByteBuffer compressed) {
+        Block parsed = new Block(0);
+        int records = Math.max(1, recordCounts[block]);
+        parsed.damaged.add(firstLines[block] + "\t" + reason + "\t"
+                + Base64.getEncoder().encodeToString(compressed.array()));
+        for (int i = 1; i < records; i++) {
+            parsed.damaged.add(firstLines[block] + i + "\t" + reason);
+        }
+        return parsed;
+    }
+
+    /**
+     * The tasks parsed from one block and the damage found in it.
+     */
+    private static final class Block {
+        private final List<Task> tasks;
+        private final List<String> damaged = new ArrayList<>();
+
+        Block(int records) {
+            this.tasks = new ArrayList<>(records);
+        }
+
+        void drainTo(Consumer<Task> sink, List<String> allDamaged) {
+            tasks.forEach(sink);
+            allDamaged.addAll(damaged);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Block file ends early");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Gathers records into a block buffer and writes each full block compressed, then the index.
+     */
+    private static final class BlockWriter {
+        private final DataOutputStream out;
+        private final Deflater deflater;
+        private final CRC32C crc = new CRC32C();
+        private final ByteArrayBuilder block = new ByteArrayBuilder(BLOCK_BYTES + BLOCK_BYTES / 4);
+        private byte[] compressed = new byte[BLOCK_BYTES];
+        private final ByteArrayBuilder index = new ByteArrayBuilder(INDEX_ENTRY_BYTES * 16);
+        private long offset = MAGIC.length;
+        private int records;
+        private int blockCount;
+
+        BlockWriter(DataOutputStream out, Deflater deflater) {
+            this.out = out;
+            this.deflater = deflater;
+        }
+
+        void add(String record) throws IOException {
+            byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+            block.append(FramedRecords.header(crc, bytes));
+            block.append(bytes);
+            block.append('\n');
+            records++;
+            if (block.size() >= BLOCK_BYTES) {
+                flushBlock();
+            }
+        }
+
+        void finish() throws IOException {
+            if (records > 0) {
+                flushBlock();
+            }
+            out.write(index.array(), 0, index.size());
+            out.writeLong(offset);
+            out.writeInt(blockCount);
+            out.write(MAGIC);
+        }
+
+        private void flushBlock() throws IOException {
+            deflater.reset();
+            deflater.setInput(block.array(), 0, block.size());
+            deflater.finish();
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+            out.write(compressed, 0, length);
+
+            index.appendLong(offset);
+            index.appendInt(length);
+            index.appendInt(block.size());
+            index.appendInt(records);
+            offset += length;
+            blockCount++;
+            block.clear();
+            records = 0;
+        }
+    }
+
+    /**
+     * A growable byte array that, unlike a byte array output stream, exposes its array without copying.
+     */
+    private static final class ByteArrayBuilder {
+        private byte[] bytes;
+        private int size;
+
+        ByteArrayBuilder(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void append(byte[] more) {
+            ensureRoom(more.length);
+            System.arraycopy(more, 0, bytes, size, more.length);
+            size += more.length;
+        }
+
+        void append(char ascii) {
+            ensureRoom(1);
+            bytes[size++] = (byte) ascii;
+        }
+
+        void appendInt(int value) {
+            ensureRoom(Integer.BYTES);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void appendLong(long value) {
+            appendInt((int) (value >>> 32));
+            appendInt((int) value);
+        }
+
+        byte[] array() {
+            return bytes;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        private void ensureRoom(int more) {
+            if (size + more > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + more));
+            }
+        }
+    }
+}
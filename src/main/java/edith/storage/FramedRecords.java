@@ -0,0 +1,234 @@
+package edith.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import edith.task.Task;
+
+/**
+ * Writes and reads task records framed with their length and a CRC32C checksum, one per line.
+ * A framed line is the UTF-8 length of the record as eight hex digits, a space, the checksum of
+ * the record's bytes as eight hex digits, another space, and the record itself:
+ * {@code 0000002c 1a2b3c4d {"type":"T",...}}. Lines that start with the record itself are
+ * unframed records from before framing, and are read unchecked.
+ *
+ * <p>A line whose frame does not check out is reported as damaged and skipped. If the damage has
+ * run two records together, for example because a line break was lost, the reader looks further
+ * along the line for the next frame that checks out and carries on from there, so each byte is
+ * only looked at a couple of times rather than the whole file being read again.
+ * A reader is used by one thread at a time; it keeps its own checksum state.
+ */
+final class FramedRecords {
+    /** Bytes in front of every framed record: two eight digit hex numbers, each followed by a space. */
+    static final int HEADER_BYTES = 18;
+    private static final int HEX_DIGITS = 8;
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    /** Damage beyond this many entries is reported without its bytes, so a ruined file is not copied whole. */
+    private static final int MAX_DAMAGE_SHOWN = 200;
+    private static final int NOT_A_FRAME = -1;
+    private static final int TRUNCATED = -2;
+    private static final int BAD_CHECKSUM = -3;
+
+    private final CRC32C crc = new CRC32C();
+    private final Consumer<Task> sink;
+    private final List<String> damaged = new ArrayList<>();
+
+    /**
+     * Creates a reader that hands every record that checks out and parses to the sink.
+     *
+     * @param sink receives each task, in file order
+     */
+    FramedRecords(Consumer<Task> sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Builds the frame header for a record.
+     *
+     * @param crc the checksum to compute with, which is reset first
+     * @param record the record's UTF-8 bytes
+     * @return the header to write in front of the record
+     */
+    static byte[] header(CRC32C crc, byte[] record) {
+        crc.reset();
+        crc.update(record, 0, record.length);
+        byte[] header = new byte[HEADER_BYTES];
+        writeHex(header, 0, record.length);
+        header[HEX_DIGITS] = ' ';
+        writeHex(header, HEX_DIGITS + 1, (int) crc.getValue());
+        header[HEADER_BYTES - 1] = ' ';
+        return header;
+    }
+
+    private static void writeHex(byte[] bytes, int at, int value) {
+        for (int i = HEX_DIGITS - 1; i >= 0; i--) {
+            bytes[at + i] = HEX[value & 0xf];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * Reads every line of a stream of records, numbering lines from 1.
+     *
+     * @param in the records, which is not closed
+     * @throws IOException if the stream cannot be read
+     */
+    void readAll(InputStream in) throws IOException {
+        byte[] buffer = new byte[BUFFER_BYTES];
+        int filled = 0;
+        int line = 1;
+        int read;
+        while ((read = in.read(buffer, filled, buffer.length - filled)) >= 0) {
+            filled += read;
+            int start = 0;
+            for (int i = 0; i < filled; i++) {
+                if (buffer[i] == '\n') {
+                    readLine(buffer, start, i, line++);
+                    start = i + 1;
+                }
+            }
+            filled -= start;
+            System.arraycopy(buffer, start, buffer, 0, filled);
+            if (filled == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        if (filled > 0) {
+            readLine(buffer, 0, filled, line);
+        }
+    }
+
+    /**
+     * Reads the records on one line, which ends just before {@code end}.
+     *
+     * @param bytes the bytes holding the line
+     * @param start where the line starts
+     * @param end where the line ends, not counting the line break
+     * @param line the line number, for reporting damage
+     */
+    void readLine(byte[] bytes, int start, int end, int line) {
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        int first = start;
+        while (first < end && (bytes[first] == ' ' || bytes[first] == '\t')) {
+            first++;
+        }
+        if (first == end) {
+            return;
+        }
+        if (bytes[first] == '{') {
+            parse(bytes, first, end, line);
+            return;
+        }
+
+        int at = start;
+        while (at < end) {
+            int recordEnd = checkFrame(bytes, at, end);
+            if (recordEnd < 0) {
+                int next = findFrame(bytes, at + 1, end);
+                damaged(line, reasonFor(recordEnd), bytes, at, next);
+                at = next;
+            } else {
+                parse(bytes, at + HEADER_BYTES, recordEnd, line);
+                at = recordEnd;
+            }
+        }
+    }
+
+    /**
+     * Returns the damage found so far, one "line, tab, reason, tab, bytes" entry per damaged stretch.
+     *
+     * @return the damaged records, in file order
+     */
+    List<String> getDamaged() {
+        return damaged;
+    }
+
+    /**
+     * Checks the frame starting at {@code at}.
+     *
+     * @return where the framed record ends, or {@link #NOT_A_FRAME}, {@link #TRUNCATED} or {@link #BAD_CHECKSUM}
+     */
+    private int checkFrame(byte[] bytes, int at, int end) {
+        if (end - at < HEADER_BYTES || bytes[at + HEX_DIGITS] != ' ' || bytes[at + HEADER_BYTES - 1] != ' ') {
+            return NOT_A_FRAME;
+        }
+        long length = readHex(bytes, at);
+        long checksum = readHex(bytes, at + HEX_DIGITS + 1);
+        if (length < 0 || checksum < 0) {
+            return NOT_A_FRAME;
+        }
+        int recordStart = at + HEADER_BYTES;
+        if (length > end - recordStart) {
+            return TRUNCATED;
+        }
+        crc.reset();
+        crc.update(bytes, recordStart, (int) length);
+        return crc.getValue() == checksum ? recordStart + (int) length : BAD_CHECKSUM;
+    }
+
+    private static String reasonFor(int failure) {
+        switch (failure) {
+        case NOT_A_FRAME:
+            return "Not a framed record";
+        case TRUNCATED:
+            return "Record is shorter than its frame says";
+        default:
+            return "Checksum does not match";
+        }
+    }
+
+    /**
+     * Finds the next frame that checks out, looking only where a record could start.
+     *
+     * @return where that frame starts, or {@code end} if there is none on the line
+     */
+    private int findFrame(byte[] bytes, int from, int end) {
+        for (int at = from; at + HEADER_BYTES < end; at++) {
+            if (bytes[at + HEADER_BYTES] == '{' && checkFrame(bytes, at, end) >= 0) {
+                return at;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Reads eight hex digits.
+     *
+     * @return their value, or -1 if any of them is not a hex digit
+     */
+    private static long readHex(byte[] bytes, int at) {
+        long value = 0;
+        for (int i = at; i < at + HEX_DIGITS; i++) {
+            int digit = Character.digit(bytes[i], 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private void parse(byte[] bytes, int start, int end, int line) {
+        try {
+            sink.accept(Task.convertFromJson(new String(bytes, start, end - start, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            damaged(line, e.getMessage(), bytes, start, end);
+        }
+    }
+
+    private void damaged(int line, String reason, byte[] bytes, int start, int end) {
+        if (damaged.size() < MAX_DAMAGE_SHOWN) {
+            damaged.add(line + "\t" + reason + "\t" + new String(bytes, start, end - start, StandardCharsets.UTF_8));
+        } else {
+            damaged.add(line + "\t" + reason);
+        }
+    }
+}
@@ -1,24 +1,60 @@
 package edith.storage;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import edith.parser.CommandLine;
 import edith.task.Task;
 
 /**
  * Handles saving and loading tasks from the file system.
  * Creates the data directory automatically and deals with all the file I/O messiness.
+ * The data file is either plain text, one record per line, or a compressed {@link BlockFile};
+ * loading recognises either, and a compressed file stays compressed when it is saved again.
+ * Either way each record is framed with its length and a checksum, see {@link FramedRecords}.
  */
 public class Storage {
     private static final String DEFAULT_DATA_DIRECTORY = "data";
     private static final String DEFAULT_FILE_NAME = "edith.txt";
+    private static final String VIEWS_SUFFIX = ".views";
+    private static final String ALIASES_SUFFIX = ".aliases";
+    private static final String DAMAGED_SUFFIX = ".damaged";
+    private static final String UNREADABLE_SUFFIX = ".unreadable";
+    private static final String VIEW_SEPARATOR = "\t";
+    private static final String ARCHIVE_INFIX = ".archive-";
+    private static final String ARCHIVE_SUFFIX = ".gz";
+    private static final String ARCHIVE_NUMBER_FORMAT = "%06d";
+    private static final int STRING_POOL_SLOTS = 1 << 16;
     
     private final String dataDir;
     private final String fullPath;
+    private final String viewsPath;
+    private final String aliasesPath;
+    private final String damagedPath;
+    private final String fileName;
+    private boolean isCompressed;
+    private List<String> damagedRecords = new ArrayList<>();
+    /** Damaged records still in the data file, copied to the damaged records file when a save drops them. */
+    private List<String> unsavedDamage = new ArrayList<>();
+    /** Set when the data file could not be read or copied aside, so saving would lose it. */
+    private boolean isSaveBlocked;
 
     /**
      * Creates storage with default directory and filename.
@@ -36,10 +72,27 @@ public class Storage {
      * @param fileName the name of the file to use
      */
     public Storage(String dataDir, String fileName) {
+        this(dataDir, fileName, false);
+    }
+
+    /**
+     * Creates storage with custom directory and filename that saves in the given format.
+     * Sets up the data directory if it doesn't exist yet.
+     *
+     * @param dataDir the directory to store files in
+     * @param fileName the name of the file to use
+     * @param isCompressed whether to save the tasks as a compressed block file instead of plain text
+     */
+    public Storage(String dataDir, String fileName, boolean isCompressed) {
         assert dataDir != null && !dataDir.trim().isEmpty() : "Data directory cannot be null or empty";
         assert fileName != null && !fileName.trim().isEmpty() : "File name cannot be null or empty";
         this.dataDir = dataDir;
         this.fullPath = dataDir + File.separator + fileName;
+        this.viewsPath = fullPath + VIEWS_SUFFIX;
+        this.aliasesPath = fullPath + ALIASES_SUFFIX;
+        this.damagedPath = fullPath + DAMAGED_SUFFIX;
+        this.fileName = fileName;
+        this.isCompressed = isCompressed;
         createDataDirectoryIfNotExists();
     }
 
@@ -62,13 +115,33 @@ public class Storage {
      */
     public void saveTasksToFile(ArrayList<Task> tasks) throws IOException {
         assert tasks != null : "Task list cannot be null";
+        if (isSaveBlocked) {
+            throw new IOException("Not saving over " + fullPath + ", which could not be read or copied aside");
+        }
         createDataDirectoryIfNotExists();
-        
-        try (FileWriter writer = new FileWriter(fullPath)) {
-            for (Task task : tasks) {
-                assert task != null : "Individual task cannot be null when saving";
-                writer.write(task.toJson() + System.lineSeparator());
-            }
+        keepUnsavedDamage();
+        if (isCompressed) {
+            BlockFile.write(Paths.get(fullPath), tasks);
+            return;
+        }
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Paths.get(fullPath)))) {
+            writeRecords(out, tasks);
+        }
+    }
+
+    /**
+     * Writes each task as a line framed with its length and checksum, so damage can be found on load.
+     */
+    private static void writeRecords(OutputStream out, List<Task> tasks) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+        for (Task task : tasks) {
+            assert task != null : "Individual task cannot be null when saving";
+            byte[] record = task.toJson().getBytes(StandardCharsets.UTF_8);
+            out.write(FramedRecords.header(crc, record));
+            out.write(record);
+            out.write(lineSeparator);
         }
     }
 
@@ -81,29 +154,329 @@ public class Storage {
      */
     public ArrayList<Task> loadTasksFromFile() throws IOException {
         ArrayList<Task> tasks = new ArrayList<>();
+        readTasks(tasks::add);
+        return tasks;
+    }
+
+    /**
+     * Loads all tasks from the file straight into the given task list, one record at a time.
+     * Each task goes through {@link TaskList#add}, so the list's indexes are built
+     * incrementally while the file is read instead of in a separate pass afterwards.
+     *
+     * @param tasks the task list to append the loaded tasks to
+     * @throws IOException if the file exists but can't be read properly
+     */
+    public void loadTasksInto(TaskList tasks) throws IOException {
+        readTasks(tasks::add);
+    }
+
+    /**
+     * Reads every record in the file and hands the tasks to the sink in file order.
+     * Descriptions and notes go through a pool that lives only for this load, so repeated
+     * text is kept once in memory rather than once per task.
+     * Damaged records are skipped and reported by {@link #getDamagedRecords()}. They are copied to
+     * a sidecar file by the next save, which is when they leave the data file. A file that cannot be
+     * read at all is copied aside before the error is thrown.
+     */
+    private void readTasks(Consumer<Task> sink) throws IOException {
+        damagedRecords = new ArrayList<>();
+        unsavedDamage = new ArrayList<>();
         File file = new File(fullPath);
-        
         if (!file.exists()) {
-            return tasks;
+            return;
         }
 
         try {
-            List<String> lines = Files.readAllLines(Paths.get(fullPath));
-            tasks = lines.stream()
-                    .filter(line -> !line.trim().isEmpty())
-                    .map(line -> {
-                        try {
-                            return Task.convertFromJson(line);
-                        } catch (IOException e) {
-                            return null;
-                        }
-                    })
-                    .filter(task -> task != null)
-                    .collect(Collectors.toCollection(ArrayList::new));
+            StringPool pool = new StringPool(STRING_POOL_SLOTS);
+            Consumer<Task> pooled = task -> {
+                task.shareText(pool::intern);
+                sink.accept(task);
+            };
+            if (BlockFile.isBlockFile(file.toPath())) {
+                isCompressed = true;
+                keepDamaged(BlockFile.open(file.toPath()).forEach(pooled, Runtime.getRuntime().availableProcessors()));
+                return;
+            }
+            try (InputStream in = Files.newInputStream(Paths.get(fullPath))) {
+                FramedRecords records = new FramedRecords(pooled);
+                records.readAll(in);
+                keepDamaged(records.getDamaged());
+            }
         } catch (Exception e) {
-            throw new IOException("Error reading tasks from file: " + e.getMessage());
+            throw new IOException("Error reading tasks from file: " + e.getMessage() + ". " + keepUnreadable());
+        }
+    }
+
+    /**
+     * Copies a data file that failed to load to a name of its own, so the empty list the app carries
+     * on with does not replace it when it is saved. If even the copy fails, saving is refused.
+     *
+     * @return a sentence saying where the file was kept, for the load error
+     */
+    private String keepUnreadable() {
+        Path kept = Paths.get(fullPath + UNREADABLE_SUFFIX);
+        for (int copy = 2; Files.exists(kept); copy++) {
+            kept = Paths.get(fullPath + UNREADABLE_SUFFIX + "-" + copy);
+        }
+        try {
+            Files.copy(Paths.get(fullPath), kept);
+            return "A copy was kept in " + kept;
+        } catch (IOException e) {
+            isSaveBlocked = true;
+            return "It could not be copied aside, so tasks will not be saved over it";
+        }
+    }
+
+    /**
+     * Notes damaged records from the data file, to be kept when the data file is next saved.
+     * Loading the same file again replaces them rather than adding to them.
+     */
+    private void keepDamaged(List<String> damaged) {
+        damagedRecords.addAll(damaged);
+        unsavedDamage.addAll(damaged);
+    }
+
+    /**
+     * Appends the damaged records the coming save will drop to the damaged records file, one
+     * "line, tab, reason, tab, record" line each. This happens before the data file is replaced,
+     * so the records are never only in memory.
+     */
+    private void keepUnsavedDamage() throws IOException {
+        if (unsavedDamage.isEmpty()) {
+            return;
+        }
+        Files.write(Paths.get(damagedPath), unsavedDamage, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        unsavedDamage = new ArrayList<>();
+    }
+
+    /**
+     * Returns the records the last load skipped because their frame, checksum or contents were damaged.
+     *
+     * @return one "line, tab, reason, tab, record" entry per damaged record, in file order
+     */
+    public List<String> getDamagedRecords() {
+        return damagedRecords;
+    }
+
+    /**
+     * Returns the file damaged records are copied to when a save drops them from the data file.
+     *
+     * @return the path of the damaged records file
+     */
+    public String getDamagedPath() {
+        return damagedPath;
+    }
+
+    /**
+     * Returns whether tasks are saved as a compressed block file, either because this storage was
+     * created that way or because the data file it loaded was one.
+     *
+     * @return true if saves are compressed
+     */
+    public boolean isCompressed() {
+        return isCompressed;
+    }
+
+    /**
+     * Returns how many blocks the data file can be loaded in with {@link #loadBlock}.
+     * A plain data file counts as a single block.
+     *
+     * @return the number of blocks, or 0 if there is no data file yet
+     * @throws IOException if the data file cannot be read or its block index is damaged
+     */
+    public int countBlocks() throws IOException {
+        Path path = Paths.get(fullPath);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        return BlockFile.isBlockFile(path) ? BlockFile.open(path).getBlockCount() : 1;
+    }
+
+    /**
+     * Loads just one block of the data file, reading and inflating only that block of a compressed file.
+     *
+     * @param block the block number, from 0 up to {@link #countBlocks()}
+     * @return the tasks in the block, in file order
+     * @throws IOException if the block cannot be read
+     */
+    public ArrayList<Task> loadBlock(int block) throws IOException {
+        Path path = Paths.get(fullPath);
+        boolean isBlockFile = BlockFile.isBlockFile(path);
+        BlockFile blocks = isBlockFile ? BlockFile.open(path) : null;
+        if (block < 0 || block >= (isBlockFile ? blocks.getBlockCount() : 1)) {
+            throw new IOException("There is no block " + block + " in " + fileName);
         }
-        
+        if (!isBlockFile) {
+            return loadTasksFromFile();
+        }
+        ArrayList<Task> tasks = new ArrayList<>();
+        damagedRecords = new ArrayList<>();
+        unsavedDamage = new ArrayList<>();
+        keepDamaged(blocks.readBlock(block, tasks::add));
         return tasks;
     }
+
+    /**
+     * Writes tasks to a new archive segment next to the data file: a gzip-compressed file of
+     * records in the data file's format. Segments are numbered in the order they are written
+     * and never change once written.
+     *
+     * @param tasks the tasks to archive
+     * @return the segment that was written
+     * @throws IOException if the segment cannot be written, in which case no segment is left behind
+     */
+    public Path saveArchiveSegment(List<Task> tasks) throws IOException {
+        createDataDirectoryIfNotExists();
+        List<Path> segments = getArchiveSegments();
+        int number = segments.isEmpty() ? 1 : archiveNumberOf(segments.get(segments.size() - 1)) + 1;
+        Path segment = Paths.get(dataDir, fileName + ARCHIVE_INFIX + String.format(ARCHIVE_NUMBER_FORMAT, number)
+                + ARCHIVE_SUFFIX);
+        Path temporary = Paths.get(segment + ".part");
+
+        try {
+            try (OutputStream out = new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary)))) {
+                writeRecords(out, tasks);
+            }
+            Files.move(temporary, segment);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return segment;
+    }
+
+    /**
+     * Lists the archive segments of the data file, oldest first.
+     *
+     * @return the segment files
+     * @throws IOException if the data directory cannot be listed
+     */
+    public List<Path> getArchiveSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        Path directory = Paths.get(dataDir);
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (archiveNumberOf(file) > 0) {
+                    segments.add(file);
+                }
+            }
+        }
+        segments.sort((a, b) -> Integer.compare(archiveNumberOf(a), archiveNumberOf(b)));
+        return segments;
+    }
+
+    /**
+     * Reads every archived task and hands it to the sink, one segment at a time and oldest first.
+     * Only the record being read is held in memory, however large the archive grows.
+     * Damaged archived records are skipped and counted; segments are never rewritten, so they stay on disk.
+     *
+     * @param sink receives each archived task
+     * @return how many damaged archived records were skipped
+     * @throws IOException if a segment cannot be read
+     */
+    public int readArchive(Consumer<Task> sink) throws IOException {
+        int damaged = 0;
+        for (Path segment : getArchiveSegments()) {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(segment))) {
+                StringPool pool = new StringPool(STRING_POOL_SLOTS);
+                FramedRecords records = new FramedRecords(task -> {
+                    task.shareText(pool::intern);
+                    sink.accept(task);
+                });
+                records.readAll(in);
+                damaged += records.getDamaged().size();
+            } catch (IOException e) {
+                throw new IOException("Error reading archive " + segment.getFileName() + ": " + e.getMessage());
+            }
+        }
+        return damaged;
+    }
+
+    /**
+     * Returns the number of an archive segment from its file name.
+     *
+     * @return the segment number, or 0 if the name is not a segment's
+     */
+    private int archiveNumberOf(Path segment) {
+        String name = segment.getFileName().toString();
+        String prefix = fileName + ARCHIVE_INFIX;
+        if (!name.startsWith(prefix) || !name.endsWith(ARCHIVE_SUFFIX)) {
+            return 0;
+        }
+        int number = CommandLine.parseNumber(name, prefix.length(), name.length() - ARCHIVE_SUFFIX.length());
+        return number == CommandLine.NOT_A_NUMBER ? 0 : Math.max(number, 0);
+    }
+
+    /**
+     * Saves the saved view definitions next to the data file, one "name, tab, query" line per view.
+     * Only the queries are stored; results are rebuilt from the tasks when a view is first opened.
+     *
+     * @param definitions the query text of each view, keyed by name
+     * @throws IOException if something goes wrong with file writing
+     */
+    public void saveViews(Map<String, String> definitions) throws IOException {
+        saveDefinitions(viewsPath, definitions);
+    }
+
+    /**
+     * Loads the saved view definitions, if any have been saved.
+     *
+     * @return the query text of each view, keyed by name, in saved order
+     * @throws IOException if the file exists but can't be read properly
+     */
+    public Map<String, String> loadViews() throws IOException {
+        return loadDefinitions(viewsPath);
+    }
+
+    /**
+     * Saves the user-defined command aliases next to the data file, one "alias, tab, command" line each.
+     *
+     * @param aliases the command each alias runs, keyed by alias
+     * @throws IOException if something goes wrong with file writing
+     */
+    public void saveAliases(Map<String, String> aliases) throws IOException {
+        saveDefinitions(aliasesPath, aliases);
+    }
+
+    /**
+     * Loads the user-defined command aliases, if any have been saved.
+     *
+     * @return the command each alias runs, keyed by alias, in saved order
+     * @throws IOException if the file exists but can't be read properly
+     */
+    public Map<String, String> loadAliases() throws IOException {
+        return loadDefinitions(aliasesPath);
+    }
+
+    private void saveDefinitions(String path, Map<String, String> definitions) throws IOException {
+        createDataDirectoryIfNotExists();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> definition : definitions.entrySet()) {
+                writer.write(definition.getKey() + VIEW_SEPARATOR + definition.getValue() + System.lineSeparator());
+            }
+        }
+    }
+
+    private Map<String, String> loadDefinitions(String path) throws IOException {
+        Map<String, String> definitions = new LinkedHashMap<>();
+        File file = new File(path);
+        if (!file.exists()) {
+            return definitions;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(VIEW_SEPARATOR, 2);
+                if (parts.length == 2 && !parts[0].isEmpty()) {
+                    definitions.put(parts[0], parts[1]);
+                }
+            }
+        }
+        return definitions;
+    }
 }
@@ -0,0 +1,42 @@
+package edith.storage;
+
+/**
+ * A fixed-size pool that hands back one shared copy of strings seen before.
+ * Used while loading, where chores that repeat and notes that were copied across tasks would
+ * otherwise each keep their own copy for as long as the tasks live.
+ * Each string has one slot chosen by its hash; a newer string takes the slot over, so memory
+ * stays bounded no matter how many distinct strings pass through.
+ */
+class StringPool {
+    private final String[] slots;
+
+    /**
+     * Creates a pool with the given number of slots.
+     *
+     * @param capacity the number of slots, a power of two
+     */
+    StringPool(int capacity) {
+        assert Integer.bitCount(capacity) == 1 : "Capacity must be a power of two: " + capacity;
+        this.slots = new String[capacity];
+    }
+
+    /**
+     * Returns the pooled copy of the given string, pooling it if no equal string holds its slot.
+     *
+     * @param value the string to look up
+     * @return an equal string, shared with earlier callers where possible
+     */
+    String intern(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (slots.length - 1);
+        String pooled = slots[slot];
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        slots[slot] = value;
+        return value;
+    }
+}
@@ -0,0 +1,393 @@
+package edith.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import edith.query.Query;
+import edith.query.QueryPlanner;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Recurrence;
+import edith.task.Task;
+import edith.task.Todo;
+
+/**
+ * Writes a snapshot of the task list to a file as CSV, JSON lines or iCalendar.
+ * The snapshot holds references to the tasks that were in the list, or matched the filter, when it
+ * was taken, so taking it costs one array copy. Later adds and deletes do not change it. Changes
+ * are copy-on-write: until the snapshot has been written, the list hands it a copy of each task
+ * just before changing the task, and the copy is written in its place. The snapshot can therefore
+ * be written out on another thread while commands keep running. Each task is rendered and written
+ * straight into a fixed-size buffer over a file channel, so writing takes the same memory however
+ * many tasks there are.
+ *
+ * <p>The file is first written under a temporary name and then moved into place, so a half-written
+ * export never replaces an earlier one. The CSV columns are those {@link TaskImporter} reads,
+ * so an exported file can be imported again.
+ */
+public class TaskExporter {
+    private static final int BUFFER_CHARS = 1 << 16;
+    private static final String CSV_HEADER = "type,description,done,by,from,to,duration,note,every";
+    private static final String CRLF = "\r\n";
+    /** iCalendar lines longer than this many bytes are folded onto continuation lines. */
+    private static final int MAX_ICALENDAR_LINE_BYTES = 75;
+    private static final DateTimeFormatter ICALENDAR_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    /** Length of a {@code yyyy-MM-dd HH:mm} storage time with a four digit year. */
+    private static final int ICALENDAR_SOURCE_LENGTH = 16;
+    private static final int DAYS_PER_WEEK = 7;
+
+    /**
+     * The layouts a snapshot can be written in.
+     */
+    public enum Format {
+        CSV("csv"),
+        JSON_LINES("jsonl"),
+        ICALENDAR("ics");
+
+        private final String name;
+
+        Format(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Finds the format with the given name, as typed after "export".
+         *
+         * @param name "csv", "jsonl" (or "json") or "ics" (or "ical"), in any case
+         * @return the format, or null if there is none by that name
+         */
+        public static Format of(String name) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            switch (lower) {
+            case "json":
+                return JSON_LINES;
+            case "ical":
+                return ICALENDAR;
+            default:
+                for (Format format : values()) {
+                    if (format.name.equals(lower)) {
+                        return format;
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    private final Task[] snapshot;
+    private final TaskList source;
+    /** Copies of snapshot tasks taken just before they were changed; also guards reading the live tasks. */
+    private final Map<Task, Task> preImages = new IdentityHashMap<>();
+    private final StringBuilder line = new StringBuilder();
+
+    private TaskExporter(Task[] snapshot, TaskList source) {
+        this.snapshot = snapshot;
+        this.source = source;
+        source.openSnapshot(this);
+    }
+
+    /**
+     * Takes a snapshot of every task in the list.
+     *
+     * @param tasks the task list
+     * @return an exporter for the tasks in the list right now
+     */
+    public static TaskExporter snapshotOf(TaskList tasks) {
+        return new TaskExporter(tasks.getList().toArray(new Task[0]), tasks);
+    }
+
+    /**
+     * Takes a snapshot of the tasks that match a find query, in list order.
+     *
+     * @param tasks the task list
+     * @param filter the query the tasks must match
+     * @return an exporter for the matching tasks
+     */
+    public static TaskExporter snapshotOf(TaskList tasks, Query filter) {
+        List<Integer> positions = QueryPlanner.plan(filter, tasks).execute();
+        Task[] matching = new Task[positions.size()];
+        for (int i = 0; i < matching.length; i++) {
+            matching[i] = tasks.get(positions.get(i));
+        }
+        return new TaskExporter(matching, tasks);
+    }
+
+    /**
+     * Returns how many tasks the snapshot holds.
+     *
+     * @return the number of tasks that will be written
+     */
+    public int size() {
+        return snapshot.length;
+    }
+
+    /**
+     * Keeps a copy of a task as it is now, before the list changes it, unless one is kept already.
+     * Called by the list on the thread that changes it; tasks outside the snapshot are copied too,
+     * which costs a little but needs no lookup.
+     *
+     * @param task the task about to change
+     */
+    void preserve(Task task) {
+        synchronized (preImages) {
+            if (preImages.containsKey(task)) {
+                return;
+            }
+            try {
+                preImages.put(task, Task.convertFromJson(task.toJson()));
+            } catch (IOException e) {
+                assert false : "A task's own record must read back: " + e.getMessage();
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot to a file, replacing the file if it exists.
+     * A snapshot is written once; afterwards it no longer follows changes to the list.
+     *
+     * @param format the layout to write
+     * @param target the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Format format, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(parent, target.getFileName().toString(), ".part");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                    Writer out = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel),
+                            StandardCharsets.UTF_8), BUFFER_CHARS)) {
+                switch (format) {
+                case CSV:
+                    writeCsv(out);
+                    break;
+                case JSON_LINES:
+                    writeJsonLines(out);
+                    break;
+                default:
+                    writeICalendar(out);
+                    break;
+                }
+            }
+            moveIntoPlace(temporary, target);
+        } finally {
+            source.closeSnapshot(this);
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Renders one snapshot task into {@link #line} as it was when the snapshot was taken.
+     * The live task is read under the same lock {@link #preserve} takes, so a change cannot start
+     * while it is being read.
+     */
+    private void render(int i, Renderer renderer) {
+        line.setLength(0);
+        synchronized (preImages) {
+            Task task = preImages.getOrDefault(snapshot[i], snapshot[i]);
+            renderer.render(i, task);
+        }
+    }
+
+    /**
+     * Renders a task into {@link #line} in one of the formats.
+     */
+    private interface Renderer {
+        void render(int i, Task task);
+    }
+
+    /**
+     * Moves a finished temporary file over the target, atomically where the file system allows it.
+     */
+    static void moveIntoPlace(Path temporary, Path target) throws IOException {
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void writeJsonLines(Writer out) throws IOException {
+        for (int i = 0; i < snapshot.length; i++) {
+            render(i, (number, task) -> line.append(task.toJson()).append('\n'));
+            out.append(line);
+        }
+    }
+
+    private void writeCsv(Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        out.write(CRLF);
+        for (int i = 0; i < snapshot.length; i++) {
+            render(i, (number, task) -> appendCsv(task));
+            out.append(line);
+        }
+    }
+
+    private void appendCsv(Task task) {
+        String by = "";
+        String from = "";
+        String to = "";
+        if (task instanceof Deadline) {
+            by = DateTimeParser.formatForJson(((Deadline) task).getByMinutes());
+        } else if (task instanceof Event) {
+            from = DateTimeParser.formatForJson(((Event) task).getFromMinutes());
+            to = DateTimeParser.formatForJson(((Event) task).getToMinutes());
+        }
+        Recurrence recurrence = task.getRecurrence();
+        line.append(typeOf(task)).append(',');
+        appendCsvField(task.getDescription());
+        line.append(task.isDone() ? ",true," : ",false,");
+        line.append(by).append(',').append(from).append(',').append(to).append(',');
+        if (task instanceof Todo && task.hasDuration()) {
+            line.append(task.getDurationMinutes());
+        }
+        line.append(',');
+        appendCsvField(task.getNote());
+        line.append(',');
+        line.append(recurrence == null ? "" : recurrence.toClause());
+        line.append(CRLF);
+    }
+
+    private static char typeOf(Task task) {
+        return task instanceof Deadline ? 'D' : task instanceof Event ? 'E' : 'T';
+    }
+
+    /**
+     * Appends a CSV field to {@link #line}, quoting it if it holds a comma, quote or line break, or starts or
+     * ends with a space the importer would otherwise trim.
+     */
+    private void appendCsvField(String value) {
+        boolean needsQuotes = !value.isEmpty()
+                && (value.charAt(0) == ' ' || value.charAt(value.length() - 1) == ' ');
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private void writeICalendar(Writer out) throws IOException {
+        String stamp = ICALENDAR_TIME.format(LocalDateTime.now(ZoneOffset.UTC)) + "Z";
+        line.setLength(0);
+        appendICalendarLine("BEGIN:VCALENDAR");
+        appendICalendarLine("VERSION:2.0");
+        appendICalendarLine("PRODID:-//E.D.I.T.H.//Task Export//EN");
+        out.append(line);
+        for (int i = 0; i < snapshot.length; i++) {
+            render(i, (number, task) -> appendICalendar(number, task, stamp));
+            out.append(line);
+        }
+        line.setLength(0);
+        appendICalendarLine("END:VCALENDAR");
+        out.append(line);
+    }
+
+    private void appendICalendar(int number, Task task, String stamp) {
+        String component = task instanceof Event ? "VEVENT" : "VTODO";
+        appendICalendarLine("BEGIN:" + component);
+        appendICalendarLine("UID:edith-" + (number + 1) + "-"
+                + Integer.toHexString(System.identityHashCode(snapshot[number])));
+        appendICalendarLine("DTSTAMP:" + stamp);
+        appendICalendarLine("SUMMARY:" + escapeText(task.getDescription()));
+        if (task instanceof Deadline) {
+            appendICalendarLine("DUE:" + toICalendarTime(((Deadline) task).getByMinutes()));
+        } else if (task instanceof Event) {
+            appendICalendarLine("DTSTART:" + toICalendarTime(((Event) task).getFromMinutes()));
+            appendICalendarLine("DTEND:" + toICalendarTime(((Event) task).getToMinutes()));
+        }
+        if (!(task instanceof Event)) {
+            appendICalendarLine("STATUS:" + (task.isDone() ? "COMPLETED" : "NEEDS-ACTION"));
+        }
+        if (task.hasNote()) {
+            appendICalendarLine("DESCRIPTION:" + escapeText(task.getNote()));
+        }
+        if (task.isRecurring()) {
+            appendICalendarLine("RRULE:" + toRule(task.getRecurrence()));
+        }
+        appendICalendarLine("END:" + component);
+    }
+
+    private static String toRule(Recurrence recurrence) {
+        int days = recurrence.getIntervalDays();
+        String rule = days % DAYS_PER_WEEK == 0
+                ? "FREQ=WEEKLY;INTERVAL=" + days / DAYS_PER_WEEK
+                : "FREQ=DAILY;INTERVAL=" + days;
+        LocalDateTime until = recurrence.getUntil();
+        return until == null ? rule : rule + ";UNTIL=" + ICALENDAR_TIME.format(until.toLocalDate().atTime(23, 59, 59));
+    }
+
+    /**
+     * Formats a time as an iCalendar local time, rearranging the storage layout rather than going
+     * through a formatter for each task.
+     */
+    private static String toICalendarTime(long epochMinutes) {
+        String time = DateTimeParser.formatForJson(epochMinutes);
+        if (time.length() != ICALENDAR_SOURCE_LENGTH) {
+            return ICALENDAR_TIME.format(DateTimeParser.fromEpochMinutes(epochMinutes));
+        }
+        return new StringBuilder(15).append(time, 0, 4).append(time, 5, 7).append(time, 8, 10).append('T')
+                .append(time, 11, 13).append(time, 14, 16).append("00").toString();
+    }
+
+    /**
+     * Escapes text for an iCalendar value: backslashes, semicolons, commas and line breaks.
+     */
+    private static String escapeText(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' || c == ';' || c == ',') {
+                escaped.append('\\').append(c);
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else if (c != '\r') {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Appends one content line to {@link #line}, folding it so that no line is longer than 75 bytes of UTF-8.
+     * Continuation lines start with a space, and a character is never split across lines.
+     */
+    private void appendICalendarLine(String content) {
+        int start = 0;
+        int lineBytes = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int bytes = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : 3;
+            if (lineBytes + bytes > MAX_ICALENDAR_LINE_BYTES) {
+                line.append(content, start, i).append(CRLF).append(' ');
+                start = i;
+                lineBytes = 1;
+            }
+            if (bytes == 4) {
+                i++;
+            }
+            lineBytes += bytes;
+        }
+        line.append(content, start, content.length()).append(CRLF);
+    }
+}
@@ -0,0 +1,598 @@
+package edith.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Recurrence;
+import edith.task.Task;
+import edith.task.Todo;
+
+/**
+ * Adds the tasks in a CSV or JSON-lines file to a task list in bulk.
+ * The file is streamed in chunks of rows that are parsed and checked on worker threads, while the
+ * calling thread appends the finished chunks in file order, so memory stays bounded by the chunks
+ * in flight rather than the size of the file.
+ *
+ * <p>JSON-lines files hold one task per line in the same form as the data file. CSV files start
+ * with a header naming their columns, of which only "description" is required:
+ * type (T, D, E or todo, deadline, event), description, done, by, from, to, duration, note and every.
+ * Without a type column, a row with "by" is a deadline, one with "from" is an event and any
+ * other row is a todo. Times may be written as typed, like "2/12/2026 1800", or as saved,
+ * like "2026-12-02 18:00".
+ *
+ * <p>Rows that cannot be read are left out and written to a rejects file next to the source,
+ * one "line, tab, reason, tab, row" line each. Nothing is saved here; the caller saves once
+ * after the whole file is in.
+ */
+public class TaskImporter {
+    /** Added to the source file's name to name its rejects file. */
+    public static final String REJECTS_SUFFIX = ".rejects";
+
+    private static final int DEFAULT_CHUNK_ROWS = 4096;
+    private static final int STRING_POOL_SLOTS = 1 << 16;
+    /** A quoted CSV field may run over several lines, but a row stops growing past this length. */
+    private static final int MAX_ROW_CHARS = 1 << 16;
+    private static final String SEPARATOR = "\t";
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * The layout of an import file.
+     */
+    public enum Format {
+        CSV,
+        JSON_LINES;
+
+        /**
+         * Picks the format from the file name, or from the first row when the name does not say.
+         *
+         * @param source the file being imported
+         * @param firstRow the first non-blank line of the file
+         * @return the format of the file
+         */
+        static Format of(Path source, String firstRow) {
+            String name = source.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json")) {
+                return JSON_LINES;
+            }
+            return firstRow.trim().startsWith("{") ? JSON_LINES : CSV;
+        }
+    }
+
+    private final int threads;
+    private final int chunkRows;
+
+    /**
+     * Creates an importer that uses one worker per processor.
+     */
+    public TaskImporter() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_ROWS);
+    }
+
+    /**
+     * Creates an importer with the given number of workers and rows per chunk.
+     *
+     * @param threads the number of worker threads
+     * @param chunkRows the number of rows each worker parses at a time
+     */
+    public TaskImporter(int threads, int chunkRows) {
+        assert threads > 0 : "Thread count must be positive: " + threads;
+        assert chunkRows > 0 : "Chunk size must be positive: " + chunkRows;
+        this.threads = threads;
+        this.chunkRows = chunkRows;
+    }
+
+    /**
+     * Reads every row of the file and appends the tasks it describes to the list, in file order.
+     * Any rejects file left by an earlier import of the same file is replaced.
+     *
+     * @param source the CSV or JSON-lines file
+     * @param tasks the list to append to
+     * @return how many rows were imported and rejected, and how long it took
+     * @throws IOException if the file cannot be read, a CSV file has no description column,
+     *         or the rejects file cannot be written
+     */
+    public Result importInto(Path source, TaskList tasks) throws IOException {
+        long start = System.nanoTime();
+        Path rejectsPath = source.resolveSibling(source.getFileName() + REJECTS_SUFFIX);
+        Files.deleteIfExists(rejectsPath);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "edith-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<Chunk>> pending = new ArrayDeque<>();
+        Appender appender = new Appender(tasks, rejectsPath);
+        try (BufferedReader reader = Files.newBufferedReader(source)) {
+            RowReader rows = new RowReader(reader);
+            String firstRow = rows.next(false);
+            if (firstRow == null) {
+                return appender.finish(start);
+            }
+            firstRow = firstRow.charAt(0) == BYTE_ORDER_MARK ? firstRow.substring(1) : firstRow;
+            Format format = Format.of(source, firstRow);
+            RowParser parser;
+            List<String> chunk = new ArrayList<>(chunkRows);
+            List<Integer> lines = new ArrayList<>(chunkRows);
+            if (format == Format.CSV) {
+                parser = new CsvRowParser(Columns.fromHeader(firstRow));
+            } else {
+                parser = TaskImporter::parseJsonRow;
+                chunk.add(firstRow);
+                lines.add(rows.getRowLine());
+            }
+
+            boolean isCsv = format == Format.CSV;
+            String row;
+            while ((row = rows.next(isCsv)) != null) {
+                chunk.add(row);
+                lines.add(rows.getRowLine());
+                if (chunk.size() == chunkRows) {
+                    pending.add(submit(workers, parser, chunk, lines));
+                    chunk = new ArrayList<>(chunkRows);
+                    lines = new ArrayList<>(chunkRows);
+                    if (pending.size() > threads * 2) {
+                        appender.append(await(pending.poll()));
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                pending.add(submit(workers, parser, chunk, lines));
+            }
+            while (!pending.isEmpty()) {
+                appender.append(await(pending.poll()));
+            }
+            return appender.finish(start);
+        } finally {
+            workers.shutdownNow();
+            appender.close();
+        }
+    }
+
+    private static Future<Chunk> submit(ExecutorService workers, RowParser parser, List<String> rows,
+            List<Integer> lines) {
+        return workers.submit(() -> Chunk.parse(parser, rows, lines));
+    }
+
+    private static Chunk await(Future<Chunk> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import was interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Import failed: " + e.getCause().getMessage());
+        }
+    }
+
+    private static Task parseJsonRow(String row) throws IOException {
+        return Task.convertFromJson(row);
+    }
+
+    /**
+     * Turns one row of the file into a task.
+     */
+    @FunctionalInterface
+    private interface RowParser {
+        Task parse(String row) throws IOException;
+    }
+
+    /**
+     * Reads the file one row at a time, joining the lines of a quoted CSV field that spans
+     * several lines and skipping blank lines.
+     */
+    private static final class RowReader {
+        private final BufferedReader reader;
+        private int line = 0;
+        private int rowLine = 0;
+
+        private RowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        private String next(boolean isCsv) throws IOException {
+            String row;
+            do {
+                row = reader.readLine();
+                line++;
+            } while (row != null && row.trim().isEmpty());
+            rowLine = line;
+            if (row == null || !isCsv || !hasOpenQuote(row)) {
+                return row;
+            }
+            StringBuilder joined = new StringBuilder(row);
+            String more;
+            while (hasOpenQuote(joined) && joined.length() < MAX_ROW_CHARS && (more = reader.readLine()) != null) {
+                line++;
+                joined.append('\n').append(more);
+            }
+            return joined.toString();
+        }
+
+        /**
+         * Returns the line number the last row started on, counting from 1.
+         */
+        private int getRowLine() {
+            return rowLine;
+        }
+
+        private static boolean hasOpenQuote(CharSequence row) {
+            boolean isOpen = false;
+            for (int i = 0; i < row.length(); i++) {
+                if (row.charAt(i) == '"') {
+                    isOpen = !isOpen;
+                }
+            }
+            return isOpen;
+        }
+    }
+
+    /**
+     * The tasks parsed from one chunk of rows, with the reason for each row that was rejected.
+     */
+    private static final class Chunk {
+        private final List<String> rows;
+        private final List<Integer> lines;
+        private final Task[] tasks;
+        private final String[] reasons;
+
+        private Chunk(List<String> rows, List<Integer> lines) {
+            this.rows = rows;
+            this.lines = lines;
+            this.tasks = new Task[rows.size()];
+            this.reasons = new String[rows.size()];
+        }
+
+        private static Chunk parse(RowParser parser, List<String> rows, List<Integer> lines) {
+            Chunk chunk = new Chunk(rows, lines);
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    chunk.tasks[i] = parser.parse(rows.get(i));
+                } catch (IOException | RuntimeException e) {
+                    chunk.reasons[i] = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                }
+            }
+            return chunk;
+        }
+    }
+
+    /**
+     * Appends finished chunks to the task list and writes their rejected rows, on the calling thread.
+     */
+    private static final class Appender {
+        private final TaskList tasks;
+        private final Path rejectsPath;
+        private final StringPool pool = new StringPool(STRING_POOL_SLOTS);
+        private BufferedWriter rejects;
+        private long imported = 0;
+        private long rejected = 0;
+
+        private Appender(TaskList tasks, Path rejectsPath) {
+            this.tasks = tasks;
+            this.rejectsPath = rejectsPath;
+        }
+
+        private void append(Chunk chunk) throws IOException {
+            for (int i = 0; i < chunk.tasks.length; i++) {
+                Task task = chunk.tasks[i];
+                if (task != null) {
+                    task.shareText(pool::intern);
+                    tasks.add(task);
+                    imported++;
+                } else {
+                    reject(chunk.lines.get(i), chunk.reasons[i], chunk.rows.get(i));
+                }
+            }
+        }
+
+        private void reject(int line, String reason, String row) throws IOException {
+            if (rejects == null) {
+                rejects = Files.newBufferedWriter(rejectsPath);
+            }
+            rejects.write(line + SEPARATOR + reason.replace('\n', ' ') + SEPARATOR + row.replace("\n", "\\n"));
+            rejects.newLine();
+            rejected++;
+        }
+
+        private Result finish(long start) throws IOException {
+            close();
+            return new Result(imported, rejected, rejected == 0 ? null : rejectsPath, System.nanoTime() - start);
+        }
+
+        private void close() throws IOException {
+            if (rejects != null) {
+                rejects.close();
+                rejects = null;
+            }
+        }
+    }
+
+    /**
+     * Where each known column sits in a CSV row, or -1 if the file does not have it.
+     */
+    private static final class Columns {
+        private static final String[] NAMES = {"type", "description", "done", "by", "from", "to", "duration",
+            "note", "every"};
+        private static final int TYPE = 0;
+        private static final int DESCRIPTION = 1;
+        private static final int DONE = 2;
+        private static final int BY = 3;
+        private static final int FROM = 4;
+        private static final int TO = 5;
+        private static final int DURATION = 6;
+        private static final int NOTE = 7;
+        private static final int EVERY = 8;
+
+        private final int[] positions = new int[NAMES.length];
+        private final int count;
+
+        private Columns(String[] header) {
+            Arrays.fill(positions, -1);
+            for (int i = 0; i < header.length; i++) {
+                String name = header[i].trim().toLowerCase(Locale.ROOT);
+                for (int k = 0; k < NAMES.length; k++) {
+                    if (NAMES[k].equals(name) && positions[k] < 0) {
+                        positions[k] = i;
+                    }
+                }
+            }
+            this.count = header.length;
+        }
+
+        private static Columns fromHeader(String header) throws IOException {
+            Columns columns = new Columns(CsvRowParser.split(header));
+            if (columns.positions[DESCRIPTION] < 0) {
+                throw new IOException("The CSV header needs a description column: " + header);
+            }
+            return columns;
+        }
+
+        /**
+         * Returns the value of a column, or an empty string if the row or file lacks it.
+         */
+        private String get(String[] fields, int column) {
+            int position = positions[column];
+            return position < 0 || position >= fields.length ? "" : fields[position];
+        }
+    }
+
+    /**
+     * Reads a CSV row into a task, with quoting as in RFC 4180.
+     */
+    private static final class CsvRowParser implements RowParser {
+        private final Columns columns;
+
+        private CsvRowParser(Columns columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public Task parse(String row) {
+            String[] fields = split(row);
+            if (fields.length > columns.count) {
+                throw new IllegalArgumentException("Row has " + fields.length + " fields but the header has "
+                        + columns.count);
+            }
+            String description = columns.get(fields, Columns.DESCRIPTION);
+            if (description.isBlank()) {
+                throw new IllegalArgumentException("Description cannot be empty");
+            }
+            String by = columns.get(fields, Columns.BY).trim();
+            String from = columns.get(fields, Columns.FROM).trim();
+            String to = columns.get(fields, Columns.TO).trim();
+            String duration = columns.get(fields, Columns.DURATION).trim();
+            String every = columns.get(fields, Columns.EVERY).trim();
+
+            Task task;
+            switch (typeOf(columns.get(fields, Columns.TYPE).trim(), by, from)) {
+            case 'D':
+                if (by.isEmpty()) {
+                    throw new IllegalArgumentException("A deadline needs a by time");
+                }
+                task = new Deadline(description, parseTime(by));
+                break;
+            case 'E':
+                if (from.isEmpty() || to.isEmpty()) {
+                    throw new IllegalArgumentException("An event needs a from and a to time");
+                }
+                task = new Event(description, parseTime(from), parseTime(to));
+                break;
+            default:
+                task = new Todo(description);
+                break;
+            }
+
+            if (!duration.isEmpty()) {
+                if (!(task instanceof Todo)) {
+                    throw new IllegalArgumentException("Only todos can have a duration");
+                }
+                task.setDuration(duration);
+            }
+            if (!every.isEmpty()) {
+                Recurrence recurrence = Recurrence.parse(every);
+                if (task instanceof Deadline) {
+                    ((Deadline) task).setRecurrence(recurrence);
+                } else if (task instanceof Event) {
+                    ((Event) task).setRecurrence(recurrence);
+                } else {
+                    throw new IllegalArgumentException("Only deadlines and events can repeat");
+                }
+            }
+            if (parseDone(columns.get(fields, Columns.DONE).trim())) {
+                task.markAsDone();
+            }
+            task.setNote(columns.get(fields, Columns.NOTE));
+            return task;
+        }
+
+        private static char typeOf(String type, String by, String from) {
+            switch (type.toLowerCase(Locale.ROOT)) {
+            case "t":
+            case "todo":
+                return 'T';
+            case "d":
+            case "deadline":
+                return 'D';
+            case "e":
+            case "event":
+                return 'E';
+            case "":
+                return !by.isEmpty() ? 'D' : !from.isEmpty() ? 'E' : 'T';
+            default:
+                throw new IllegalArgumentException("Unknown task type: " + type);
+            }
+        }
+
+        private static LocalDateTime parseTime(String text) {
+            if (text.length() == 16 && text.charAt(13) == ':') {
+                return DateTimeParser.parseFromJson(text);
+            }
+            return DateTimeParser.parseDateTime(text);
+        }
+
+        private static boolean parseDone(String done) {
+            switch (done.toLowerCase(Locale.ROOT)) {
+            case "":
+            case "false":
+            case "no":
+            case "n":
+            case "0":
+                return false;
+            case "true":
+            case "yes":
+            case "y":
+            case "1":
+            case "x":
+                return true;
+            default:
+                throw new IllegalArgumentException("Done should be true or false, not: " + done);
+            }
+        }
+
+        /**
+         * Splits a row at commas outside quotes. Unquoted fields are trimmed, while a quoted field
+         * keeps its spaces and may hold commas, line breaks and quotes written twice.
+         */
+        private static String[] split(String row) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            int i = 0;
+            while (true) {
+                int start = i;
+                while (i < row.length() && row.charAt(i) == ' ') {
+                    i++;
+                }
+                boolean isQuoted = i < row.length() && row.charAt(i) == '"';
+                if (isQuoted) {
+                    i = readQuoted(row, i + 1, field);
+                } else {
+                    i = start;
+                }
+                int restStart = i;
+                while (i < row.length() && row.charAt(i) != ',') {
+                    i++;
+                }
+                field.append(row, restStart, i);
+                fields.add(isQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                if (i >= row.length()) {
+                    return fields.toArray(new String[0]);
+                }
+                i++;
+            }
+        }
+
+        /**
+         * Reads a quoted field from just after its opening quote.
+         *
+         * @return the position just after the closing quote and any spaces after it
+         */
+        private static int readQuoted(String row, int i, StringBuilder field) {
+            while (true) {
+                if (i >= row.length()) {
+                    throw new IllegalArgumentException("Quoted field is not closed");
+                }
+                char c = row.charAt(i++);
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < row.length() && row.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    break;
+                }
+            }
+            while (i < row.length() && row.charAt(i) == ' ') {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * The outcome of an import.
+     */
+    public static final class Result {
+        private final long imported;
+        private final long rejected;
+        private final Path rejectsPath;
+        private final long elapsedNanos;
+
+        private Result(long imported, long rejected, Path rejectsPath, long elapsedNanos) {
+            this.imported = imported;
+            this.rejected = rejected;
+            this.rejectsPath = rejectsPath;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getImported() {
+            return imported;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * Returns the file the rejected rows were written to.
+         *
+         * @return the rejects file, or null if no row was rejected
+         */
+        public Path getRejectsPath() {
+            return rejectsPath;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns how many rows, imported or rejected, were handled per second.
+         *
+         * @return the rows per second, or 0 if the file had no rows
+         */
+        public double getRowsPerSecond() {
+            long rows = imported + rejected;
+            return rows == 0 ? 0 : rows * 1e9 / Math.max(1, elapsedNanos);
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package edith.storage;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import edith.index.AttributeIndex;
+import edith.index.DeadlineIndex;
+import edith.index.SortIndex;
+import edith.index.SortKey;
+import edith.index.TrigramIndex;
+import edith.query.ViewRegistry;
 import edith.task.Task;
 
 /**
@@ -11,12 +20,22 @@ import edith.task.Task;
  */
 public class TaskList {
     private ArrayList<Task> tasks;
+    private final List<TaskListListener> listeners = new ArrayList<>();
+    private final TaskPositions positions = new TaskPositions();
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+    private final AttributeIndex attributeIndex = new AttributeIndex();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final ViewRegistry views = new ViewRegistry();
+    private final Map<SortKey, SortIndex> sortIndexes = new EnumMap<>(SortKey.class);
+    /** Export snapshots still being written, which must see tasks as they were; closed from their writer thread. */
+    private final List<TaskExporter> openSnapshots = new CopyOnWriteArrayList<>();
 
     /**
      * Creates an empty task list ready for action.
      */
     public TaskList() {
         this.tasks = new ArrayList<>();
+        addIndexes();
     }
 
     /**
@@ -27,6 +46,35 @@ public class TaskList {
      */
     public TaskList(ArrayList<Task> tasks) {
         this.tasks = tasks;
+        addIndexes();
+        positions.rebuild(tasks);
+        for (int i = 0; i < tasks.size(); i++) {
+            for (TaskListListener index : listeners) {
+                index.taskAdded(i, tasks.get(i));
+            }
+        }
+    }
+
+    private void addIndexes() {
+        listeners.add(deadlineIndex);
+        listeners.add(attributeIndex);
+        listeners.add(trigramIndex);
+        for (SortKey sortKey : SortKey.values()) {
+            SortIndex sortIndex = new SortIndex(sortKey, tasks, this::indexOf);
+            sortIndexes.put(sortKey, sortIndex);
+            listeners.add(sortIndex);
+        }
+        listeners.add(views);
+    }
+
+    /**
+     * Registers a listener to be told about every later change made through this list.
+     *
+     * @param listener the listener to notify
+     */
+    public void addListener(TaskListListener listener) {
+        assert listener != null : "Listener cannot be null";
+        listeners.add(listener);
     }
 
     /**
@@ -37,6 +85,11 @@ public class TaskList {
     public void add(Task task) {
         assert task != null : "Cannot add null task to list";
         tasks.add(task);
+        positions.added(task, tasks);
+        int index = tasks.size() - 1;
+        for (TaskListListener listener : listeners) {
+            listener.taskAdded(index, task);
+        }
     }
 
     /**
@@ -47,7 +100,12 @@ public class TaskList {
      */
     public Task delete(int index) {
         assert index >= 0 && index < tasks.size() : "Delete index out of bounds: " + index + ", size: " + tasks.size();
-        return tasks.remove(index);
+        Task removed = tasks.remove(index);
+        for (TaskListListener listener : listeners) {
+            listener.taskRemoved(index, removed);
+        }
+        positions.removed(removed);
+        return removed;
     }
 
     /**
@@ -70,6 +128,63 @@ public class TaskList {
         return tasks.size();
     }
 
+    /**
+     * Finds the current position of a task that is in this list.
+     * Runs in O(log n), so indexes can report list numbers without scanning.
+     *
+     * @param task the task to look up
+     * @return the position of the task (0-based), or -1 if it is not in the list
+     */
+    public int indexOf(Task task) {
+        return positions.positionOf(task);
+    }
+
+    /**
+     * Returns the index of pending deadlines, ordered by due time.
+     *
+     * @return the deadline index kept in step with this list
+     */
+    public DeadlineIndex getDeadlineIndex() {
+        return deadlineIndex;
+    }
+
+    /**
+     * Returns the bitmaps of task positions by attribute, such as done or has a note.
+     *
+     * @return the attribute index kept in step with this list
+     */
+    public AttributeIndex getAttributeIndex() {
+        return attributeIndex;
+    }
+
+    /**
+     * Returns the trigram index over task descriptions.
+     *
+     * @return the description index kept in step with this list
+     */
+    public TrigramIndex getTrigramIndex() {
+        return trigramIndex;
+    }
+
+    /**
+     * Returns the permutation keeping the tasks sorted under the given key.
+     *
+     * @param sortKey the order wanted
+     * @return the sort index kept in step with this list
+     */
+    public SortIndex getSortIndex(SortKey sortKey) {
+        return sortIndexes.get(sortKey);
+    }
+
+    /**
+     * Returns the saved views over this list.
+     *
+     * @return the view registry kept in step with this list
+     */
+    public ViewRegistry getViews() {
+        return views;
+    }
+
     /**
      * Returns the underlying ArrayList for when you need direct access.
      * 
@@ -86,7 +201,9 @@ public class TaskList {
      */
     public void markTask(int index) {
         assert index >= 0 && index < tasks.size() : "Mark index out of bounds: " + index + ", size: " + tasks.size();
+        beforeChange(index);
         tasks.get(index).markAsDone();
+        notifyChanged(index);
     }
 
     /**
@@ -96,7 +213,92 @@ public class TaskList {
      */
     public void unmarkTask(int index) {
         assert index >= 0 && index < tasks.size() : "Unmark index out of bounds: " + index + ", size: " + tasks.size();
+        beforeChange(index);
         tasks.get(index).markAsUndone();
+        notifyChanged(index);
+    }
+
+    /**
+     * Sets the note of the task at the given position.
+     *
+     * @param index the position of the task (0-based)
+     * @param note the note to attach
+     */
+    public void setNote(int index, String note) {
+        assert index >= 0 && index < tasks.size() : "Note index out of bounds: " + index + ", size: " + tasks.size();
+        beforeChange(index);
+        tasks.get(index).setNote(note);
+        notifyChanged(index);
+    }
+
+    /**
+     * Marks a single occurrence of a repeating task as completed.
+     *
+     * @param index the position of the repeating task (0-based)
+     * @param number the occurrence number
+     */
+    public void markOccurrence(int index, long number) {
+        assert tasks.get(index).isRecurring() : "Only repeating tasks have occurrences";
+        beforeChange(index);
+        tasks.get(index).getRecurrence().markOccurrenceDone(number);
+        notifyChanged(index);
+    }
+
+    /**
+     * Clears any completed or skipped mark on a single occurrence of a repeating task.
+     *
+     * @param index the position of the repeating task (0-based)
+     * @param number the occurrence number
+     */
+    public void unmarkOccurrence(int index, long number) {
+        assert tasks.get(index).isRecurring() : "Only repeating tasks have occurrences";
+        beforeChange(index);
+        tasks.get(index).getRecurrence().clearOccurrence(number);
+        notifyChanged(index);
+    }
+
+    /**
+     * Skips a single occurrence of a repeating task so it no longer shows up in queries.
+     *
+     * @param index the position of the repeating task (0-based)
+     * @param number the occurrence number
+     */
+    public void skipOccurrence(int index, long number) {
+        assert tasks.get(index).isRecurring() : "Only repeating tasks have occurrences";
+        beforeChange(index);
+        tasks.get(index).getRecurrence().skipOccurrence(number);
+        notifyChanged(index);
+    }
+
+    /**
+     * Starts handing a snapshot a copy of each task just before it is changed in place.
+     *
+     * @param snapshot the snapshot being taken of this list
+     */
+    void openSnapshot(TaskExporter snapshot) {
+        openSnapshots.add(snapshot);
+    }
+
+    /**
+     * Stops handing a snapshot copies of changed tasks, once it has been written.
+     *
+     * @param snapshot the snapshot that is done
+     */
+    void closeSnapshot(TaskExporter snapshot) {
+        openSnapshots.remove(snapshot);
+    }
+
+    private void beforeChange(int index) {
+        for (TaskExporter snapshot : openSnapshots) {
+            snapshot.preserve(tasks.get(index));
+        }
+    }
+
+    private void notifyChanged(int index) {
+        Task task = tasks.get(index);
+        for (TaskListListener listener : listeners) {
+            listener.taskChanged(index, task);
+        }
     }
 
     /**
@@ -121,24 +323,20 @@ public class TaskList {
     }
 
     /**
-     * Counts the number of completed tasks using streams.
+     * Counts the number of completed tasks with a popcount over the done bitmap.
      * 
      * @return the number of completed tasks
      */
     public long countCompleted() {
-        return tasks.stream()
-                .filter(Task::isDone)
-                .count();
+        return attributeIndex.count(AttributeIndex.Facet.DONE);
     }
 
     /**
-     * Counts the number of pending tasks using streams.
+     * Counts the number of pending tasks with a popcount over the pending bitmap.
      * 
      * @return the number of pending tasks
      */
     public long countPending() {
-        return tasks.stream()
-                .filter(task -> !task.isDone())
-                .count();
+        return attributeIndex.count(AttributeIndex.Facet.PENDING);
     }
 }
\ No newline at end of file
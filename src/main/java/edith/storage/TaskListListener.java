@@ -0,0 +1,36 @@
+package edith.storage;
+
+import edith.task.Task;
+
+/**
+ * Receives notifications whenever a {@link TaskList} is changed through its mutation methods.
+ * Indexes implement this to stay in step with the list without rescanning it.
+ */
+public interface TaskListListener {
+    /**
+     * Called after a task has been appended to the list.
+     *
+     * @param index the position the task was added at (0-based)
+     * @param task the task that was added
+     */
+    void taskAdded(int index, Task task);
+
+    /**
+     * Called after a task has been removed from the list.
+     * Every task that was after it has already shifted down by one, but
+     * {@link TaskList#indexOf} still counts the removed task until every listener has run,
+     * so positions compare the same way they did before the removal.
+     *
+     * @param index the position the task was removed from (0-based)
+     * @param task the task that was removed
+     */
+    void taskRemoved(int index, Task task);
+
+    /**
+     * Called after a task in the list has been changed in place, e.g. marked or unmarked.
+     *
+     * @param index the position of the task (0-based)
+     * @param task the task that was changed
+     */
+    void taskChanged(int index, Task task);
+}
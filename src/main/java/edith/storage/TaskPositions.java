@@ -0,0 +1,83 @@
+package edith.storage;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import edith.task.Task;
+
+/**
+ * Tracks the current position of every task so that indexes holding task references
+ * can report list numbers in O(log n) instead of searching the list.
+ * Each task gets an increasing sequence number when it is added; a Fenwick tree over the
+ * sequence numbers counts how many live tasks come before it.
+ */
+class TaskPositions {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Task, Integer> sequences = new IdentityHashMap<>();
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int nextSequence = 0;
+
+    void added(Task task, List<Task> allTasks) {
+        if (nextSequence == tree.length - 1) {
+            rebuild(allTasks);
+            return;
+        }
+        sequences.put(task, nextSequence);
+        update(nextSequence, 1);
+        nextSequence++;
+    }
+
+    void removed(Task task) {
+        Integer sequence = sequences.remove(task);
+        if (sequence != null) {
+            update(sequence, -1);
+        }
+    }
+
+    int positionOf(Task task) {
+        Integer sequence = sequences.get(task);
+        if (sequence == null) {
+            return -1;
+        }
+        return prefixCount(sequence) - 1;
+    }
+
+    /**
+     * Reassigns dense sequence numbers in list order, growing the tree if it is more than half full.
+     */
+    void rebuild(List<Task> allTasks) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < allTasks.size() * 2) {
+            capacity <<= 1;
+        }
+        tree = new int[capacity + 1];
+        sequences.clear();
+        nextSequence = 0;
+        for (Task task : allTasks) {
+            sequences.put(task, nextSequence);
+            tree[nextSequence + 1] += 1;
+            nextSequence++;
+        }
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void update(int sequence, int delta) {
+        for (int i = sequence + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefixCount(int sequence) {
+        int count = 0;
+        for (int i = sequence + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
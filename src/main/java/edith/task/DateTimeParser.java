@@ -1,5 +1,9 @@
 package edith.task;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -7,6 +11,13 @@ public class DateTimeParser {
     private static final DateTimeFormatter DATE_ONLY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
     private static final DateTimeFormatter OUTPUT_FORMAT = DateTimeFormatter.ofPattern("MMM dd yyyy h:mm a");
+    private static final DateTimeFormatter DATE_OUTPUT_FORMAT = DateTimeFormatter.ofPattern("MMM dd yyyy");
+    private static final DateTimeFormatter JSON_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int DATE_LENGTH = 10;
+    private static final int JSON_LENGTH = 16;
+    private static final int MAX_FAST_YEAR = 9999;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
 
     public static LocalDateTime parseDateTime(String dateTimeString) throws DateTimeParseException {
         if (dateTimeString == null) {
@@ -15,12 +26,13 @@ public class DateTimeParser {
         String trimmed = dateTimeString.trim();
         
         try {
-            if (trimmed.matches("\\d{4}-\\d{2}-\\d{2}")) {
-                return LocalDateTime.parse(trimmed + " 00:00", DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+            if (trimmed.length() == DATE_LENGTH && isIsoDate(trimmed)) {
+                LocalDateTime date = resolve(digits(trimmed, 0, 4), digits(trimmed, 5, 2), digits(trimmed, 8, 2), 0, 0);
+                return date != null ? date : LocalDateTime.parse(trimmed + " 00:00", JSON_FORMAT);
             }
-            
-            if (trimmed.matches("\\d{1,2}/\\d{1,2}/\\d{4} \\d{4}")) {
-                return LocalDateTime.parse(trimmed, DATE_TIME_FORMAT);
+
+            if (isInputLayout(trimmed)) {
+                return parseInputLayout(trimmed);
             }
             
             throw new DateTimeParseException("Unsupported date format: " + dateTimeString, dateTimeString, 0);
@@ -32,16 +44,171 @@ public class DateTimeParser {
 
     public static String formatForDisplay(LocalDateTime dateTime) {
         if (dateTime.getHour() == 0 && dateTime.getMinute() == 0) {
-            return dateTime.format(DateTimeFormatter.ofPattern("MMM dd yyyy"));
+            return dateTime.format(DATE_OUTPUT_FORMAT);
         }
         return dateTime.format(OUTPUT_FORMAT);
     }
 
+    public static String formatWithTime(LocalDateTime dateTime) {
+        return dateTime.format(OUTPUT_FORMAT);
+    }
+
+    /**
+     * Formats a time in the fixed {@code yyyy-MM-dd HH:mm} storage layout.
+     * Years outside 1 to 9999 need a sign or era, so they go through the formatter.
+     *
+     * @param dateTime the time to format
+     * @return the storage string
+     */
     public static String formatForJson(LocalDateTime dateTime) {
-        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        int year = dateTime.getYear();
+        if (year < 1 || year > MAX_FAST_YEAR) {
+            return dateTime.format(JSON_FORMAT);
+        }
+        return formatForJson(year, dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute());
+    }
+
+    /**
+     * Formats a time given in epoch minutes in the fixed {@code yyyy-MM-dd HH:mm} storage layout,
+     * without building a {@code LocalDateTime} for it.
+     *
+     * @param epochMinutes the time as minutes since 1970-01-01 00:00
+     * @return the storage string
+     */
+    public static String formatForJson(long epochMinutes) {
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochMinutes, MINUTES_PER_DAY));
+        int year = date.getYear();
+        if (year < 1 || year > MAX_FAST_YEAR) {
+            return formatForJson(fromEpochMinutes(epochMinutes));
+        }
+        int minuteOfDay = Math.floorMod(epochMinutes, MINUTES_PER_DAY);
+        return formatForJson(year, date.getMonthValue(), date.getDayOfMonth(),
+                minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
     }
 
+    /**
+     * Converts a time to minutes since 1970-01-01 00:00, dropping any seconds.
+     * Tasks keep their times in this form; minutes are all the storage format keeps anyway.
+     *
+     * @param dateTime the time to convert
+     * @return the epoch minutes, rounded down
+     */
+    public static long toEpochMinutes(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+                + dateTime.getHour() * MINUTES_PER_HOUR + dateTime.getMinute();
+    }
+
+    /**
+     * Converts minutes since 1970-01-01 00:00 back to a time.
+     *
+     * @param epochMinutes the epoch minutes
+     * @return the matching time
+     */
+    public static LocalDateTime fromEpochMinutes(long epochMinutes) {
+        int minuteOfDay = Math.floorMod(epochMinutes, MINUTES_PER_DAY);
+        return LocalDateTime.of(LocalDate.ofEpochDay(Math.floorDiv(epochMinutes, MINUTES_PER_DAY)),
+                LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR));
+    }
+
+    /**
+     * Parses a time in the fixed {@code yyyy-MM-dd HH:mm} storage layout.
+     * Strings that do not have exactly that shape go through the formatter, so the result
+     * and any error are the same as {@code LocalDateTime.parse} with that pattern.
+     *
+     * @param jsonDateTime the storage string
+     * @return the parsed time
+     * @throws DateTimeParseException if the string is not a valid time
+     */
     public static LocalDateTime parseFromJson(String jsonDateTime) throws DateTimeParseException {
-        return LocalDateTime.parse(jsonDateTime, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        LocalDateTime dateTime = null;
+        if (jsonDateTime.length() == JSON_LENGTH && isIsoDate(jsonDateTime) && jsonDateTime.charAt(10) == ' '
+                && isDigits(jsonDateTime, 11, 2) && jsonDateTime.charAt(13) == ':' && isDigits(jsonDateTime, 14, 2)) {
+            dateTime = resolve(digits(jsonDateTime, 0, 4), digits(jsonDateTime, 5, 2), digits(jsonDateTime, 8, 2),
+                    digits(jsonDateTime, 11, 2), digits(jsonDateTime, 14, 2));
+        }
+        return dateTime != null ? dateTime : LocalDateTime.parse(jsonDateTime, JSON_FORMAT);
+    }
+
+    /**
+     * Checks whether the text has the {@code d/M/yyyy HHmm} input shape: a one or two digit
+     * day and month, a four digit year and a four digit time.
+     */
+    private static boolean isInputLayout(String text) {
+        int slash = text.indexOf('/');
+        int secondSlash = text.indexOf('/', slash + 1);
+        int monthLength = secondSlash - slash - 1;
+        int yearStart = secondSlash + 1;
+        return slash >= 1 && slash <= 2 && isDigits(text, 0, slash)
+                && monthLength >= 1 && monthLength <= 2 && isDigits(text, slash + 1, monthLength)
+                && text.length() == yearStart + 9 && isDigits(text, yearStart, 4)
+                && text.charAt(yearStart + 4) == ' ' && isDigits(text, yearStart + 5, 4);
+    }
+
+    private static LocalDateTime parseInputLayout(String text) {
+        int slash = text.indexOf('/');
+        int secondSlash = text.indexOf('/', slash + 1);
+        int yearStart = secondSlash + 1;
+        LocalDateTime dateTime = resolve(digits(text, yearStart, 4), digits(text, slash + 1, secondSlash - slash - 1),
+                digits(text, 0, slash), digits(text, yearStart + 5, 2), digits(text, yearStart + 7, 2));
+        return dateTime != null ? dateTime : LocalDateTime.parse(text, DATE_TIME_FORMAT);
+    }
+
+    /**
+     * Builds the time from its fields when they are plainly valid. Anything else, such as the
+     * 30th of February, returns null and is left to the formatter, so that it is clamped or
+     * rejected exactly as before.
+     */
+    private static LocalDateTime resolve(int year, int month, int day, int hour, int minute) {
+        boolean isValid = year >= 1 && month >= 1 && month <= 12 && day >= 1 && hour <= 23 && minute <= 59
+                && (day <= 28 || day <= Month.of(month).length(Year.isLeap(year)));
+        return isValid ? LocalDateTime.of(year, month, day, hour, minute) : null;
+    }
+
+    /**
+     * Checks whether the text starts with a {@code yyyy-MM-dd} date.
+     */
+    private static boolean isIsoDate(String text) {
+        return text.length() >= DATE_LENGTH && isDigits(text, 0, 4) && text.charAt(4) == '-'
+                && isDigits(text, 5, 2) && text.charAt(7) == '-' && isDigits(text, 8, 2);
+    }
+
+    private static String formatForJson(int year, int month, int day, int hour, int minute) {
+        char[] chars = new char[JSON_LENGTH];
+        putDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        putDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        putDigits(chars, 8, day, 2);
+        chars[10] = ' ';
+        putDigits(chars, 11, hour, 2);
+        chars[13] = ':';
+        putDigits(chars, 14, minute, 2);
+        return new String(chars);
+    }
+
+    private static boolean isDigits(String text, int start, int length) {
+        for (int i = start; i < start + length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String text, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static void putDigits(char[] chars, int start, int value, int length) {
+        for (int i = start + length - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 }
\ No newline at end of file
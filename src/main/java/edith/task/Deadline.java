@@ -10,7 +10,8 @@ import java.util.Map;
  */
 public class Deadline extends Task {
 
-    protected LocalDateTime by;
+    /** The due time in epoch minutes, so a deadline carries no date objects of its own. */
+    protected long byMinutes;
 
     /**
      * Creates a deadline task by parsing the time string.
@@ -21,19 +22,20 @@ public class Deadline extends Task {
      */
     public Deadline(String description, String by) throws DateTimeParseException {
         super(description);
-        this.by = DateTimeParser.parseDateTime(by);
+        this.byMinutes = DateTimeParser.toEpochMinutes(DateTimeParser.parseDateTime(by));
     }
 
     /**
      * Creates a deadline task with an already-parsed DateTime.
      * Useful when loading from storage or when you already have a proper DateTime.
+     * Seconds are dropped, as they would be on saving.
      * 
      * @param description what needs to be done
      * @param by the deadline as a LocalDateTime object
      */
     public Deadline(String description, LocalDateTime by) {
         super(description);
-        this.by = by;
+        this.byMinutes = DateTimeParser.toEpochMinutes(by);
     }
 
     /**
@@ -42,8 +44,21 @@ public class Deadline extends Task {
      * @return formatted string like "[D][X] task description (by: date)"
      */
     @Override
-    public String toString() {
-        return "[D]" + super.toString() + " (by: " + DateTimeParser.formatForDisplay(by) + ")";
+    protected String render() {
+        return "[D]" + super.render() + " (by: " + DateTimeParser.formatForDisplay(getBy()) + ")"
+                + recurrenceSuffix();
+    }
+
+    /**
+     * Returns the display string for one occurrence, showing that occurrence's due time and status.
+     *
+     * @param occurrence the occurrence to describe
+     * @return formatted string like "[D][ ] task description (by: date) (every day)"
+     */
+    @Override
+    public String describeOccurrence(Occurrence occurrence) {
+        return "[D]" + describe(occurrence.isDone() ? "X" : " ") + " (by: "
+                + DateTimeParser.formatForDisplay(occurrence.getStart()) + ")" + recurrenceSuffix();
     }
 
     /**
@@ -52,7 +67,31 @@ public class Deadline extends Task {
      * @return the deadline as a LocalDateTime
      */
     public LocalDateTime getBy() {
-        return by;
+        return DateTimeParser.fromEpochMinutes(byMinutes);
+    }
+
+    /**
+     * Gets the deadline time for this task without building a date object.
+     *
+     * @return the deadline in epoch minutes
+     */
+    public long getByMinutes() {
+        return byMinutes;
+    }
+
+    @Override
+    public LocalDateTime getScheduledTime() {
+        return getBy();
+    }
+
+    /**
+     * Makes this deadline repeat, with its due time as the first occurrence.
+     *
+     * @param recurrence the repeat rule, or null to make it a one-off deadline
+     */
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        invalidateDisplay();
     }
 
     /**
@@ -63,7 +102,9 @@ public class Deadline extends Task {
     @Override
     public String toJson() {
         return "{\"type\":\"D\",\"done\":" + isDone() + ",\"description\":\"" + escapeJson(getDescription())
-                + "\",\"by\":\"" + DateTimeParser.formatForJson(by) + "\",\"note\":\"" + escapeJson(getNote()) + "\"}";
+                + "\",\"by\":\"" + DateTimeParser.formatForJson(byMinutes)
+                + "\",\"note\":\"" + escapeJson(getNote()) + "\""
+                + recurrenceJson() + "}";
     }
 
     /**
@@ -98,6 +139,8 @@ public class Deadline extends Task {
         fields.description = JsonParser.extractStringValue(fieldMap.get("description"));
         fields.note = JsonParser.extractStringValue(fieldMap.get("note"));
 
+        fields.recurrence = Recurrence.fromJsonMap(fieldMap);
+
         String byString = JsonParser.extractStringValue(fieldMap.get("by"));
         if (!byString.isEmpty()) {
             fields.by = DateTimeParser.parseFromJson(byString);
@@ -131,6 +174,7 @@ public class Deadline extends Task {
             deadline.markAsDone();
         }
         deadline.setNote(fields.note);
+        deadline.setRecurrence(fields.recurrence);
         return deadline;
     }
 
@@ -142,5 +186,6 @@ public class Deadline extends Task {
         String description = null;
         LocalDateTime by = null;
         String note = "";
+        Recurrence recurrence = null;
     }
 }
\ No newline at end of file
@@ -1,78 +1,246 @@
 package edith.task;
 
 import java.time.Duration;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * Reads and writes task durations such as "2h", "1.5 hours", "1h 30m" or "90" (minutes).
+ * Durations are read by a single left-to-right scan that works in whole minutes, so bulk loads
+ * never build a {@link Duration} they do not need.
+ *
+ * <p>The accepted forms are a number with one unit ("2h", "1.5 hours", "45 mins"), hours then
+ * minutes ("1h 30m", "2 hours 15 minutes"), or a plain number of minutes. Units ignore case.
+ */
 public class DurationParser {
 
+    /** Returned by {@link #parseMinutes} when the text describes no duration at all, such as "0h 0m". */
+    public static final long NO_DURATION = Long.MIN_VALUE;
+    /** Returned by the scan when the text is in neither unit form, so it is read as plain minutes. */
+    private static final long NOT_SCANNED = Long.MIN_VALUE + 1;
+
     private static final int MINUTES_PER_HOUR = 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3600;
+    /** Longest digit run read without Long.parseLong; 18 digits always fit in a long. */
+    private static final int MAX_FAST_DIGITS = 18;
+    /** Longest number, whole and fraction digits together, still held exactly by a double. */
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
 
-    private static final Pattern DURATION_PATTERN = Pattern.compile(
-        "(?:(\\d+)\\s*h(?:ours?)?)?\\s*(?:(\\d+)\\s*m(?:inutes?)?)?",
-        Pattern.CASE_INSENSITIVE
-    );
+    private static final int NOT_A_UNIT = 0;
+    private static final int HOURS = 1;
+    /** "m", "minute" or "minutes", which may follow hours. */
+    private static final int MINUTES = 2;
+    /** "min" or "mins", which may only stand alone. */
+    private static final int SHORT_MINUTES = 3;
 
-    private static final Pattern SIMPLE_DURATION_PATTERN = Pattern.compile(
-        "(\\d+(?:\\.\\d+)?)\\s*(h|hour|hours|m|min|mins|minute|minutes)",
-        Pattern.CASE_INSENSITIVE
-    );
-    
     public static Duration parseDuration(String durationStr) {
-        if (durationStr == null || durationStr.trim().isEmpty()) {
-            return null;
+        long minutes = parseMinutes(durationStr);
+        return minutes == NO_DURATION ? null : Duration.ofMinutes(minutes);
+    }
+
+    /**
+     * Reads a duration as a whole number of minutes.
+     * Hours with a fraction are rounded down to the minute, as in "0.75h" giving 45.
+     *
+     * @param durationStr the duration as typed
+     * @return the minutes, or {@link #NO_DURATION} if the text is blank or adds up to no time
+     * @throws IllegalArgumentException if the text is not a duration
+     * @throws ArithmeticException if the duration is too long to hold in seconds
+     */
+    public static long parseMinutes(String durationStr) {
+        if (durationStr == null) {
+            return NO_DURATION;
         }
-        
-        String trimmed = durationStr.trim().toLowerCase();
-        
-        Matcher simpleMatcher = SIMPLE_DURATION_PATTERN.matcher(trimmed);
-        if (simpleMatcher.matches()) {
-            double value = Double.parseDouble(simpleMatcher.group(1));
-            String unit = simpleMatcher.group(2);
-            
-            if (unit.startsWith("h")) {
-                return Duration.ofMinutes((long) (value * MINUTES_PER_HOUR));
-            } else {
-                return Duration.ofMinutes((long) value);
-            }
+        int start = 0;
+        int end = durationStr.length();
+        while (start < end && durationStr.charAt(start) <= ' ') {
+            start++;
         }
-        
-        Matcher matcher = DURATION_PATTERN.matcher(trimmed);
-        if (matcher.matches()) {
-            long hours = 0;
-            long minutes = 0;
-            
-            if (matcher.group(1) != null) {
-                hours = Long.parseLong(matcher.group(1));
-            }
-            if (matcher.group(2) != null) {
-                minutes = Long.parseLong(matcher.group(2));
-            }
-            
-            if (hours == 0 && minutes == 0) {
-                return null;
+        while (end > start && durationStr.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return NO_DURATION;
+        }
+
+        long minutes = scan(durationStr, start, end);
+        if (minutes == NOT_SCANNED) {
+            return parsePlainMinutes(durationStr, start, end);
+        }
+        return minutes;
+    }
+
+    /**
+     * Scans "number unit" or "hours unit minutes unit" in one pass.
+     *
+     * @return the minutes, NO_DURATION for "0h 0m", or NOT_SCANNED if the text is in neither form
+     */
+    private static long scan(String text, int start, int end) {
+        int wholeEnd = skipDigits(text, start, end);
+        if (wholeEnd == start) {
+            return NOT_SCANNED;
+        }
+        int numberEnd = wholeEnd;
+        if (numberEnd < end && text.charAt(numberEnd) == '.') {
+            numberEnd = skipDigits(text, wholeEnd + 1, end);
+            if (numberEnd == wholeEnd + 1) {
+                return NOT_SCANNED;
             }
-            
-            return Duration.ofHours(hours).plusMinutes(minutes);
         }
-        
+        int unitStart = skipSpaces(text, numberEnd, end);
+        int unitEnd = skipLetters(text, unitStart, end);
+        int unit = unitOf(text, unitStart, unitEnd);
+        if (unit == NOT_A_UNIT) {
+            return NOT_SCANNED;
+        }
+
+        if (unitEnd == end) {
+            double value = numberEnd == wholeEnd
+                    ? readWhole(text, start, wholeEnd)
+                    : readDecimal(text, start, wholeEnd, numberEnd);
+            long minutes = unit == HOURS ? (long) (value * MINUTES_PER_HOUR) : (long) value;
+            Math.multiplyExact(minutes, SECONDS_PER_MINUTE);
+            return minutes;
+        }
+        if (unit != HOURS || numberEnd != wholeEnd) {
+            return NOT_SCANNED;
+        }
+
+        int minutesStart = skipSpaces(text, unitEnd, end);
+        int minutesEnd = skipDigits(text, minutesStart, end);
+        int minuteUnitStart = skipSpaces(text, minutesEnd, end);
+        int minuteUnitEnd = skipLetters(text, minuteUnitStart, end);
+        if (minutesEnd == minutesStart || minuteUnitEnd != end
+                || unitOf(text, minuteUnitStart, minuteUnitEnd) != MINUTES) {
+            return NOT_SCANNED;
+        }
+        long hours = readLong(text, start, wholeEnd);
+        long minutes = readLong(text, minutesStart, minutesEnd);
+        if (hours == 0 && minutes == 0) {
+            return NO_DURATION;
+        }
+        long seconds = Math.addExact(Math.multiplyExact(hours, SECONDS_PER_HOUR),
+                Math.multiplyExact(minutes, SECONDS_PER_MINUTE));
+        return seconds / SECONDS_PER_MINUTE;
+    }
+
+    /**
+     * Reads the whole text as a number of minutes, as {@link Long#parseLong} would.
+     */
+    private static long parsePlainMinutes(String text, int start, int end) {
         try {
-            long minutes = Long.parseLong(trimmed);
-            return Duration.ofMinutes(minutes);
+            long minutes = Long.parseLong(text.substring(start, end));
+            Math.multiplyExact(minutes, SECONDS_PER_MINUTE);
+            return minutes;
         } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Invalid duration format: " + durationStr);
+            throw new IllegalArgumentException("Invalid duration format: " + text);
+        }
+    }
+
+    private static int unitOf(String text, int start, int end) {
+        switch (end - start) {
+        case 1:
+            return isWord(text, start, "h") ? HOURS : isWord(text, start, "m") ? MINUTES : NOT_A_UNIT;
+        case 3:
+            return isWord(text, start, "min") ? SHORT_MINUTES : NOT_A_UNIT;
+        case 4:
+            return isWord(text, start, "hour") ? HOURS : isWord(text, start, "mins") ? SHORT_MINUTES : NOT_A_UNIT;
+        case 5:
+            return isWord(text, start, "hours") ? HOURS : NOT_A_UNIT;
+        case 6:
+            return isWord(text, start, "minute") ? MINUTES : NOT_A_UNIT;
+        case 7:
+            return isWord(text, start, "minutes") ? MINUTES : NOT_A_UNIT;
+        default:
+            return NOT_A_UNIT;
+        }
+    }
+
+    private static boolean isWord(String text, int start, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if ((text.charAt(start + i) | 0x20) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipDigits(String text, int i, int end) {
+        while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+            i++;
         }
+        return i;
     }
-    
+
+    private static int skipLetters(String text, int i, int end) {
+        while (i < end && ((text.charAt(i) | 0x20) >= 'a' && (text.charAt(i) | 0x20) <= 'z')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Skips the characters a regular expression's \s matches: space, tab, line breaks,
+     * vertical tab and form feed.
+     */
+    private static int skipSpaces(String text, int i, int end) {
+        while (i < end && (text.charAt(i) == ' ' || text.charAt(i) >= '\t' && text.charAt(i) <= '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static long readLong(String text, int start, int end) {
+        if (end - start > MAX_FAST_DIGITS) {
+            return Long.parseLong(text.substring(start, end));
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static double readWhole(String text, int start, int end) {
+        if (end - start > MAX_EXACT_DOUBLE_DIGITS) {
+            return Double.parseDouble(text.substring(start, end));
+        }
+        return readLong(text, start, end);
+    }
+
+    /**
+     * Reads "whole.fraction" to the same double {@link Double#parseDouble} gives. While all the digits
+     * fit exactly in a double, dividing by a power of ten rounds correctly, just like parseDouble.
+     */
+    private static double readDecimal(String text, int start, int pointAt, int end) {
+        int fractionDigits = end - pointAt - 1;
+        if (end - start - 1 > MAX_EXACT_DOUBLE_DIGITS) {
+            return Double.parseDouble(text.substring(start, end));
+        }
+        long digits = readLong(text, start, pointAt) * (long) POWERS_OF_TEN[fractionDigits]
+                + readLong(text, pointAt + 1, end);
+        return digits / POWERS_OF_TEN[fractionDigits];
+    }
+
     public static String formatDuration(Duration duration) {
         if (duration == null) {
             return null;
         }
-        
-        long totalMinutes = duration.toMinutes();
+        return formatMinutes(duration.toMinutes());
+    }
+
+    /**
+     * Formats a number of minutes the way durations are shown, as in "1h 30m", "2h" or "45m".
+     *
+     * @param totalMinutes the duration in minutes
+     * @return the formatted duration
+     */
+    public static String formatMinutes(long totalMinutes) {
         long hours = totalMinutes / 60;
         long minutes = totalMinutes % 60;
-        
+
         if (hours > 0 && minutes > 0) {
             return hours + "h " + minutes + "m";
         } else if (hours > 0) {
@@ -81,23 +249,36 @@ public class DurationParser {
             return minutes + "m";
         }
     }
-    
+
     public static String formatDurationForJson(Duration duration) {
         if (duration == null) {
             return null;
         }
         return String.valueOf(duration.toMinutes());
     }
-    
+
     public static Duration parseDurationFromJson(String jsonDuration) {
+        long minutes = parseMinutesFromJson(jsonDuration);
+        return minutes == NO_DURATION ? null : Duration.ofMinutes(minutes);
+    }
+
+    /**
+     * Reads a duration saved as a plain number of minutes.
+     *
+     * @param jsonDuration the saved value
+     * @return the minutes, or {@link #NO_DURATION} if the value is blank
+     * @throws IllegalArgumentException if the value is not a whole number
+     */
+    public static long parseMinutesFromJson(String jsonDuration) {
         if (jsonDuration == null || jsonDuration.trim().isEmpty()) {
-            return null;
+            return NO_DURATION;
         }
         try {
             long minutes = Long.parseLong(jsonDuration.trim());
-            return Duration.ofMinutes(minutes);
+            Math.multiplyExact(minutes, SECONDS_PER_MINUTE);
+            return minutes;
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid JSON duration format: " + jsonDuration);
         }
     }
-}
\ No newline at end of file
+}
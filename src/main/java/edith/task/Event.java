@@ -10,8 +10,9 @@ import java.util.Map;
  */
 public class Event extends Task {
 
-    protected LocalDateTime from;
-    protected LocalDateTime to;
+    /** The start and end in epoch minutes, so an event carries no date objects of its own. */
+    protected long fromMinutes;
+    protected long toMinutes;
 
     /**
      * Creates an event by parsing the start and end time strings.
@@ -23,16 +24,17 @@ public class Event extends Task {
      */
     public Event(String description, String from, String to) throws DateTimeParseException {
         super(description);
-        this.from = DateTimeParser.parseDateTime(from);
-        this.to = DateTimeParser.parseDateTime(to);
+        this.fromMinutes = DateTimeParser.toEpochMinutes(DateTimeParser.parseDateTime(from));
+        this.toMinutes = DateTimeParser.toEpochMinutes(DateTimeParser.parseDateTime(to));
 
-        if (this.from.isAfter(this.to)) {
+        if (fromMinutes > toMinutes) {
             throw new DateTimeParseException("Event start time cannot be after end time", from + " to " + to, 0);
         }
     }
 
     /**
      * Creates an event with already-parsed start and end times.
+     * Seconds are dropped, as they would be on saving.
      * 
      * @param description what the event is about
      * @param from when it starts (as LocalDateTime)
@@ -40,10 +42,10 @@ public class Event extends Task {
      */
     public Event(String description, LocalDateTime from, LocalDateTime to) {
         super(description);
-        this.from = from;
-        this.to = to;
+        this.fromMinutes = DateTimeParser.toEpochMinutes(from);
+        this.toMinutes = DateTimeParser.toEpochMinutes(to);
 
-        if (this.from.isAfter(this.to)) {
+        if (fromMinutes > toMinutes) {
             throw new IllegalArgumentException("Event start time cannot be after end time");
         }
     }
@@ -54,9 +56,22 @@ public class Event extends Task {
      * @return formatted string like "[E][X] event description (from: start to: end)"
      */
     @Override
-    public String toString() {
-        return "[E]" + super.toString() + " (from: " + DateTimeParser.formatForDisplay(from)
-                + " to: " + DateTimeParser.formatForDisplay(to) + ")";
+    protected String render() {
+        return "[E]" + super.render() + " (from: " + DateTimeParser.formatForDisplay(getFrom())
+                + " to: " + DateTimeParser.formatForDisplay(getTo()) + ")" + recurrenceSuffix();
+    }
+
+    /**
+     * Returns the display string for one occurrence, showing that occurrence's times and status.
+     *
+     * @param occurrence the occurrence to describe
+     * @return formatted string like "[E][ ] event description (from: start to: end) (every week)"
+     */
+    @Override
+    public String describeOccurrence(Occurrence occurrence) {
+        return "[E]" + describe(occurrence.isDone() ? "X" : " ") + " (from: "
+                + DateTimeParser.formatForDisplay(occurrence.getStart())
+                + " to: " + DateTimeParser.formatForDisplay(occurrence.getEnd()) + ")" + recurrenceSuffix();
     }
 
     /**
@@ -65,7 +80,7 @@ public class Event extends Task {
      * @return when the event starts
      */
     public LocalDateTime getFrom() {
-        return from;
+        return DateTimeParser.fromEpochMinutes(fromMinutes);
     }
 
     /**
@@ -74,7 +89,40 @@ public class Event extends Task {
      * @return when the event ends
      */
     public LocalDateTime getTo() {
-        return to;
+        return DateTimeParser.fromEpochMinutes(toMinutes);
+    }
+
+    /**
+     * Gets the start time of this event without building a date object.
+     *
+     * @return when the event starts, in epoch minutes
+     */
+    public long getFromMinutes() {
+        return fromMinutes;
+    }
+
+    /**
+     * Gets the end time of this event without building a date object.
+     *
+     * @return when the event ends, in epoch minutes
+     */
+    public long getToMinutes() {
+        return toMinutes;
+    }
+
+    @Override
+    public LocalDateTime getScheduledTime() {
+        return getFrom();
+    }
+
+    /**
+     * Makes this event repeat, with its start and end as the first occurrence.
+     *
+     * @param recurrence the repeat rule, or null to make it a one-off event
+     */
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        invalidateDisplay();
     }
 
     /**
@@ -85,8 +133,9 @@ public class Event extends Task {
     @Override
     public String toJson() {
         return "{\"type\":\"E\",\"done\":" + isDone() + ",\"description\":\"" + escapeJson(getDescription())
-                + "\",\"from\":\"" + DateTimeParser.formatForJson(from) + "\",\"to\":\""
-                + DateTimeParser.formatForJson(to) + "\",\"note\":\"" + escapeJson(getNote()) + "\"}";
+                + "\",\"from\":\"" + DateTimeParser.formatForJson(fromMinutes) + "\",\"to\":\""
+                + DateTimeParser.formatForJson(toMinutes) + "\",\"note\":\"" + escapeJson(getNote()) + "\""
+                + recurrenceJson() + "}";
     }
 
     /**
@@ -121,6 +170,8 @@ public class Event extends Task {
         fields.description = JsonParser.extractStringValue(fieldMap.get("description"));
         fields.note = JsonParser.extractStringValue(fieldMap.get("note"));
 
+        fields.recurrence = Recurrence.fromJsonMap(fieldMap);
+
         String fromString = JsonParser.extractStringValue(fieldMap.get("from"));
         if (!fromString.isEmpty()) {
             fields.from = DateTimeParser.parseFromJson(fromString);
@@ -159,6 +210,7 @@ public class Event extends Task {
             event.markAsDone();
         }
         event.setNote(fields.note);
+        event.setRecurrence(fields.recurrence);
         return event;
     }
 
@@ -171,5 +223,6 @@ public class Event extends Task {
         LocalDateTime from = null;
         LocalDateTime to = null;
         String note = "";
+        Recurrence recurrence = null;
     }
 }
@@ -0,0 +1,125 @@
+package edith.task;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * One dated instance of a deadline or event. A one-off task has a single occurrence;
+ * a repeating task has one per repeat, computed on demand and never stored.
+ */
+public class Occurrence {
+    private final Task task;
+    private final long number;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates an occurrence of a task.
+     *
+     * @param task the task this is an occurrence of
+     * @param number the occurrence number, 0 for the first (or only) one
+     * @param start when this occurrence is due or starts
+     * @param end when this occurrence ends; the same as start for deadlines
+     */
+    public Occurrence(Task task, long number, LocalDateTime start, LocalDateTime end) {
+        this.task = task;
+        this.number = number;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Lazily walks the occurrences of a task that start in [from, to), in time order.
+     * Skipped occurrences of a repeating task are left out; tasks without a time have none.
+     *
+     * @param task the task to expand
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return an iterator over the occurrences in the window
+     */
+    public static Iterator<Occurrence> between(Task task, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime first = task.getScheduledTime();
+        if (first == null) {
+            return Collections.emptyIterator();
+        }
+        Duration length = lengthOf(task);
+        if (!task.isRecurring()) {
+            boolean isInWindow = !first.isBefore(from) && first.isBefore(to);
+            return isInWindow
+                    ? Collections.singletonList(new Occurrence(task, 0, first, first.plus(length))).iterator()
+                    : Collections.emptyIterator();
+        }
+
+        Recurrence recurrence = task.getRecurrence();
+        Recurrence.OccurrenceIterator numbers = recurrence.occurrences(first, from, to);
+        return new Iterator<Occurrence>() {
+            @Override
+            public boolean hasNext() {
+                return numbers.hasNext();
+            }
+
+            @Override
+            public Occurrence next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long number = numbers.next();
+                LocalDateTime start = recurrence.occurrenceAt(first, number);
+                return new Occurrence(task, number, start, start.plus(length));
+            }
+        };
+    }
+
+    /**
+     * Returns the given occurrence of a dated task.
+     *
+     * @param task a deadline or event
+     * @param number the occurrence number; always 0 for a one-off task
+     * @return the occurrence
+     */
+    public static Occurrence of(Task task, long number) {
+        assert task.getScheduledTime() != null : "Only dated tasks have occurrences";
+        LocalDateTime first = task.getScheduledTime();
+        LocalDateTime start = task.isRecurring() ? task.getRecurrence().occurrenceAt(first, number) : first;
+        return new Occurrence(task, number, start, start.plus(lengthOf(task)));
+    }
+
+    private static Duration lengthOf(Task task) {
+        return task instanceof Event
+                ? Duration.between(task.getScheduledTime(), ((Event) task).getTo())
+                : Duration.ZERO;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Checks if this occurrence is done, either individually or because the whole task is.
+     *
+     * @return true if the occurrence is done
+     */
+    public boolean isDone() {
+        return task.isDone() || (task.isRecurring() && task.getRecurrence().isOccurrenceDone(number));
+    }
+
+    @Override
+    public String toString() {
+        return task.describeOccurrence(this);
+    }
+}
@@ -0,0 +1,346 @@
+package edith.task;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A repeat rule for a deadline or event, such as "every day" or "every 2 weeks until 2026-12-31".
+ * The rule is stored once; occurrences are computed on demand from the task's first time, so the
+ * data file grows with the number of rules rather than the number of occurrences.
+ * Occurrences that were completed or skipped individually are kept in a compact side table of bit sets.
+ */
+public class Recurrence {
+    /** Marker that starts a recurrence clause in command input. */
+    public static final String CLAUSE = " /every ";
+    private static final String UNTIL_MARKER = "/until";
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final int intervalDays;
+    private final LocalDateTime until;
+    /** Guarded by this rule, since an export in the background may read them while commands change them. */
+    private final BitSet doneOccurrences = new BitSet();
+    private final BitSet skippedOccurrences = new BitSet();
+
+    /**
+     * Creates a rule that repeats every given number of days.
+     *
+     * @param intervalDays days between occurrences, at least 1
+     * @param until the last day an occurrence may fall on, or null to repeat forever
+     */
+    public Recurrence(int intervalDays, LocalDateTime until) {
+        if (intervalDays < 1) {
+            throw new IllegalArgumentException("Repeat interval must be at least 1 day");
+        }
+        this.intervalDays = intervalDays;
+        this.until = until;
+    }
+
+    /**
+     * Parses the text after "/every", e.g. "daily", "weekly", "3 days", "2 weeks /until 2026-12-31".
+     *
+     * @param clause the recurrence clause without the leading "/every"
+     * @return the parsed rule
+     * @throws IllegalArgumentException if the interval or end date cannot be understood
+     */
+    public static Recurrence parse(String clause) {
+        String rule = clause.trim();
+        LocalDateTime until = null;
+        int untilAt = rule.indexOf(UNTIL_MARKER);
+        if (untilAt >= 0) {
+            String untilText = rule.substring(untilAt + UNTIL_MARKER.length());
+            rule = rule.substring(0, untilAt).trim();
+            try {
+                until = DateTimeParser.parseDateTime(untilText);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(e.getMessage());
+            }
+        }
+        return new Recurrence(parseIntervalDays(rule.toLowerCase()), until);
+    }
+
+    private static int parseIntervalDays(String rule) {
+        switch (rule) {
+        case "daily":
+        case "day":
+            return 1;
+        case "weekly":
+        case "week":
+            return DAYS_PER_WEEK;
+        default:
+            break;
+        }
+        String[] parts = rule.split("\\s+");
+        try {
+            int count = Integer.parseInt(parts[0]);
+            if (parts.length == 1 || parts[1].startsWith("day")) {
+                return count;
+            }
+            if (parts[1].startsWith("week")) {
+                return count * DAYS_PER_WEEK;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid repeat rule: " + rule
+                + ". Use 'daily', 'weekly', 'N days' or 'N weeks'");
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public LocalDateTime getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns the time of the n-th occurrence (0-based) counted from the first one.
+     *
+     * @param first the time of the first occurrence
+     * @param number the occurrence number
+     * @return the occurrence time
+     */
+    public LocalDateTime occurrenceAt(LocalDateTime first, long number) {
+        return first.plusDays(number * intervalDays);
+    }
+
+    /**
+     * Finds which occurrence falls on the same calendar day as the given time.
+     *
+     * @param first the time of the first occurrence
+     * @param day any time on the day to look up
+     * @return the occurrence number, or -1 if no occurrence falls on that day
+     */
+    public long occurrenceOn(LocalDateTime first, LocalDateTime day) {
+        long days = ChronoUnit.DAYS.between(first.toLocalDate(), day.toLocalDate());
+        if (days < 0 || days % intervalDays != 0) {
+            return -1;
+        }
+        long number = days / intervalDays;
+        return isWithinRule(occurrenceAt(first, number)) ? number : -1;
+    }
+
+    /**
+     * Lazily walks the occurrences that start in [from, to), jumping straight to the first one
+     * instead of stepping from the beginning of the series. Skipped occurrences are left out.
+     *
+     * @param first the time of the first occurrence
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, exclusive
+     * @return an iterator over occurrence numbers in time order
+     */
+    public OccurrenceIterator occurrences(LocalDateTime first, LocalDateTime from, LocalDateTime to) {
+        long startNumber = 0;
+        if (from.isAfter(first)) {
+            long minutes = ChronoUnit.MINUTES.between(first, from);
+            long intervalMinutes = (long) intervalDays * 24 * 60;
+            startNumber = (minutes + intervalMinutes - 1) / intervalMinutes;
+        }
+        return new OccurrenceIterator(first, startNumber, to);
+    }
+
+    private boolean isWithinRule(LocalDateTime time) {
+        return until == null || !time.toLocalDate().isAfter(until.toLocalDate());
+    }
+
+    public synchronized boolean isOccurrenceDone(long number) {
+        return number <= Integer.MAX_VALUE && doneOccurrences.get((int) number);
+    }
+
+    public synchronized boolean isOccurrenceSkipped(long number) {
+        return number <= Integer.MAX_VALUE && skippedOccurrences.get((int) number);
+    }
+
+    /**
+     * Records an occurrence as done, clearing any skip on it.
+     *
+     * @param number the occurrence number
+     */
+    public synchronized void markOccurrenceDone(long number) {
+        doneOccurrences.set(toBitIndex(number));
+        skippedOccurrences.clear(toBitIndex(number));
+    }
+
+    /**
+     * Records an occurrence as skipped, clearing any done mark on it.
+     *
+     * @param number the occurrence number
+     */
+    public synchronized void skipOccurrence(long number) {
+        skippedOccurrences.set(toBitIndex(number));
+        doneOccurrences.clear(toBitIndex(number));
+    }
+
+    /**
+     * Clears any done or skipped mark on an occurrence.
+     *
+     * @param number the occurrence number
+     */
+    public synchronized void clearOccurrence(long number) {
+        doneOccurrences.clear(toBitIndex(number));
+        skippedOccurrences.clear(toBitIndex(number));
+    }
+
+    private static int toBitIndex(long number) {
+        if (number < 0 || number > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Occurrence number out of range: " + number);
+        }
+        return (int) number;
+    }
+
+    /**
+     * Describes the rule for display, e.g. "every 2 weeks until Dec 31 2026".
+     *
+     * @return the human-readable rule
+     */
+    public String describe() {
+        String every;
+        if (intervalDays == 1) {
+            every = "every day";
+        } else if (intervalDays == DAYS_PER_WEEK) {
+            every = "every week";
+        } else if (intervalDays % DAYS_PER_WEEK == 0) {
+            every = "every " + intervalDays / DAYS_PER_WEEK + " weeks";
+        } else {
+            every = "every " + intervalDays + " days";
+        }
+        if (until != null) {
+            every += " until " + DateTimeParser.formatForDisplay(until.toLocalDate().atStartOfDay());
+        }
+        return every;
+    }
+
+    /**
+     * Writes the rule the way it is typed after "/every", e.g. "14 days /until 2026-12-31",
+     * so that {@link #parse} reads it back to the same rule.
+     *
+     * @return the rule as a clause, without its done and skipped occurrences
+     */
+    public String toClause() {
+        return intervalDays + " days" + (until == null ? "" : " /until " + until.toLocalDate());
+    }
+
+    /**
+     * Returns the JSON fields for this rule and its exceptions, each starting with a comma.
+     *
+     * @return the JSON fragment to append to a task record
+     */
+    synchronized String toJsonFields() {
+        StringBuilder json = new StringBuilder();
+        json.append(",\"every\":\"").append(intervalDays).append("\"");
+        if (until != null) {
+            json.append(",\"until\":\"").append(DateTimeParser.formatForJson(until)).append("\"");
+        }
+        if (!doneOccurrences.isEmpty()) {
+            json.append(",\"doneOn\":\"").append(encode(doneOccurrences)).append("\"");
+        }
+        if (!skippedOccurrences.isEmpty()) {
+            json.append(",\"skipped\":\"").append(encode(skippedOccurrences)).append("\"");
+        }
+        return json.toString();
+    }
+
+    /**
+     * Rebuilds a rule from the fields of a parsed task record.
+     *
+     * @param fieldMap the raw JSON fields of the task
+     * @return the rule, or null if the task does not repeat
+     */
+    static Recurrence fromJsonMap(Map<String, String> fieldMap) {
+        String every = JsonParser.extractStringValue(fieldMap.get("every"));
+        if (every.isEmpty()) {
+            return null;
+        }
+        String until = JsonParser.extractStringValue(fieldMap.get("until"));
+        Recurrence recurrence = new Recurrence(Integer.parseInt(every),
+                until.isEmpty() ? null : DateTimeParser.parseFromJson(until));
+        decode(JsonParser.extractStringValue(fieldMap.get("doneOn")), recurrence.doneOccurrences);
+        decode(JsonParser.extractStringValue(fieldMap.get("skipped")), recurrence.skippedOccurrences);
+        return recurrence;
+    }
+
+    /**
+     * Encodes set bits as space-separated runs, e.g. "0-4 9 12-13".
+     */
+    private static String encode(BitSet bits) {
+        StringBuilder encoded = new StringBuilder();
+        for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(start)) {
+            int end = bits.nextClearBit(start) - 1;
+            if (encoded.length() > 0) {
+                encoded.append(' ');
+            }
+            encoded.append(start);
+            if (end > start) {
+                encoded.append('-').append(end);
+            }
+            start = end + 1;
+        }
+        return encoded.toString();
+    }
+
+    private static void decode(String encoded, BitSet bits) {
+        if (encoded.trim().isEmpty()) {
+            return;
+        }
+        for (String run : encoded.trim().split(" ")) {
+            int dash = run.indexOf('-');
+            if (dash < 0) {
+                bits.set(Integer.parseInt(run));
+            } else {
+                bits.set(Integer.parseInt(run.substring(0, dash)), Integer.parseInt(run.substring(dash + 1)) + 1);
+            }
+        }
+    }
+
+    /**
+     * Iterator over occurrence numbers in a window, computed one at a time.
+     */
+    public class OccurrenceIterator implements Iterator<Long> {
+        private final LocalDateTime first;
+        private final LocalDateTime to;
+        private long next;
+
+        private OccurrenceIterator(LocalDateTime first, long startNumber, LocalDateTime to) {
+            this.first = first;
+            this.to = to;
+            this.next = startNumber;
+            skipExceptions();
+        }
+
+        @Override
+        public boolean hasNext() {
+            LocalDateTime time = occurrenceAt(first, next);
+            return time.isBefore(to) && isWithinRule(time);
+        }
+
+        @Override
+        public Long next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long current = next++;
+            skipExceptions();
+            return current;
+        }
+
+        /**
+         * Returns the time of the occurrence that {@link #next()} would return.
+         *
+         * @return the next occurrence time
+         */
+        public LocalDateTime peekTime() {
+            return occurrenceAt(first, next);
+        }
+
+        private void skipExceptions() {
+            while (isOccurrenceSkipped(next)) {
+                next++;
+            }
+        }
+    }
+}
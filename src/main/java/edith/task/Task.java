@@ -1,6 +1,8 @@
 package edith.task;
 import java.io.IOException;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
 
 /**
  * Abstract base class representing a task in the E.D.I.T.H. task management system.
@@ -10,8 +12,13 @@ import java.time.Duration;
 public abstract class Task {
     protected String description;
     protected boolean isDone;
-    protected Duration duration;
+    protected long durationMinutes = DurationParser.NO_DURATION;
     protected String note;
+    protected Recurrence recurrence;
+    /** Guarded by this task's lock for writes; read without it. */
+    private volatile String display;
+    /** Counts invalidations, so a render that raced with a change is not cached. */
+    private volatile int displayVersion;
 
     /**
      * Creates a new task with the specified description.
@@ -24,7 +31,6 @@ public abstract class Task {
         assert !description.trim().isEmpty() : "Task description cannot be empty or whitespace only";
         this.description = description;
         this.isDone = false;
-        this.duration = null;
         this.note = "";
     }
 
@@ -42,6 +48,7 @@ public abstract class Task {
      */
     public void markAsDone() {
         this.isDone = true;
+        invalidateDisplay();
     }
 
     /**
@@ -49,6 +56,7 @@ public abstract class Task {
      */
     public void markAsUndone() {
         this.isDone = false;
+        invalidateDisplay();
     }
 
     /**
@@ -70,15 +78,43 @@ public abstract class Task {
     }
 
     public Duration getDuration() {
-        return duration;
+        return hasDuration() ? Duration.ofMinutes(durationMinutes) : null;
+    }
+
+    /**
+     * Returns how long this task takes, in whole minutes.
+     *
+     * @return the minutes, or {@link DurationParser#NO_DURATION} if the task has no duration
+     */
+    public long getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    /**
+     * Checks whether this task has a duration, which may still be zero minutes long.
+     *
+     * @return true if a duration is set
+     */
+    public boolean hasDuration() {
+        return durationMinutes != DurationParser.NO_DURATION;
     }
 
     public void setDuration(Duration duration) {
-        this.duration = duration;
+        setDurationMinutes(duration == null ? DurationParser.NO_DURATION : duration.toMinutes());
     }
 
     public void setDuration(String durationStr) {
-        this.duration = DurationParser.parseDuration(durationStr);
+        setDurationMinutes(DurationParser.parseMinutes(durationStr));
+    }
+
+    /**
+     * Sets how long this task takes.
+     *
+     * @param minutes the duration in minutes, or {@link DurationParser#NO_DURATION} to clear it
+     */
+    public void setDurationMinutes(long minutes) {
+        this.durationMinutes = minutes;
+        invalidateDisplay();
     }
 
     /**
@@ -97,6 +133,18 @@ public abstract class Task {
      */
     public void setNote(String note) {
         this.note = note == null ? "" : note;
+        invalidateDisplay();
+    }
+
+    /**
+     * Replaces this task's description and note with the equal strings the pool hands back,
+     * so that tasks with the same text share one copy of it. The text itself does not change.
+     *
+     * @param pool maps each string to an equal, possibly shared, string
+     */
+    public void shareText(UnaryOperator<String> pool) {
+        description = pool.apply(description);
+        note = pool.apply(note);
     }
 
     /**
@@ -108,18 +156,125 @@ public abstract class Task {
         return note != null && !note.trim().isEmpty();
     }
 
+    /**
+     * Returns the repeat rule of this task, if it has one.
+     * Only deadlines and events can repeat.
+     *
+     * @return the repeat rule, or null for a one-off task
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Checks if this task repeats.
+     *
+     * @return true if the task has a repeat rule, false otherwise
+     */
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the time this task is scheduled at: a deadline's due time or an event's start.
+     * For a repeating task this is the time of its first occurrence.
+     *
+     * @return the scheduled time, or null for tasks without one
+     */
+    public LocalDateTime getScheduledTime() {
+        return null;
+    }
+
+    /**
+     * Returns a display string for one occurrence of this task.
+     * Tasks that have no time of their own just show their usual string.
+     *
+     * @param occurrence the occurrence to describe
+     * @return the formatted occurrence
+     */
+    public String describeOccurrence(Occurrence occurrence) {
+        return toString();
+    }
+
+    /**
+     * Returns the display string of this task.
+     * The string is built once and reused until a change to the task invalidates it,
+     * so listing the same tasks again does not format their dates and durations again.
+     * Safe to call from another thread, such as the reminder clock: a string rendered while the
+     * task was being changed is returned but not cached.
+     *
+     * @return the formatted task
+     */
     @Override
     public String toString() {
-        String baseString = "[" + getStatusIcon() + "] " + description;
+        String cached = display;
+        if (cached != null) {
+            return cached;
+        }
+        int version = displayVersion;
+        String rendered = render();
+        synchronized (this) {
+            if (version == displayVersion) {
+                display = rendered;
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Builds the display string of this task.
+     * Subclasses add their type prefix and dates around the common part.
+     *
+     * @return the formatted task
+     */
+    protected String render() {
+        return describe(getStatusIcon());
+    }
+
+    /**
+     * Drops the cached display string so the next call to {@link #toString()} builds it again.
+     * Every change to a field shown in the display string must call this.
+     */
+    protected synchronized void invalidateDisplay() {
+        displayVersion++;
+        display = null;
+    }
+
+    /**
+     * Builds the common part of the display string with the given status icon.
+     *
+     * @param statusIcon the icon to show between the brackets
+     * @return the formatted string without the task type prefix
+     */
+    protected String describe(String statusIcon) {
+        String baseString = "[" + statusIcon + "] " + description;
         if (hasNote()) {
             baseString += " (Note: " + note + ")";
         }
-        if (duration != null) {
-            baseString += " (duration: " + DurationParser.formatDuration(duration) + ")";
+        if (hasDuration()) {
+            baseString += " (duration: " + DurationParser.formatMinutes(durationMinutes) + ")";
         }
         return baseString;
     }
 
+    /**
+     * Returns the display suffix for this task's repeat rule, if it has one.
+     *
+     * @return the suffix like " (every day)", or an empty string
+     */
+    protected String recurrenceSuffix() {
+        return recurrence == null ? "" : " (" + recurrence.describe() + ")";
+    }
+
+    /**
+     * Returns the JSON fields for this task's repeat rule, if it has one.
+     *
+     * @return the JSON fragment, or an empty string
+     */
+    protected String recurrenceJson() {
+        return recurrence == null ? "" : recurrence.toJsonFields();
+    }
+
     /**
      * Converts this task to its JSON string representation for storage.
      * Each subclass must implement this method to serialize its specific attributes.
@@ -238,11 +393,15 @@ public abstract class Task {
     /**
      * Unescapes JSON-escaped characters back to their original form.
      * Reverses the escaping done by escapeJson method.
+     * Most values contain no backslash at all and are returned as they are.
      *
      * @param str the JSON-escaped string
      * @return the unescaped string
      */
     protected static String unescapeJson(String str) {
+        if (str.indexOf('\\') < 0) {
+            return str;
+        }
         return str.replace("\\\"", "\"")
                   .replace("\\\\", "\\")
                   .replace("\\n", "\n")
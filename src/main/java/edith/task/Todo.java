@@ -1,6 +1,5 @@
 package edith.task;
 import java.io.IOException;
-import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -25,8 +24,8 @@ public class Todo extends Task {
      * @return formatted string representation of the todo task
      */
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    protected String render() {
+        return "[T]" + super.render();
     }
 
     /**
@@ -37,8 +36,8 @@ public class Todo extends Task {
     @Override
     public String toJson() {
         String json = "{\"type\":\"T\",\"done\":" + isDone() + ",\"description\":\"" + escapeJson(getDescription()) + "\"";
-        if (getDuration() != null) {
-            json += ",\"duration\":\"" + DurationParser.formatDurationForJson(getDuration()) + "\"";
+        if (hasDuration()) {
+            json += ",\"duration\":\"" + getDurationMinutes() + "\"";
         }
         json += ",\"note\":\"" + escapeJson(getNote()) + "\"}";
         return json;
@@ -78,7 +77,7 @@ public class Todo extends Task {
 
         String durationString = JsonParser.extractStringValue(fieldMap.get("duration"));
         if (!durationString.isEmpty()) {
-            fields.duration = DurationParser.parseDurationFromJson(durationString);
+            fields.durationMinutes = DurationParser.parseMinutesFromJson(durationString);
         }
 
         return fields;
@@ -108,8 +107,8 @@ public class Todo extends Task {
         if (fields.isDone) {
             todo.markAsDone();
         }
-        if (fields.duration != null) {
-            todo.setDuration(fields.duration);
+        if (fields.durationMinutes != DurationParser.NO_DURATION) {
+            todo.setDurationMinutes(fields.durationMinutes);
         }
         todo.setNote(fields.note);
         return todo;
@@ -121,7 +120,7 @@ public class Todo extends Task {
     private static class TodoFields {
         boolean isDone = false;
         String description = null;
-        Duration duration = null;
+        long durationMinutes = DurationParser.NO_DURATION;
         String note = "";
     }
 }
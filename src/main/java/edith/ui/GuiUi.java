@@ -1,6 +1,9 @@
 package edith.ui;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
 import edith.task.Task;
 
 /**
@@ -50,15 +53,54 @@ public class GuiUi extends Ui {
     }
 
     /**
-     * Displays all tasks in a numbered list format in the response buffer.
+     * Displays the first page of tasks in the response buffer.
+     * The chat window only ever holds one page; later pages are fetched with "list 2" and so on.
      *
      * @param items the list of tasks to display
      */
     @Override
     public void showTaskList(ArrayList<Task> items) {
         responseBuilder.append("Your current task arsenal:\n");
-        for (int i = 0; i < items.size(); i++) {
-            responseBuilder.append((i + 1)).append(".").append(items.get(i)).append("\n");
+        appendFirstPage(items, i -> i + 1, "list 2");
+    }
+
+    /**
+     * Displays the first page of tasks in a sorted order in the response buffer, keeping their list numbers.
+     *
+     * @param sortedTasks the tasks in the order to show them
+     * @param numberOf gives the 1-based list number of a task
+     * @param sortKey the name of the order, shown in the heading
+     */
+    @Override
+    public void showSortedTaskList(List<Task> sortedTasks, ToIntFunction<Task> numberOf, String sortKey) {
+        responseBuilder.append("Your current task arsenal, sorted by ").append(sortKey).append(":\n");
+        appendFirstPage(sortedTasks, i -> numberOf.applyAsInt(sortedTasks.get(i)), "list 2 sort:" + sortKey);
+    }
+
+    /**
+     * Displays one page of the task list in the response buffer.
+     */
+    @Override
+    public void showTaskPage(List<Task> pageTasks, ToIntFunction<Task> numberOf, int page, int pageCount,
+            String sortKey, String nextPageCommand) {
+        responseBuilder.append("Your current task arsenal").append(sortKey == null ? "" : ", sorted by " + sortKey)
+                .append(" (page ").append(page).append(" of ").append(pageCount).append("):\n");
+        for (Task task : pageTasks) {
+            responseBuilder.append(numberOf.applyAsInt(task)).append(".").append(task).append("\n");
+        }
+        if (nextPageCommand != null) {
+            responseBuilder.append("Type \"").append(nextPageCommand).append("\" to see the next page.\n");
+        }
+    }
+
+    private void appendFirstPage(List<Task> items, IntUnaryOperator numberAt, String nextPageCommand) {
+        int shown = Math.min(items.size(), PAGE_SIZE);
+        for (int i = 0; i < shown; i++) {
+            responseBuilder.append(numberAt.applyAsInt(i)).append(".").append(items.get(i)).append("\n");
+        }
+        if (shown < items.size()) {
+            responseBuilder.append("Showing 1-").append(shown).append(" of ").append(items.size())
+                    .append(". Type \"").append(nextPageCommand).append("\" to see the next page.\n");
         }
     }
 
@@ -119,6 +161,16 @@ public class GuiUi extends Ui {
         responseBuilder.append("E.D.I.T.H. systems shutting down. Stay safe out there.\n");
     }
 
+    /**
+     * Returns false, as each command's response is collected once and nothing reads it afterwards.
+     *
+     * @return false
+     */
+    @Override
+    public boolean canNotifyLater() {
+        return false;
+    }
+
     @Override
     public String readCommandFromTerminal() {
         return "";
@@ -1,16 +1,31 @@
 package edith.ui;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
 import java.util.stream.IntStream;
 import edith.task.Task;
 
 /**
  * Handles all user interface interactions for the Edith application.
  * Takes care of displaying messages, reading input, and formatting output nicely.
+ * Each display method writes its whole block while holding the UI's lock, so background threads
+ * that report through {@link #showNotification} never split a block in two.
  */
 public class Ui {
+    /** Number of tasks shown per page when a list is paged. */
+    public static final int PAGE_SIZE = 50;
+
     private static final String LINE_SEPARATOR = "____________________________________________________________";
+    /** Pending output is written out early once it reaches this many characters. */
+    private static final int OUTPUT_BUFFER_CHARS = 64 * 1024;
+    private static final String NEWLINE = System.lineSeparator();
+
     private Scanner scanner;
+    private final StringBuilder pendingOutput = new StringBuilder(OUTPUT_BUFFER_CHARS);
+    private boolean isBatching = false;
+    private final List<String[]> pendingNotifications = new ArrayList<>();
 
     /**
      * Sets up the UI with a scanner ready to read user input.
@@ -23,13 +38,13 @@ public class Ui {
      * Displays the welcome message with the fancy ASCII art logo.
      * Because every good chatbot needs a dramatic entrance.
      */
-    public void showWelcome() {
+    public synchronized void showWelcome() {
         String logo = " _____ ____  ___ _____ _   _ \n"
                 + "|  ___|  _ \\|_ _|_   _| | | |\n"
                 + "| |_  | | | || |  | | | |_| |\n"
                 + "|  _| | |_| || |  | | |  _  |\n"
                 + "|____ |____/|___| |_| |_| |_|\n";
-        System.out.println("Hello from\n" + logo);
+        println("Hello from\n" + logo);
 
         showMessages(
                 " E.D.I.T.H. systems online.",
@@ -43,11 +58,94 @@ public class Ui {
      * @return the user's input as a string
      */
     public String readCommandFromTerminal() {
+        flush();
         return scanner.nextLine();
     }
 
-    public void displayLineSeparator() {
-        System.out.println(LINE_SEPARATOR);
+    public synchronized void displayLineSeparator() {
+        println(LINE_SEPARATOR);
+        endOutput();
+    }
+
+    /**
+     * Holds back console output until {@link #endResponse()}, so a whole command response
+     * reaches the terminal in one write instead of one per line.
+     */
+    public synchronized void beginResponse() {
+        isBatching = true;
+    }
+
+    /**
+     * Writes out everything held back since {@link #beginResponse()}, followed by any
+     * notifications that arrived from background threads while the response was being written.
+     */
+    public synchronized void endResponse() {
+        isBatching = false;
+        flush();
+        for (String[] notification : pendingNotifications) {
+            showMessages(notification);
+        }
+        pendingNotifications.clear();
+    }
+
+    /**
+     * Shows messages from a background thread, such as a reminder or a finished export.
+     * If a command's response is being written, they are held back and shown after it,
+     * so they never land in the middle of the response.
+     *
+     * @param messages the messages to show in one divider block
+     */
+    public synchronized void showNotification(String... messages) {
+        if (isBatching) {
+            pendingNotifications.add(messages);
+            return;
+        }
+        showMessages(messages);
+    }
+
+    /**
+     * Returns whether {@link #showNotification} still reaches the user after the current command
+     * has finished. The console stays open between commands, so it does.
+     *
+     * @return true if background threads can report through this UI later on
+     */
+    public boolean canNotifyLater() {
+        return true;
+    }
+
+    /**
+     * Writes any pending output to the console right away.
+     */
+    public synchronized void flush() {
+        if (pendingOutput.length() > 0) {
+            System.out.print(pendingOutput);
+            pendingOutput.setLength(0);
+        }
+        System.out.flush();
+    }
+
+    /**
+     * Queues one line of output. It reaches the console when the current response ends,
+     * or earlier if enough output has piled up.
+     *
+     * @param line the line to print, without a trailing line separator
+     */
+    protected synchronized void println(String line) {
+        pendingOutput.append(line).append(NEWLINE);
+        if (pendingOutput.length() >= OUTPUT_BUFFER_CHARS) {
+            System.out.print(pendingOutput);
+            pendingOutput.setLength(0);
+        }
+    }
+
+    /**
+     * Marks the end of one piece of output. Outside a batched response it is flushed straight away,
+     * so code that calls the UI directly sees its output immediately.
+     */
+    private synchronized void endOutput() {
+        if (!isBatching) {
+            flush();
+        }
     }
 
     /**
@@ -55,10 +153,11 @@ public class Ui {
      *
      * @param message the message to display to the user
      */
-    public void displayMessageOutput(String message) {
-        displayLineSeparator();
-        System.out.println(message);
-        displayLineSeparator();
+    public synchronized void displayMessageOutput(String message) {
+        println(LINE_SEPARATOR);
+        println(message);
+        println(LINE_SEPARATOR);
+        endOutput();
     }
 
     /**
@@ -67,12 +166,13 @@ public class Ui {
      *
      * @param messages variable number of messages to display
      */
-    public void showMessages(String... messages) {
-        displayLineSeparator();
+    public synchronized void showMessages(String... messages) {
+        println(LINE_SEPARATOR);
         for (String message : messages) {
-            System.out.println(message);
+            println(message);
         }
-        displayLineSeparator();
+        println(LINE_SEPARATOR);
+        endOutput();
     }
 
     /**
@@ -81,10 +181,55 @@ public class Ui {
      *
      * @param items the list of tasks to display
      */
-    public void showTaskList(ArrayList<Task> items) {
-        System.out.println(" Your current task arsenal:");
-        IntStream.range(0, items.size())
-                .forEach(i -> System.out.println(" " + (i + 1) + "." + items.get(i)));
+    public synchronized void showTaskList(ArrayList<Task> items) {
+        println(" Your current task arsenal:");
+        printNumberedTasks(items, i -> i + 1);
+        endOutput();
+    }
+
+    /**
+     * Displays the tasks in a sorted order, each with its number in the unsorted list
+     * so the numbers still work with mark, delete and the other commands.
+     *
+     * @param sortedTasks the tasks in the order to show them
+     * @param numberOf gives the 1-based list number of a task
+     * @param sortKey the name of the order, shown in the heading
+     */
+    public synchronized void showSortedTaskList(List<Task> sortedTasks, ToIntFunction<Task> numberOf, String sortKey) {
+        println(" Your current task arsenal, sorted by " + sortKey + ":");
+        printNumberedTasks(sortedTasks, i -> numberOf.applyAsInt(sortedTasks.get(i)));
+        endOutput();
+    }
+
+    /**
+     * Displays one page of the task list, with a hint for fetching the next page.
+     *
+     * @param pageTasks the tasks on this page, in display order
+     * @param numberOf gives the 1-based list number of a task
+     * @param page the 1-based page number
+     * @param pageCount the total number of pages
+     * @param sortKey the name of the order, or null for list order
+     * @param nextPageCommand the command that shows the next page, or null on the last page
+     */
+    public synchronized void showTaskPage(List<Task> pageTasks, ToIntFunction<Task> numberOf, int page, int pageCount,
+            String sortKey, String nextPageCommand) {
+        println(" Your current task arsenal" + (sortKey == null ? "" : ", sorted by " + sortKey)
+                + " (page " + page + " of " + pageCount + "):");
+        printNumberedTasks(pageTasks, i -> numberOf.applyAsInt(pageTasks.get(i)));
+        if (nextPageCommand != null) {
+            println(" Type \"" + nextPageCommand + "\" to see the next page.");
+        }
+        endOutput();
+    }
+
+    /**
+     * Queues numbered task lines straight into the output buffer, which is written out whenever it fills,
+     * so long lists never build the whole listing in memory.
+     */
+    private void printNumberedTasks(List<Task> items, IntUnaryOperator numberAt) {
+        for (int i = 0; i < items.size(); i++) {
+            println(" " + numberAt.applyAsInt(i) + "." + items.get(i));
+        }
     }
 
     /**
@@ -94,14 +239,15 @@ public class Ui {
      * @param matchingTasks the list of tasks that match the search criteria
      * @param originalIndices the original indices of the matching tasks in the full list
      */
-    public void showFoundTasks(ArrayList<Task> matchingTasks, ArrayList<Integer> originalIndices) {
+    public synchronized void showFoundTasks(ArrayList<Task> matchingTasks, ArrayList<Integer> originalIndices) {
         if (matchingTasks.isEmpty()) {
-            System.out.println(" Scan complete. No matching tasks found.");
+            println(" Scan complete. No matching tasks found.");
         } else {
-            System.out.println(" Scan results - matching tasks located:");
+            println(" Scan results - matching tasks located:");
             IntStream.range(0, matchingTasks.size())
-                    .forEach(i -> System.out.println(" " + originalIndices.get(i) + "." + matchingTasks.get(i)));
+                    .forEach(i -> println(" " + originalIndices.get(i) + "." + matchingTasks.get(i)));
         }
+        endOutput();
     }
 
     /**
@@ -142,6 +288,7 @@ public class Ui {
      * Good practice to avoid resource leaks.
      */
     public void close() {
+        flush();
         scanner.close();
     }
 }
@@ -0,0 +1,87 @@
+package edith.command;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Todo;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+
+public class ArchiveCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String run(Command command, TaskList tasks, Storage storage) throws EdithException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            command.execute(tasks, new Ui(), storage);
+        } finally {
+            System.setOut(originalOut);
+        }
+        return outputStream.toString();
+    }
+
+    @Test
+    public void execute_oldDoneTasks_movesThemToArchiveSearchableWithFind() throws EdithException, IOException {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(100);
+        TaskList tasks = new TaskList();
+        Todo chore = new Todo("sweep floor");
+        chore.markAsDone();
+        tasks.add(chore);
+        tasks.add(new Todo("sweep stairs"));
+        Deadline report = new Deadline("old report", longAgo);
+        report.markAsDone();
+        tasks.add(report);
+        Deadline recent = new Deadline("recent report", LocalDateTime.now().minusDays(2));
+        recent.markAsDone();
+        tasks.add(recent);
+        Event party = new Event("sweep party", longAgo, longAgo.plusHours(2));
+        tasks.add(party);
+        Storage storage = new Storage(tempDir.toString(), "tasks.txt");
+
+        String output = run(new ArchiveCommand("archive 30"), tasks, storage);
+
+        assertTrue(output.contains("Archived 2 completed tasks"), output);
+        assertEquals(3, tasks.size());
+        assertEquals("sweep stairs", tasks.get(0).getDescription());
+        assertEquals(3, storage.loadTasksFromFile().size());
+        assertEquals(1, storage.getArchiveSegments().size());
+
+        String found = run(new FindCommand("find --archive sweep"), tasks, storage);
+        assertTrue(found.contains("Scan results - matching archived tasks:"), found);
+        assertTrue(found.contains(" - [T][X] sweep floor"), found);
+        assertTrue(!found.contains("sweep stairs") && !found.contains("old report"), found);
+    }
+
+    @Test
+    public void execute_nothingOldEnough_writesNoSegment() throws EdithException, IOException {
+        TaskList tasks = new TaskList();
+        Deadline recent = new Deadline("recent report", LocalDateTime.now().minusDays(2));
+        recent.markAsDone();
+        tasks.add(recent);
+        Storage storage = new Storage(tempDir.toString(), "tasks.txt");
+
+        String output = run(new ArchiveCommand("archive"), tasks, storage);
+
+        assertTrue(output.contains("Nothing to archive"), output);
+        assertEquals(1, tasks.size());
+        assertTrue(storage.getArchiveSegments().isEmpty());
+        assertTrue(run(new FindCommand("find --archive report"), tasks, storage)
+                .contains("No matching archived tasks found."));
+    }
+}
@@ -0,0 +1,103 @@
+package edith.command;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import edith.storage.Storage;
+import edith.storage.TaskList;
+import edith.task.Deadline;
+import edith.task.DateTimeParser;
+import edith.task.Todo;
+import edith.ui.GuiUi;
+import edith.ui.Ui;
+import edith.exception.EdithException;
+import edith.exception.InvalidCommandException;
+
+public class ListCommandTest {
+
+    private static TaskList numberedTodos(int count) {
+        TaskList tasks = new TaskList();
+        for (int i = 1; i <= count; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        return tasks;
+    }
+
+    private static String run(ListCommand command, TaskList tasks) throws EdithException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            command.execute(tasks, new Ui(), new Storage("data", "test.txt"));
+        } finally {
+            System.setOut(originalOut);
+        }
+        return outputStream.toString();
+    }
+
+    @Test
+    public void execute_page_showsOnlyThatPageWithNextHint() throws EdithException {
+        String output = run(new ListCommand("list 2 10"), numberedTodos(25));
+
+        assertTrue(output.contains("Your current task arsenal (page 2 of 3):"));
+        assertTrue(output.contains(" 11.[T][ ] task 11"));
+        assertTrue(output.contains(" 20.[T][ ] task 20"));
+        assertFalse(output.contains(" 10.[T][ ] task 10"));
+        assertFalse(output.contains(" 21.[T][ ] task 21"));
+        assertTrue(output.contains("Type \"list 3 10\" to see the next page."));
+    }
+
+    @Test
+    public void execute_sortedPage_keepsOriginalNumbers() throws EdithException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("no deadline"));
+        tasks.add(new Deadline("later", DateTimeParser.parseDateTime("2026-12-01")));
+        tasks.add(new Deadline("sooner", DateTimeParser.parseDateTime("2026-11-01")));
+
+        String output = run(new ListCommand("list 1 2 sort:deadline"), tasks);
+
+        assertTrue(output.contains(" 3.[D][ ] sooner"));
+        assertTrue(output.indexOf(" 3.[D][ ] sooner") < output.indexOf(" 2.[D][ ] later"));
+        assertFalse(output.contains("no deadline"));
+        assertTrue(output.contains("Type \"list 2 2 sort:deadline\" to see the next page."));
+    }
+
+    @Test
+    public void execute_pagePastEnd_throwsInvalidCommandException() {
+        assertThrows(InvalidCommandException.class, () -> run(new ListCommand("list 4 10"), numberedTodos(25)));
+    }
+
+    @Test
+    public void execute_pagePastEnd_showsNothingBeforeTheError() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            Ui ui = new Ui();
+            assertThrows(InvalidCommandException.class, () -> new ListCommand("list 4 10")
+                    .execute(numberedTodos(25), ui, new Storage("data", "test.txt")));
+            ui.flush();
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertEquals("", outputStream.toString());
+    }
+
+    @Test
+    public void execute_wholeListInGui_onlyRendersFirstPage() throws EdithException {
+        GuiUi ui = new GuiUi();
+        new ListCommand("list").execute(numberedTodos(Ui.PAGE_SIZE + 5), ui, new Storage("data", "test.txt"));
+
+        String response = ui.getResponse();
+        assertTrue(response.contains(Ui.PAGE_SIZE + ".[T][ ] task " + Ui.PAGE_SIZE));
+        assertFalse(response.contains((Ui.PAGE_SIZE + 1) + ".[T][ ] task"));
+        assertTrue(response.contains("Type \"list 2\" to see the next page."));
+    }
+}
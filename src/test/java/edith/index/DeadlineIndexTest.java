@@ -0,0 +1,148 @@
+package edith.index;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Occurrence;
+import edith.task.Recurrence;
+import edith.task.Todo;
+
+public class DeadlineIndexTest {
+
+    private static final LocalDateTime NOW = DateTimeParser.parseDateTime("2026-06-01");
+
+    private static Deadline deadline(String description, int daysFromNow) {
+        return new Deadline(description, NOW.plusDays(daysFromNow));
+    }
+
+    @Test
+    public void upcoming_returnsSoonestFirstAndRespectsLimit() {
+        TaskList tasks = new TaskList();
+        tasks.add(deadline("later", 5));
+        tasks.add(new Todo("not a deadline"));
+        tasks.add(deadline("soon", 1));
+        tasks.add(deadline("middle", 3));
+
+        List<Occurrence> upcoming = tasks.getDeadlineIndex().upcoming(NOW, 2);
+
+        assertEquals(2, upcoming.size());
+        assertEquals("soon", upcoming.get(0).getTask().getDescription());
+        assertEquals("middle", upcoming.get(1).getTask().getDescription());
+    }
+
+    @Test
+    public void overdue_returnsOnlyPastDeadlines() {
+        TaskList tasks = new TaskList();
+        tasks.add(deadline("yesterday", -1));
+        tasks.add(deadline("tomorrow", 1));
+        tasks.add(deadline("last week", -7));
+
+        List<Occurrence> overdue = tasks.getDeadlineIndex().overdue(NOW);
+
+        assertEquals(2, overdue.size());
+        assertEquals("last week", overdue.get(0).getTask().getDescription());
+        assertEquals("yesterday", overdue.get(1).getTask().getDescription());
+    }
+
+    @Test
+    public void upcomingAndOverdue_nowWithinTheDueMinute_countDeadlineAsOverdue() {
+        TaskList tasks = new TaskList();
+        tasks.add(deadline("due at midnight", 0));
+        LocalDateTime justAfter = NOW.plusSeconds(30);
+
+        assertEquals(1, tasks.getDeadlineIndex().upcoming(NOW, 5).size());
+        assertEquals(0, tasks.getDeadlineIndex().upcoming(justAfter, 5).size());
+        assertEquals(0, tasks.getDeadlineIndex().overdue(NOW).size());
+        assertEquals(1, tasks.getDeadlineIndex().overdue(justAfter).size());
+    }
+
+    @Test
+    public void markAndUnmark_removeAndRestoreDeadline() {
+        TaskList tasks = new TaskList();
+        tasks.add(deadline("report", 1));
+
+        tasks.markTask(0);
+        assertTrue(tasks.getDeadlineIndex().upcoming(NOW, 10).isEmpty());
+
+        tasks.unmarkTask(0);
+        assertEquals(1, tasks.getDeadlineIndex().upcoming(NOW, 10).size());
+    }
+
+    @Test
+    public void delete_removesDeadlineFromIndex() {
+        TaskList tasks = new TaskList();
+        tasks.add(deadline("first", 1));
+        tasks.add(deadline("second", 1));
+
+        tasks.delete(0);
+
+        List<Occurrence> upcoming = tasks.getDeadlineIndex().upcoming(NOW, 10);
+        assertEquals(1, upcoming.size());
+        assertEquals("second", upcoming.get(0).getTask().getDescription());
+        assertEquals(0, tasks.indexOf(upcoming.get(0).getTask()));
+    }
+
+    @Test
+    public void constructorWithExistingList_indexesPendingDeadlinesOnly() {
+        Deadline done = deadline("done", 2);
+        done.markAsDone();
+        java.util.ArrayList<edith.task.Task> existing = new java.util.ArrayList<>();
+        existing.add(done);
+        existing.add(deadline("pending", 2));
+
+        TaskList tasks = new TaskList(existing);
+
+        assertEquals(1, tasks.getDeadlineIndex().size());
+    }
+
+    @Test
+    public void upcoming_recurringDeadline_mergesOccurrencesInDueOrder() {
+        TaskList tasks = new TaskList();
+        Deadline weekly = deadline("weekly report", 1);
+        weekly.setRecurrence(Recurrence.parse("weekly"));
+        tasks.add(weekly);
+        tasks.add(deadline("one-off", 10));
+
+        List<Occurrence> upcoming = tasks.getDeadlineIndex().upcoming(NOW, 3);
+
+        assertEquals(NOW.plusDays(1), upcoming.get(0).getStart());
+        assertEquals(NOW.plusDays(8), upcoming.get(1).getStart());
+        assertEquals("one-off", upcoming.get(2).getTask().getDescription());
+    }
+
+    @Test
+    public void upcoming_doneAndSkippedOccurrences_areLeftOut() {
+        TaskList tasks = new TaskList();
+        Deadline daily = deadline("standup notes", 0);
+        daily.setRecurrence(Recurrence.parse("daily"));
+        tasks.add(daily);
+        tasks.markOccurrence(0, 0);
+        tasks.skipOccurrence(0, 1);
+
+        List<Occurrence> upcoming = tasks.getDeadlineIndex().upcoming(NOW, 1);
+
+        assertEquals(NOW.plusDays(2), upcoming.get(0).getStart());
+    }
+
+    @Test
+    public void overdue_recurringDeadline_listsEachMissedOccurrence() {
+        TaskList tasks = new TaskList();
+        Deadline daily = deadline("water plants", -3);
+        daily.setRecurrence(Recurrence.parse("daily"));
+        tasks.add(daily);
+        tasks.markOccurrence(0, 1);
+
+        List<Occurrence> overdue = tasks.getDeadlineIndex().overdue(NOW);
+
+        assertEquals(2, overdue.size());
+        assertEquals(NOW.minusDays(3), overdue.get(0).getStart());
+        assertEquals(NOW.minusDays(1), overdue.get(1).getStart());
+    }
+}
@@ -0,0 +1,102 @@
+package edith.index;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import edith.storage.TaskList;
+import edith.task.Deadline;
+import edith.task.Todo;
+
+public class RoaringBitmapTest {
+
+    private static int[] positionsOf(List<Boolean> bits) {
+        return IntStream.range(0, bits.size()).filter(bits::get).toArray();
+    }
+
+    @Test
+    public void removeAndShift_matchesListDeletesAcrossChunks() {
+        Random random = new Random(7);
+        List<Boolean> sparse = new ArrayList<>();
+        List<Boolean> dense = new ArrayList<>();
+        RoaringBitmap sparseBitmap = new RoaringBitmap();
+        RoaringBitmap denseBitmap = new RoaringBitmap();
+        for (int i = 0; i < 200_000; i++) {
+            boolean sparseBit = random.nextInt(100) == 0;
+            boolean denseBit = random.nextInt(3) != 0;
+            sparse.add(sparseBit);
+            dense.add(denseBit);
+            sparseBitmap.set(i, sparseBit);
+            denseBitmap.set(i, denseBit);
+        }
+
+        for (int i = 0; i < 300; i++) {
+            int position = random.nextInt(sparse.size());
+            sparse.remove(position);
+            dense.remove(position);
+            sparseBitmap.removeAndShift(position);
+            denseBitmap.removeAndShift(position);
+        }
+
+        assertArrayEquals(positionsOf(sparse), sparseBitmap.toArray());
+        assertArrayEquals(positionsOf(dense), denseBitmap.toArray());
+        assertEquals(positionsOf(dense).length, denseBitmap.cardinality());
+    }
+
+    @Test
+    public void andOrAndNot_matchReference() {
+        Random random = new Random(11);
+        List<Boolean> left = new ArrayList<>();
+        List<Boolean> right = new ArrayList<>();
+        RoaringBitmap leftBitmap = new RoaringBitmap();
+        RoaringBitmap rightBitmap = new RoaringBitmap();
+        for (int i = 0; i < 150_000; i++) {
+            boolean leftBit = i < 70_000 ? random.nextInt(2) == 0 : random.nextInt(50) == 0;
+            boolean rightBit = random.nextInt(4) == 0;
+            left.add(leftBit);
+            right.add(rightBit);
+            leftBitmap.set(i, leftBit);
+            rightBitmap.set(i, rightBit);
+        }
+
+        List<Boolean> and = new ArrayList<>();
+        List<Boolean> or = new ArrayList<>();
+        List<Boolean> andNot = new ArrayList<>();
+        for (int i = 0; i < left.size(); i++) {
+            and.add(left.get(i) && right.get(i));
+            or.add(left.get(i) || right.get(i));
+            andNot.add(left.get(i) && !right.get(i));
+        }
+
+        assertArrayEquals(positionsOf(and), leftBitmap.and(rightBitmap).toArray());
+        assertArrayEquals(positionsOf(or), leftBitmap.or(rightBitmap).toArray());
+        assertArrayEquals(positionsOf(andNot), leftBitmap.andNot(rightBitmap).toArray());
+    }
+
+    @Test
+    public void attributeIndex_followsTaskListChanges() {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("first"));
+        tasks.add(new Deadline("second", LocalDateTime.of(2026, 12, 1, 0, 0)));
+        tasks.add(new Todo("third"));
+        tasks.markTask(2);
+        tasks.setNote(1, "bring laptop");
+
+        tasks.delete(0);
+
+        AttributeIndex index = tasks.getAttributeIndex();
+        assertArrayEquals(new int[] {1}, index.get(AttributeIndex.Facet.DONE).toArray());
+        assertArrayEquals(new int[] {0}, index.allOf(AttributeIndex.Facet.PENDING, AttributeIndex.Facet.HAS_NOTE)
+                .toArray());
+        assertEquals(1, tasks.countCompleted());
+        assertEquals(1, tasks.countPending());
+        assertTrue(index.get(AttributeIndex.Facet.DEADLINE).contains(0));
+    }
+}
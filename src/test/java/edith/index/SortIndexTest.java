@@ -0,0 +1,83 @@
+package edith.index;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import edith.storage.TaskList;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Task;
+import edith.task.Todo;
+
+public class SortIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private static List<Task> stableSort(TaskList tasks, SortKey sortKey) {
+        List<Task> expected = new ArrayList<>(tasks.getList());
+        expected.sort(Comparator.comparingLong(sortKey::keyOf));
+        return expected;
+    }
+
+    @Test
+    public void view_afterRandomChanges_matchesStableSort() {
+        TaskList tasks = new TaskList();
+        for (SortKey sortKey : SortKey.values()) {
+            tasks.getSortIndex(sortKey).view();
+        }
+        Random random = new Random(5);
+        for (int i = 0; i < 2000; i++) {
+            int action = tasks.size() == 0 ? 0 : random.nextInt(6);
+            if (action <= 2) {
+                Task task;
+                switch (random.nextInt(3)) {
+                case 0:
+                    task = new Todo("todo " + i);
+                    if (random.nextBoolean()) {
+                        task.setDuration(random.nextInt(4) + 1 + "h");
+                    }
+                    break;
+                case 1:
+                    task = new Deadline("deadline " + i, START.plusHours(random.nextInt(48)));
+                    break;
+                default:
+                    LocalDateTime from = START.plusHours(random.nextInt(48));
+                    task = new Event("event " + i, from, from.plusHours(1));
+                    break;
+                }
+                tasks.add(task);
+            } else if (action == 3) {
+                tasks.delete(random.nextInt(tasks.size()));
+            } else if (action == 4) {
+                tasks.markTask(random.nextInt(tasks.size()));
+            } else {
+                tasks.unmarkTask(random.nextInt(tasks.size()));
+            }
+        }
+
+        for (SortKey sortKey : SortKey.values()) {
+            assertEquals(stableSort(tasks, sortKey), tasks.getSortIndex(sortKey).view(), sortKey.toString());
+        }
+    }
+
+    @Test
+    public void view_builtOnFirstUse_tasksWithoutKeyComeLastInListOrder() {
+        TaskList tasks = new TaskList();
+        Todo first = new Todo("first");
+        Deadline later = new Deadline("later", START.plusDays(2));
+        Todo second = new Todo("second");
+        Deadline sooner = new Deadline("sooner", START);
+        tasks.add(first);
+        tasks.add(later);
+        tasks.add(second);
+        tasks.add(sooner);
+
+        assertEquals(List.of(sooner, later, first, second), tasks.getSortIndex(SortKey.DEADLINE).view());
+    }
+}
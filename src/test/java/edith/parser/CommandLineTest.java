@@ -0,0 +1,96 @@
+package edith.parser;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edith.parser.CommandLine.Clause;
+
+public class CommandLineTest {
+
+    @Test
+    public void scan_eventClauses_splitsHeadAndValues() {
+        CommandLine line = CommandLine.scan("event team sync /from 2026-10-20 1400 /to 2026-10-20 1500 /every weekly",
+                Clause.FROM, Clause.TO, Clause.EVERY);
+
+        assertEquals("team sync", line.getHead());
+        assertEquals("2026-10-20 1400", line.get(Clause.FROM));
+        assertEquals("2026-10-20 1500", line.get(Clause.TO));
+        assertEquals("weekly", line.get(Clause.EVERY));
+    }
+
+    @Test
+    public void scan_leadingBlanks_skippedBeforeCommandWord() {
+        CommandLine line = CommandLine.scan("  \ttodo read book /duration 1h", Clause.DURATION);
+
+        assertEquals("read book", line.getHead());
+        assertEquals("1h", line.get(Clause.DURATION));
+        assertEquals("", CommandLine.scan("  todo").getHead());
+        assertEquals("", CommandLine.scan("  todo  ").getHead().trim());
+    }
+
+    @Test
+    public void scan_clauseBeforeItsTurn_staysInText() {
+        CommandLine line = CommandLine.scan("event talk /to room 2 /from 1pm", Clause.FROM, Clause.TO);
+
+        assertEquals("talk /to room 2", line.getHead());
+        assertEquals("1pm", line.get(Clause.FROM));
+        assertNull(line.get(Clause.TO));
+    }
+
+    @Test
+    public void scan_emptyValueAndRepeatedClause_areReported() {
+        CommandLine empty = CommandLine.scan("event talk /from  /to 3pm", Clause.FROM, Clause.TO);
+        assertEquals("", empty.get(Clause.FROM));
+        assertEquals("3pm", empty.get(Clause.TO));
+
+        CommandLine repeated = CommandLine.scan("deadline essay /by monday /by friday", Clause.BY);
+        assertTrue(repeated.isRepeated(Clause.BY));
+        assertEquals("monday", repeated.get(Clause.BY));
+        assertFalse(empty.isRepeated(Clause.TO));
+    }
+
+    @Test
+    public void scan_markerAtEndOfLine_isPlainText() {
+        CommandLine line = CommandLine.scan("deadline essay /by ", Clause.BY);
+
+        assertNull(line.get(Clause.BY));
+        assertEquals("essay /by ", line.getHead());
+    }
+
+    @Test
+    public void getTaskNumber_readsWordAfterCommand() {
+        assertEquals(3, CommandLine.scan("mark 3 /on 2026-10-22", Clause.ON).getTaskNumber());
+        assertEquals(-1, CommandLine.scan("delete -1").getTaskNumber());
+        assertEquals(CommandLine.NO_TASK_NUMBER, CommandLine.scan("mark   ").getTaskNumber());
+        assertEquals(CommandLine.BAD_TASK_NUMBER, CommandLine.scan("mark  2").getTaskNumber());
+        assertEquals(CommandLine.BAD_TASK_NUMBER, CommandLine.scan("mark 1.5").getTaskNumber());
+        assertEquals(CommandLine.BAD_TASK_NUMBER, CommandLine.scan("mark 99999999999").getTaskNumber());
+    }
+
+    @Test
+    public void getWordCount_countsLikeSplit() {
+        String[] inputs = {"mark", "mark 2", "mark  2", "mark 2 ", "mark 2 3", " mark 2"};
+        for (String input : inputs) {
+            assertEquals(input.split(" ").length, CommandLine.scan(input).getWordCount(), input);
+        }
+        assertEquals(2, CommandLine.scan("mark 2 /on today", Clause.ON).getWordCount());
+    }
+
+    @Test
+    public void parseNumber_acceptsWhatParseIntAccepts() {
+        String[] words = {"0", "42", "+7", "-13", "007", "2147483647", "-2147483647", "", "+", "-", "1.5", "abc",
+            "2147483648", "99999999999", "\u0663"};
+        for (String word : words) {
+            int expected;
+            try {
+                expected = Integer.parseInt(word);
+            } catch (NumberFormatException e) {
+                expected = CommandLine.NOT_A_NUMBER;
+            }
+            assertEquals(expected, CommandLine.parseNumber(word), word);
+        }
+    }
+}
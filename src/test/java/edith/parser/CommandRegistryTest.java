@@ -0,0 +1,85 @@
+package edith.parser;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import edith.exception.AliasException;
+
+public class CommandRegistryTest {
+
+    private static CommandRegistry registry() {
+        CommandRegistry registry = new CommandRegistry("todo", "deadline", "delete", "list", "bye");
+        registry.addBuiltInAlias("d", "deadline");
+        registry.addBuiltInAlias("del", "delete");
+        registry.addBuiltInAlias("exit", "bye");
+        return registry;
+    }
+
+    @Test
+    public void resolveCommandWord_exactWordsAliasesAndCase() {
+        CommandRegistry registry = registry();
+
+        assertEquals("todo", registry.resolveCommandWord("todo read book"));
+        assertEquals("deadline", registry.resolveCommandWord("  D essay /by friday"));
+        assertEquals("delete", registry.resolveCommandWord("DEL 3"));
+        assertEquals("bye", registry.resolveCommandWord("exit"));
+        assertNull(registry.resolveCommandWord("todos read book"));
+    }
+
+    @Test
+    public void resolveCommandWord_uniquePrefix_resolvesAmbiguousDoesNot() {
+        CommandRegistry registry = registry();
+
+        assertEquals("deadline", registry.resolveCommandWord("dea essay /by friday"));
+        assertEquals("list", registry.resolveCommandWord("li"));
+        assertEquals("bye", registry.resolveCommandWord("ex"));
+        assertNull(registry.resolveCommandWord("de 3"));
+    }
+
+    @Test
+    public void complete_andExtend_followTheTrie() {
+        CommandRegistry registry = registry();
+
+        assertEquals(List.of("d", "deadline", "del", "delete"), registry.complete("d", 10));
+        assertEquals(List.of("d", "deadline"), registry.complete("D", 2));
+        assertEquals("deadline ", registry.extend("dea"));
+        assertEquals("de", registry.extend("de"));
+        assertEquals("todo read", registry.extend("todo read"));
+        assertEquals("zz", registry.extend("zz"));
+    }
+
+    @Test
+    public void defineAlias_thenRemove_updatesLookupsAndAliases() throws AliasException {
+        CommandRegistry registry = registry();
+
+        registry.defineAlias("Rm", "del");
+        registry.defineAlias("lst", "list");
+        assertEquals("delete", registry.resolveCommandWord("rm 2"));
+        assertEquals(Map.of("lst", "list", "rm", "delete"), registry.getAliases());
+
+        assertTrue(registry.removeAlias("lst"));
+        assertFalse(registry.removeAlias("lst"));
+        assertFalse(registry.removeAlias("del"));
+        assertEquals("list", registry.resolveCommandWord("l"));
+        assertEquals(List.of("list"), registry.complete("l", 10));
+    }
+
+    @Test
+    public void defineAlias_invalidNamesOrTargets_throwAliasException() {
+        CommandRegistry registry = registry();
+
+        assertThrows(AliasException.class, () -> registry.defineAlias("del", "todo"));
+        assertThrows(AliasException.class, () -> registry.defineAlias("to-do", "todo"));
+        assertThrows(AliasException.class, () -> registry.defineAlias("x", "nothing"));
+
+        registry.restore("deadline", "todo");
+        assertEquals("deadline", registry.resolveCommandWord("deadline"));
+    }
+}
@@ -36,4 +36,11 @@ public class FindParserTest {
         Command command = Parser.parse("find book club", 5);
         assertTrue(command instanceof FindCommand);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parse_findWithInvalidField_throwsFindException() {
+        assertThrows(FindException.class, () -> {
+            Parser.parse("find done:maybe", 5);
+        });
+    }
+}
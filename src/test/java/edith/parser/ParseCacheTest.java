@@ -0,0 +1,72 @@
+package edith.parser;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edith.command.Command;
+import edith.exception.EdithException;
+import edith.exception.InvalidTaskNumberException;
+import edith.exception.TodoException;
+
+public class ParseCacheTest {
+
+    @Test
+    public void parse_sameLineTwice_reusesCommandAndCountsHit() throws EdithException {
+        ParseCache cache = new ParseCache(4);
+
+        Command first = cache.parse("find urgent", 0);
+        Command second = cache.parse("find urgent", 10);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+        assertTrue(cache.describe().startsWith("Reused 1 of 2 parsed commands (50% hit rate)"), cache.describe());
+    }
+
+    @Test
+    public void parse_taskNumberBeyondCurrentCount_isRevalidated() throws EdithException {
+        ParseCache cache = new ParseCache(4);
+        Command mark = cache.parse("mark 3", 5);
+
+        assertSame(mark, cache.parse("mark 3", 3));
+        InvalidTaskNumberException exception = assertThrows(InvalidTaskNumberException.class,
+                () -> cache.parse("mark 3", 2));
+        assertEquals("OOPS!!! Task number 3 is out of range. You have 2 tasks.", exception.getMessage());
+    }
+
+    @Test
+    public void parse_invalidLinesAndEviction_keepCacheBounded() throws EdithException {
+        ParseCache cache = new ParseCache(2);
+
+        assertThrows(TodoException.class, () -> cache.parse("todo", 0));
+        assertEquals(0, cache.size());
+
+        Command list = cache.parse("list", 0);
+        cache.parse("upcoming 5", 0);
+        cache.parse("list", 0);
+        cache.parse("overdue", 0);
+
+        assertEquals(2, cache.size());
+        assertSame(list, cache.parse("list", 0));
+        cache.parse("upcoming 5", 0);
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void parse_afterAliasChange_forgetsResolvedLines() throws EdithException {
+        ParseCache cache = new ParseCache(4);
+        Command before = cache.parse("list", 0);
+
+        Parser.getCommands().defineAlias("cachetestalias", "list");
+        try {
+            assertNotSame(before, cache.parse("list", 0));
+        } finally {
+            Parser.getCommands().removeAlias("cachetestalias");
+        }
+    }
+}
@@ -7,14 +7,19 @@ import edith.command.EventCommand;
 import edith.command.ExitCommand;
 import edith.command.ListCommand;
 import edith.command.MarkCommand;
+import edith.command.PlanCommand;
 import edith.command.TodoCommand;
 import edith.command.UnmarkCommand;
+import edith.command.UpcomingCommand;
+import edith.command.ViewCommand;
 import edith.exception.DeadlineException;
 import edith.exception.EdithException;
 import edith.exception.EventException;
 import edith.exception.InvalidCommandException;
 import edith.exception.InvalidTaskNumberException;
+import edith.exception.PlanException;
 import edith.exception.TodoException;
+import edith.exception.ViewException;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -208,4 +213,86 @@ public class ParserTest {
         assertTrue(Parser.parse("delete 3", 5) instanceof DeleteCommand);
         assertTrue(Parser.parse("bye", 0) instanceof ExitCommand);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parse_validPlanCommand_returnsPlanCommand() throws EdithException {
+        assertTrue(Parser.parse("plan 2026-10-20 /to 2026-10-27", 0) instanceof PlanCommand);
+    }
+
+    @Test
+    public void parse_planWithoutWindowEnd_throwsPlanException() {
+        assertThrows(PlanException.class, () -> Parser.parse("plan 2026-10-20", 0));
+        assertThrows(PlanException.class, () -> Parser.parse("plan /to 2026-10-27", 0));
+    }
+
+    @Test
+    public void parse_viewCommands_validatesFormat() throws EdithException {
+        assertTrue(Parser.parse("view", 0) instanceof ViewCommand);
+        assertTrue(Parser.parse("view save week done:false by<2026-10-26", 0) instanceof ViewCommand);
+        assertTrue(Parser.parse("view week", 0) instanceof ViewCommand);
+        assertThrows(ViewException.class, () -> Parser.parse("view save week", 0));
+        assertThrows(ViewException.class, () -> Parser.parse("view delete", 0));
+    }
+
+    @Test
+    public void parse_listWithPageAndSort_validatesArguments() throws EdithException {
+        assertTrue(Parser.parse("list 2", 0) instanceof ListCommand);
+        assertTrue(Parser.parse("list 2 20 sort:status", 0) instanceof ListCommand);
+        assertThrows(InvalidCommandException.class, () -> Parser.parse("list 0", 0));
+        assertThrows(InvalidCommandException.class, () -> Parser.parse("list two", 0));
+        assertThrows(InvalidCommandException.class, () -> Parser.parse("list 1 2 3", 0));
+        assertThrows(InvalidCommandException.class, () -> Parser.parse("list sort:colour", 0));
+    }
+
+    @Test
+    public void parse_clausesAndTaskNumbers_keepValidationMessages() throws EdithException {
+        assertTrue(Parser.parse("mark 2 /on 2026-10-22", 5) instanceof MarkCommand);
+        assertThrows(TodoException.class, () -> Parser.parse("t", 0));
+        assertEquals("OOPS!!! The deadline time cannot be empty.",
+                assertThrows(DeadlineException.class, () -> Parser.parse("deadline essay /by   ", 0)).getMessage());
+        assertEquals("OOPS!!! Event times cannot be empty.",
+                assertThrows(EventException.class, () -> Parser.parse("event talk /from  /to 3pm", 0)).getMessage());
+        assertEquals("OOPS!!! Please provide a task number.",
+                assertThrows(InvalidTaskNumberException.class, () -> Parser.parse("delete  2", 5)).getMessage());
+        assertEquals("OOPS!!! Task number must be a valid number.", assertThrows(InvalidTaskNumberException.class,
+                () -> Parser.parse("unmark x /on today", 5)).getMessage());
+    }
+
+    @Test
+    public void parse_upcomingCount_boundedAbove() throws EdithException {
+        assertTrue(Parser.parse("upcoming 1000", 0) instanceof UpcomingCommand);
+        assertEquals("OOPS!!! The count can be at most 1000.",
+                assertThrows(InvalidCommandException.class, () -> Parser.parse("upcoming 2000000000", 0))
+                        .getMessage());
+    }
+
+    @Test
+    public void parse_leadingBlanksAndWrongCaseMarkers_keepBaselineMessages() {
+        assertEquals("OOPS!!! The description of a todo cannot be empty.",
+                assertThrows(TodoException.class, () -> Parser.parse("  todo", 0)).getMessage());
+        assertEquals("OOPS!!! The deadline time cannot be empty.",
+                assertThrows(DeadlineException.class, () -> Parser.parse("deadline homework /BY Sunday", 0))
+                        .getMessage());
+        assertEquals("OOPS!!! Deadline format should be: deadline <description> /by <time>",
+                assertThrows(DeadlineException.class, () -> Parser.parse("deadline homework", 0)).getMessage());
+        assertEquals("OOPS!!! Event times cannot be empty.",
+                assertThrows(EventException.class, () -> Parser.parse("event talk /from 1pm /TO 3pm", 0))
+                        .getMessage());
+    }
+
+    @Test
+    public void parse_uniqueCommandPrefix_resolvesCommand() throws EdithException {
+        assertTrue(Parser.parse("dea return book /by 2024-12-01", 0) instanceof DeadlineCommand);
+        assertTrue(Parser.parse("UNM 2", 5) instanceof UnmarkCommand);
+        assertThrows(InvalidCommandException.class, () -> Parser.parse("de 2", 5));
+    }
+
+    @Test
+    public void parse_rejectedLine_keepsMessageWithoutStackTrace() {
+        InvalidTaskNumberException exception = assertThrows(InvalidTaskNumberException.class,
+                () -> Parser.parse("mark 10", 5));
+
+        assertEquals("OOPS!!! Task number 10 is out of range. You have 5 tasks.", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
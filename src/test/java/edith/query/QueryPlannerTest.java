@@ -0,0 +1,155 @@
+package edith.query;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import edith.exception.FindException;
+import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Task;
+import edith.task.Todo;
+
+public class QueryPlannerTest {
+
+    private static final LocalDateTime START = DateTimeParser.parseDateTime("2026-11-01");
+    private static final String[] WORDS = {"report", "laptop", "groceries", "call", "Quarterly", "gym", "book"};
+
+    private static List<Integer> fullScan(Query query, TaskList tasks) {
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (query.matches(tasks.get(i))) {
+                matches.add(i);
+            }
+        }
+        return matches;
+    }
+
+    private static TaskList randomTasks(int count, long seed) {
+        Random random = new Random(seed);
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < count; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            Task task;
+            switch (random.nextInt(3)) {
+            case 0:
+                task = new Todo(description);
+                break;
+            case 1:
+                task = new Deadline(description, START.plusDays(random.nextInt(60)));
+                break;
+            default:
+                LocalDateTime from = START.plusDays(random.nextInt(60));
+                task = new Event(description, from, from.plusHours(2));
+                break;
+            }
+            if (random.nextInt(4) == 0) {
+                task.setNote(WORDS[random.nextInt(WORDS.length)]);
+            }
+            if (random.nextInt(5) == 0) {
+                task.setDuration("1h");
+            }
+            tasks.add(task);
+            if (random.nextBoolean()) {
+                tasks.markTask(tasks.size() - 1);
+            }
+        }
+        for (int i = 0; i < count / 10; i++) {
+            tasks.delete(random.nextInt(tasks.size()));
+            tasks.setNote(random.nextInt(tasks.size()), random.nextBoolean() ? "" : "call back");
+        }
+        return tasks;
+    }
+
+    @Test
+    public void execute_plannedQueriesMatchFullScan() throws FindException {
+        TaskList tasks = randomTasks(2000, 42);
+        String[] queries = {
+            "report",
+            "rep",
+            "gy",
+            "text:laptop done:true",
+            "type:D done:false by<2026-11-20",
+            "type:D done:false by>=2026-12-15 text:QUARTERLY",
+            "done:false by<=2026-11-05 note:\"call\"",
+            "type:e note:book",
+            "has:note done:true",
+            "type:T has:duration",
+            "call book",
+        };
+        for (String text : queries) {
+            Query query = Query.compile(text);
+            assertEquals(fullScan(query, tasks), QueryPlanner.plan(query, tasks).execute(), text);
+        }
+    }
+
+    @Test
+    public void plan_picksMostSelectiveIndex() throws FindException {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Todo("routine chore " + i));
+        }
+        tasks.add(new Deadline("submit report", START));
+        tasks.add(new Deadline("file taxes", START.plusDays(30)));
+
+        QueryPlan byDeadline = QueryPlanner.plan(Query.compile("done:false by<2026-11-10"), tasks);
+        assertTrue(byDeadline.explain().get(1).contains("deadline index"));
+        assertEquals(List.of(100), byDeadline.execute());
+
+        QueryPlan byText = QueryPlanner.plan(Query.compile("type:T text:report"), tasks);
+        assertTrue(byText.explain().get(1).contains("text index"));
+
+        QueryPlan byBitmap = QueryPlanner.plan(Query.compile("type:T"), tasks);
+        assertTrue(byBitmap.explain().get(1).contains("attribute bitmaps"));
+        assertEquals(100, byBitmap.execute().size());
+
+        QueryPlan scan = QueryPlanner.plan(Query.compile("note:chore"), tasks);
+        assertTrue(scan.explain().get(1).contains("full scan"));
+    }
+
+    @Test
+    public void plan_deadlineIndexNotUsedWithoutPendingFilter() throws FindException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Deadline("submit report", START));
+        tasks.markTask(0);
+
+        QueryPlan plan = QueryPlanner.plan(Query.compile("by<2026-12-01"), tasks);
+
+        assertEquals(List.of(0), plan.execute());
+        assertTrue(plan.explain().stream().noneMatch(line -> line.contains("deadline index")));
+    }
+
+    @Test
+    public void compile_plainKeywordKeepsWholeInput() throws FindException {
+        Query query = Query.compile("read  book");
+
+        assertTrue(query.matches(new Todo("Read  Book")));
+        assertTrue(!query.matches(new Todo("read book")));
+    }
+
+    @Test
+    public void compile_quotedValueKeepsSpaces() throws FindException {
+        Todo task = new Todo("pack bag");
+        task.setNote("Laptop charger");
+
+        assertTrue(Query.compile("note:\"laptop charger\"").matches(task));
+        assertTrue(!Query.compile("note:\"laptop bag\"").matches(task));
+    }
+
+    @Test
+    public void compile_invalidTerms_throwFindException() {
+        assertThrows(FindException.class, () -> Query.compile("type:X"));
+        assertThrows(FindException.class, () -> Query.compile("done:maybe"));
+        assertThrows(FindException.class, () -> Query.compile("by:2026-12-01"));
+        assertThrows(FindException.class, () -> Query.compile("by<tomorrow"));
+        assertThrows(FindException.class, () -> Query.compile("note:"));
+    }
+}
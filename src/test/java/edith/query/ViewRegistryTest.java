@@ -0,0 +1,90 @@
+package edith.query;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import edith.exception.FindException;
+import edith.storage.TaskList;
+import edith.task.Deadline;
+import edith.task.Todo;
+
+public class ViewRegistryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 19, 0, 0);
+
+    private static int[] recompute(String text, TaskList tasks) throws FindException {
+        Query query = Query.compile(text);
+        return QueryPlanner.plan(query, tasks).execute().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void open_afterRandomChanges_matchesFreshQuery() throws FindException {
+        TaskList tasks = new TaskList();
+        String week = "done:false by<2026-10-26";
+        String notes = "note:laptop";
+        SavedView weekView = tasks.getViews().save("week", week);
+        SavedView notesView = tasks.getViews().save("notes", notes);
+        weekView.open(tasks);
+        notesView.open(tasks);
+
+        Random random = new Random(3);
+        for (int i = 0; i < 3000; i++) {
+            int action = tasks.size() == 0 ? 0 : random.nextInt(5);
+            switch (action) {
+            case 0:
+            case 1:
+                tasks.add(random.nextBoolean()
+                        ? new Todo("todo " + i)
+                        : new Deadline("deadline " + i, START.plusDays(random.nextInt(14))));
+                break;
+            case 2:
+                tasks.delete(random.nextInt(tasks.size()));
+                break;
+            case 3:
+                int index = random.nextInt(tasks.size());
+                if (random.nextBoolean()) {
+                    tasks.markTask(index);
+                } else {
+                    tasks.unmarkTask(index);
+                }
+                break;
+            default:
+                tasks.setNote(random.nextInt(tasks.size()), random.nextBoolean() ? "bring laptop" : "");
+                break;
+            }
+        }
+
+        assertArrayEquals(recompute(week, tasks), weekView.open(tasks).toArray());
+        assertArrayEquals(recompute(notes, tasks), notesView.open(tasks).toArray());
+    }
+
+    @Test
+    public void restore_buildsResultOnFirstOpenOnly() throws FindException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("buy laptop"));
+        tasks.getViews().restore("laptops", "laptop");
+        tasks.add(new Todo("sell laptop"));
+
+        SavedView view = tasks.getViews().get("laptops");
+        assertArrayEquals(new int[] {0, 1}, view.open(tasks).toArray());
+
+        tasks.delete(0);
+        tasks.add(new Todo("new laptop bag"));
+        assertArrayEquals(new int[] {0, 1}, view.open(tasks).toArray());
+        assertEquals("laptop", tasks.getViews().getDefinitions().get("laptops"));
+    }
+
+    @Test
+    public void save_invalidQuery_throwsAndKeepsNothing() {
+        TaskList tasks = new TaskList();
+
+        assertThrows(FindException.class, () -> tasks.getViews().save("bad", "done:maybe"));
+        assertNull(tasks.getViews().get("bad"));
+    }
+}
@@ -0,0 +1,141 @@
+package edith.schedule;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Task;
+import edith.task.Todo;
+
+public class FreeSlotPlannerTest {
+
+    private static final LocalDateTime WINDOW_START = DateTimeParser.parseDateTime("20/10/2026 0900");
+    private static final LocalDateTime WINDOW_END = DateTimeParser.parseDateTime("20/10/2026 1700");
+
+    private static Todo todo(String description, String duration) {
+        Todo todo = new Todo(description);
+        todo.setDuration(duration);
+        return todo;
+    }
+
+    @Test
+    public void plan_noEvents_packsTodosBackToBack() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(todo("write report", "2h"));
+        tasks.add(todo("review slides", "30m"));
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, WINDOW_START, WINDOW_END);
+
+        assertEquals(2, agenda.getSlots().size());
+        assertEquals(0, agenda.getSlots().get(0).getTaskIndex());
+        assertEquals(WINDOW_START, agenda.getSlots().get(0).getStart());
+        assertEquals(WINDOW_START.plusHours(2), agenda.getSlots().get(1).getStart());
+        assertTrue(agenda.getUnscheduled().isEmpty());
+    }
+
+    @Test
+    public void plan_eventInWindow_skipsBusyTime() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Event("meeting", WINDOW_START.plusHours(1), WINDOW_START.plusHours(3)));
+        tasks.add(todo("write report", "2h"));
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, WINDOW_START, WINDOW_END);
+
+        assertEquals(1, agenda.getSlots().size());
+        assertEquals(WINDOW_START.plusHours(3), agenda.getSlots().get(0).getStart());
+        assertEquals(WINDOW_START.plusHours(5), agenda.getSlots().get(0).getEnd());
+    }
+
+    @Test
+    public void plan_smallTaskFillsEarlierGap() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Event("standup", WINDOW_START.plusMinutes(30), WINDOW_START.plusHours(1)));
+        tasks.add(todo("long task", "2h"));
+        tasks.add(todo("short task", "30m"));
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, WINDOW_START, WINDOW_END);
+
+        assertEquals(2, agenda.getSlots().size());
+        assertEquals(2, agenda.getSlots().get(0).getTaskIndex());
+        assertEquals(WINDOW_START, agenda.getSlots().get(0).getStart());
+        assertEquals(WINDOW_START.plusHours(1), agenda.getSlots().get(1).getStart());
+    }
+
+    @Test
+    public void plan_doneAndDurationlessTasks_areIgnored() {
+        List<Task> tasks = new ArrayList<>();
+        Todo done = todo("finished", "1h");
+        done.markAsDone();
+        tasks.add(done);
+        tasks.add(new Todo("no duration"));
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, WINDOW_START, WINDOW_END);
+
+        assertTrue(agenda.getSlots().isEmpty());
+        assertTrue(agenda.getUnscheduled().isEmpty());
+    }
+
+    @Test
+    public void plan_deadlineTaskScheduledFirstAndBeforeDue() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(todo("no rush", "1h"));
+        Deadline urgent = new Deadline("urgent", WINDOW_START.plusHours(1));
+        urgent.setDuration("1h");
+        tasks.add(urgent);
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, WINDOW_START, WINDOW_END);
+
+        assertEquals(1, agenda.getSlots().get(0).getTaskIndex());
+        assertEquals(WINDOW_START, agenda.getSlots().get(0).getStart());
+    }
+
+    @Test
+    public void plan_deadlineThatCannotFinishInTime_isUnscheduled() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Event("meeting", WINDOW_START, WINDOW_START.plusHours(2)));
+        Deadline tooLate = new Deadline("too late", WINDOW_START.plusHours(2));
+        tooLate.setDuration("30m");
+        tasks.add(tooLate);
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, WINDOW_START, WINDOW_END);
+
+        assertTrue(agenda.getSlots().isEmpty());
+        assertEquals(List.of(1), agenda.getUnscheduled());
+    }
+
+    @Test
+    public void plan_windowTooSmall_reportsUnscheduled() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(todo("huge", "10h"));
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, WINDOW_START, WINDOW_END);
+
+        assertEquals(List.of(0), agenda.getUnscheduled());
+    }
+
+    @Test
+    public void plan_manyTasks_allSlotsDisjointAndInsideWindow() {
+        List<Task> tasks = new ArrayList<>();
+        LocalDateTime start = DateTimeParser.parseDateTime("2026-01-01");
+        for (int i = 0; i < 20000; i++) {
+            tasks.add(new Event("event " + i, start.plusHours(2 * i), start.plusHours(2 * i).plusMinutes(30)));
+            tasks.add(todo("todo " + i, (i % 5 + 1) * 10 + "m"));
+        }
+
+        Agenda agenda = FreeSlotPlanner.plan(tasks, start, start.plusHours(40000));
+
+        assertEquals(20000, agenda.getSlots().size());
+        LocalDateTime previousEnd = start;
+        for (Agenda.Slot slot : agenda.getSlots()) {
+            assertTrue(!slot.getStart().isBefore(previousEnd));
+            previousEnd = slot.getEnd();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package edith.schedule;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import edith.storage.TaskList;
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Todo;
+
+/**
+ * Drives the reminder scheduler with a simulated clock so no test has to wait in real time.
+ */
+public class ReminderSchedulerTest {
+
+    private static final LocalDateTime START = DateTimeParser.parseDateTime("1/6/2026 0900");
+
+    private final List<Reminder> delivered = new ArrayList<>();
+    private final ReminderScheduler scheduler = new ReminderScheduler(delivered::add, 30, START);
+    private final TaskList tasks = new TaskList();
+
+    public ReminderSchedulerTest() {
+        tasks.addListener(scheduler);
+    }
+
+    @Test
+    public void deadline_remindsLeadTimeBeforeDue() {
+        tasks.add(new Deadline("submit report", START.plusHours(2)));
+
+        scheduler.advanceTo(START.plusMinutes(89));
+        assertTrue(delivered.isEmpty());
+
+        scheduler.advanceTo(START.plusMinutes(90));
+        assertEquals(1, delivered.size());
+        assertEquals("submit report", delivered.get(0).getTask().getDescription());
+        assertTrue(delivered.get(0).getMessage().contains("deadline"));
+    }
+
+    @Test
+    public void event_remindsBeforeStart() {
+        tasks.add(new Event("standup", START.plusDays(1), START.plusDays(1).plusMinutes(15)));
+
+        scheduler.advanceTo(START.plusDays(1).minusMinutes(30));
+
+        assertEquals(1, delivered.size());
+        assertTrue(delivered.get(0).getMessage().contains("event"));
+    }
+
+    @Test
+    public void todosAndPastDeadlines_neverRemind() {
+        tasks.add(new Todo("no time"));
+        tasks.add(new Deadline("already late", START.minusDays(1)));
+
+        scheduler.advanceTo(START.plusDays(30));
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    public void markAndDelete_cancelReminders() {
+        tasks.add(new Deadline("marked", START.plusHours(5)));
+        tasks.add(new Deadline("deleted", START.plusHours(5)));
+        tasks.markTask(0);
+        tasks.delete(1);
+
+        scheduler.advanceTo(START.plusDays(1));
+
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    public void unmark_reschedulesReminder() {
+        tasks.add(new Deadline("flip flop", START.plusHours(5)));
+        tasks.markTask(0);
+        tasks.unmarkTask(0);
+
+        scheduler.advanceTo(START.plusDays(1));
+
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    public void deadlineInsideLeadWindow_remindsOnNextTick() {
+        tasks.add(new Deadline("very soon", START.plusMinutes(10)));
+
+        scheduler.advanceTo(START);
+
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    public void manyDeadlines_allDeliveredInDueOrder() {
+        for (int i = 2000; i > 0; i--) {
+            tasks.add(new Deadline("task " + i, START.plusMinutes(60L * i)));
+        }
+
+        scheduler.advanceTo(START.plusDays(100));
+
+        assertEquals(2000, delivered.size());
+        for (int i = 1; i < delivered.size(); i++) {
+            assertTrue(!delivered.get(i).getTime().isBefore(delivered.get(i - 1).getTime()));
+        }
+    }
+}
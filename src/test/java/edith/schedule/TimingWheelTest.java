@@ -0,0 +1,80 @@
+package edith.schedule;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class TimingWheelTest {
+
+    @Test
+    public void advanceTo_firesTimerExactlyAtItsMinute() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(1005, "five");
+
+        wheel.advanceTo(1004, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advanceTo(1005, fired::add);
+        assertEquals(List.of("five"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void schedule_inThePast_firesOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(10, "late");
+
+        wheel.advanceTo(1000, fired::add);
+
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    public void cancel_preventsTimerFromFiring() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(100, "kept");
+        wheel.schedule(100, "cancelled").cancel();
+
+        wheel.advanceTo(200, fired::add);
+
+        assertEquals(List.of("kept"), fired);
+    }
+
+    @Test
+    public void advanceTo_timersAcrossAllLevels_fireInOrderAtTheirMinute() {
+        long start = 123_456;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        Random random = new Random(42);
+        List<Long> expected = new ArrayList<>();
+        long[] spans = {60, 4_000, 250_000, 16_000_000, 2_000_000_000L};
+        for (int i = 0; i < 2_000; i++) {
+            long minute = start + 1 + (long) (random.nextDouble() * spans[i % spans.length]);
+            expected.add(minute);
+            wheel.schedule(minute, minute);
+        }
+        expected.sort(Long::compare);
+
+        List<Long> fired = new ArrayList<>();
+        long[] clock = {start};
+        // Jump through the timers one by one so the test stays fast over long spans
+        for (long due : expected) {
+            if (due > clock[0]) {
+                wheel.advanceTo(due - 1, minute -> fired.add(-1L));
+                wheel.advanceTo(due, minute -> {
+                    assertEquals(due, (long) minute);
+                    fired.add(minute);
+                });
+                clock[0] = due;
+            }
+        }
+
+        assertEquals(expected, fired);
+    }
+}
@@ -0,0 +1,89 @@
+package edith.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import edith.task.Task;
+import edith.task.Todo;
+
+public class BlockFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<Task> chores(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Todo("chore number " + i));
+        }
+        return tasks;
+    }
+
+    @Test
+    public void forEach_severalThreads_keepsFileOrder() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        BlockFile.write(file, chores(20000));
+
+        BlockFile blocks = BlockFile.open(file);
+        List<String> descriptions = new ArrayList<>();
+        blocks.forEach(task -> descriptions.add(task.getDescription()), 4);
+
+        assertTrue(BlockFile.isBlockFile(file));
+        assertTrue(blocks.getBlockCount() > 4);
+        assertEquals(20000, blocks.getRecordCount());
+        assertEquals(20000, descriptions.size());
+        for (int i = 0; i < descriptions.size(); i++) {
+            assertEquals("chore number " + i, descriptions.get(i));
+        }
+    }
+
+    @Test
+    public void open_truncatedFile_throwsIoException() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        BlockFile.write(file, chores(100));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertTrue(BlockFile.isBlockFile(file));
+        assertThrows(IOException.class, () -> BlockFile.open(file));
+    }
+
+    @Test
+    public void forEach_blockDoesNotInflate_reportsItsRecordsAndLoadsTheOthers() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        BlockFile.write(file, chores(20000));
+        List<String> firstBlock = new ArrayList<>();
+        BlockFile.open(file).readBlock(0, task -> firstBlock.add(task.getDescription()));
+        int firstBlockRecords = firstBlock.size();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[8] ^= (byte) 0xff;
+        bytes[9] ^= (byte) 0xff;
+        Files.write(file, bytes);
+
+        List<String> descriptions = new ArrayList<>();
+        List<String> damaged = BlockFile.open(file).forEach(task -> descriptions.add(task.getDescription()), 2);
+
+        assertEquals(20000 - firstBlockRecords, descriptions.size());
+        assertEquals("chore number " + firstBlockRecords, descriptions.get(0));
+        assertEquals("chore number 19999", descriptions.get(descriptions.size() - 1));
+        assertEquals(firstBlockRecords, damaged.size());
+        assertTrue(damaged.get(0).startsWith("1\tBlock 0 "), damaged.get(0));
+        assertEquals(3, damaged.get(0).split("\t").length);
+    }
+
+    @Test
+    public void write_noTasks_writesEmptyIndex() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        BlockFile.write(file, chores(0));
+
+        assertEquals(0, BlockFile.open(file).getBlockCount());
+    }
+}
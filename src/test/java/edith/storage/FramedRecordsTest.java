@@ -0,0 +1,52 @@
+package edith.storage;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import edith.task.Task;
+import edith.task.Todo;
+
+public class FramedRecordsTest {
+
+    private String frame(Task task) {
+        byte[] record = task.toJson().getBytes(StandardCharsets.UTF_8);
+        return new String(FramedRecords.header(new CRC32C(), record), StandardCharsets.US_ASCII)
+                + new String(record, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void header_knownRecord_writesLengthAndCrc32cInHex() {
+        byte[] header = FramedRecords.header(new CRC32C(), "123456789".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("00000009 e3069283 ", new String(header, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void readAll_framesRunTogether_resyncsAtNextValidFrame() throws IOException {
+        String first = frame(new Todo("caf\u00e9 run"));
+        String second = frame(new Todo("second"));
+        String third = frame(new Todo("third"));
+        String torn = first.substring(0, first.length() - 6);
+        String text = torn + second + "\r\n" + third + "garbage\n\n" + new Todo("legacy").toJson() + "\n";
+        List<Task> tasks = new ArrayList<>();
+        FramedRecords reader = new FramedRecords(tasks::add);
+
+        reader.readAll(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, tasks.size());
+        assertEquals("second", tasks.get(0).getDescription());
+        assertEquals("third", tasks.get(1).getDescription());
+        assertEquals("legacy", tasks.get(2).getDescription());
+        List<String> damaged = reader.getDamaged();
+        assertEquals(2, damaged.size());
+        assertEquals("1\tChecksum does not match\t" + torn, damaged.get(0));
+        assertEquals("2\tNot a framed record\tgarbage", damaged.get(1));
+    }
+}
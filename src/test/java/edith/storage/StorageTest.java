@@ -8,8 +8,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import edith.task.Task;
 import edith.task.Todo;
@@ -188,4 +195,206 @@ public class StorageTest {
         assertTrue(dataDir.exists());
         assertTrue(dataDir.isDirectory());
     }
+
+    @Test
+    public void loadTasksInto_buildsDeadlineIndexWhileLoading() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("todo task"));
+        tasks.add(new Deadline("later", DateTimeParser.parseDateTime("02/01/2024 1200")));
+        tasks.add(new Deadline("sooner", DateTimeParser.parseDateTime("01/01/2024 1200")));
+        storage.saveTasksToFile(tasks);
+
+        TaskList loaded = new TaskList();
+        storage.loadTasksInto(loaded);
+
+        assertEquals(3, loaded.size());
+        assertEquals(2, loaded.getDeadlineIndex().size());
+        assertEquals("sooner", loaded.getDeadlineIndex()
+                .upcoming(DateTimeParser.parseDateTime("2023-12-31"), 1).get(0).getTask().getDescription());
+    }
+
+    @Test
+    public void loadTasksFromFile_repeatedText_sharesOneCopy() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Todo todo = new Todo("water the plants");
+            todo.setNote("use the \"blue\" can");
+            tasks.add(todo);
+        }
+        tasks.add(new Todo("something else"));
+        storage.saveTasksToFile(tasks);
+
+        ArrayList<Task> loaded = storage.loadTasksFromFile();
+
+        assertEquals(4, loaded.size());
+        assertSame(loaded.get(0).getDescription(), loaded.get(2).getDescription());
+        assertSame(loaded.get(0).getNote(), loaded.get(1).getNote());
+        assertEquals("use the \"blue\" can", loaded.get(2).getNote());
+        assertEquals("[T][ ] something else", loaded.get(3).toString());
+    }
+
+    @Test
+    public void saveViews_thenLoadViews_keepsNamesQueriesAndOrder() throws IOException {
+        Map<String, String> views = new LinkedHashMap<>();
+        views.put("week", "done:false by<2026-10-26");
+        views.put("laptop", "note:\"laptop bag\"");
+        views.put("caf\u00e9", "note:\u65e5\u672c");
+        storage.saveViews(views);
+
+        Map<String, String> loaded = storage.loadViews();
+
+        assertEquals(views, loaded);
+        assertEquals("week", loaded.keySet().iterator().next());
+        assertTrue(Files.readAllLines(tempDir.resolve(testFileName + ".views"), StandardCharsets.UTF_8)
+                .contains("caf\u00e9\tnote:\u65e5\u672c"));
+    }
+
+    @Test
+    public void saveAliases_thenLoadAliases_keepsAliasesApartFromViews() throws IOException {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        aliases.put("dl", "deadline");
+        aliases.put("rm", "delete");
+        storage.saveAliases(aliases);
+
+        assertEquals(aliases, storage.loadAliases());
+        assertTrue(storage.loadViews().isEmpty());
+    }
+
+    @Test
+    public void saveArchiveSegment_thenReadArchive_streamsSegmentsInOrderApartFromHotSet() throws IOException {
+        ArrayList<Task> hot = new ArrayList<>();
+        hot.add(new Todo("still to do"));
+        storage.saveTasksToFile(hot);
+        Todo first = new Todo("old chore");
+        first.markAsDone();
+        Deadline second = new Deadline("old report", DateTimeParser.parseDateTime("2020-01-10"));
+        second.markAsDone();
+
+        Path firstSegment = storage.saveArchiveSegment(List.of(first));
+        Path secondSegment = storage.saveArchiveSegment(List.of(second));
+        List<String> archived = new ArrayList<>();
+        assertEquals(0, storage.readArchive(task -> archived.add(task.toString())));
+
+        assertEquals(List.of(firstSegment, secondSegment), storage.getArchiveSegments());
+        assertTrue(firstSegment.getFileName().toString().startsWith(testFileName + ".archive-"));
+        assertEquals(List.of(first.toString(), second.toString()), archived);
+        assertEquals(1, storage.loadTasksFromFile().size());
+        assertTrue(new Storage(testDataDir, "other.txt").getArchiveSegments().isEmpty());
+    }
+
+    @Test
+    public void loadTasksFromFile_unreadableFile_copiesItAsideBeforeItCanBeSavedOver() throws IOException {
+        Storage compressed = new Storage(testDataDir, testFileName, true);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("keep me"));
+        compressed.saveTasksToFile(tasks);
+        Path file = tempDir.resolve(testFileName);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= (byte) 0xff;
+        Files.write(file, bytes);
+
+        IOException error = assertThrows(IOException.class, compressed::loadTasksFromFile);
+        compressed.saveTasksToFile(new ArrayList<>());
+
+        Path kept = tempDir.resolve(testFileName + ".unreadable");
+        assertTrue(error.getMessage().contains("A copy was kept in " + kept), error.getMessage());
+        assertArrayEquals(bytes, Files.readAllBytes(kept));
+    }
+
+    @Test
+    public void readArchive_damagedRecord_skipsAndCountsIt() throws IOException {
+        Todo chore = new Todo("old chore");
+        Path segment = storage.saveArchiveSegment(List.of(chore));
+        Path damaged = tempDir.resolve(testFileName + ".archive-000002.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(damaged))) {
+            out.write("00000010 00000000 not a record\n".getBytes(StandardCharsets.UTF_8));
+        }
+        List<String> archived = new ArrayList<>();
+
+        assertEquals(List.of(segment, damaged), storage.getArchiveSegments());
+        assertEquals(1, storage.readArchive(task -> archived.add(task.toString())));
+        assertEquals(List.of(chore.toString()), archived);
+    }
+
+    @Test
+    public void saveTasksToFile_compressed_loadsBackAndStaysCompressed() throws IOException {
+        Storage compressed = new Storage(testDataDir, "packed.txt", true);
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Todo todo = new Todo("chore number " + i);
+            todo.setNote("note " + (i % 7));
+            tasks.add(todo);
+        }
+        tasks.add(new Deadline("report", DateTimeParser.parseDateTime("2/12/2026 1800")));
+        compressed.saveTasksToFile(tasks);
+
+        Storage reopened = new Storage(testDataDir, "packed.txt");
+        ArrayList<Task> loaded = reopened.loadTasksFromFile();
+
+        assertEquals(tasks.size(), loaded.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toJson(), loaded.get(i).toJson());
+        }
+        assertTrue(reopened.isCompressed());
+        assertTrue(reopened.countBlocks() > 1);
+        long plainBytes = tasks.stream().mapToLong(task -> task.toJson().length() + 1).sum();
+        assertTrue(new File(testDataDir, "packed.txt").length() * 4 < plainBytes);
+    }
+
+    @Test
+    public void loadBlock_compressed_readsOnlyThatBlock() throws IOException {
+        Storage compressed = new Storage(testDataDir, "packed.txt", true);
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            tasks.add(new Todo("chore number " + i));
+        }
+        compressed.saveTasksToFile(tasks);
+
+        ArrayList<Task> all = new ArrayList<>();
+        for (int block = 0; block < compressed.countBlocks(); block++) {
+            ArrayList<Task> loaded = compressed.loadBlock(block);
+            assertFalse(loaded.isEmpty());
+            all.addAll(loaded);
+        }
+
+        assertEquals(tasks.size(), all.size());
+        assertEquals("chore number 2999", all.get(2999).getDescription());
+        assertThrows(IOException.class, () -> compressed.loadBlock(compressed.countBlocks()));
+        storage.saveTasksToFile(tasks);
+        assertEquals(1, storage.countBlocks());
+        assertEquals(tasks.size(), storage.loadBlock(0).size());
+    }
+
+    @Test
+    public void loadTasksFromFile_damagedFrames_skipsAndReportsThemAndKeepsTheRest() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        storage.saveTasksToFile(tasks);
+        Path file = tempDir.resolve(testFileName);
+        String[] lines = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\\R");
+        lines[1] = lines[1].replace("task 1", "task X");
+        String text = lines[0] + "\n" + lines[1] + "\n" + lines[2] + lines[3] + "\n" + lines[4] + "\n"
+                + lines[5].substring(0, lines[5].length() - 4);
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+        ArrayList<Task> loaded = storage.loadTasksFromFile();
+
+        assertEquals(4, loaded.size());
+        assertEquals("task 0", loaded.get(0).getDescription());
+        assertEquals("task 2", loaded.get(1).getDescription());
+        assertEquals("task 3", loaded.get(2).getDescription());
+        assertEquals("task 4", loaded.get(3).getDescription());
+        List<String> damaged = storage.getDamagedRecords();
+        assertEquals(2, damaged.size());
+        assertTrue(damaged.get(0).startsWith("2\tChecksum does not match\t"), damaged.get(0));
+        assertTrue(damaged.get(1).startsWith("5\tRecord is shorter than its frame says\t"), damaged.get(1));
+        assertFalse(Files.exists(Path.of(storage.getDamagedPath())));
+
+        storage.loadTasksFromFile();
+        storage.saveTasksToFile(loaded);
+        storage.saveTasksToFile(loaded);
+        assertEquals(damaged, Files.readAllLines(Path.of(storage.getDamagedPath())));
+    }
 }
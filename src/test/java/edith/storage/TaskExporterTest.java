@@ -0,0 +1,109 @@
+package edith.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import edith.query.Query;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Recurrence;
+import edith.task.Todo;
+
+public class TaskExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TaskList sampleTasks() {
+        TaskList tasks = new TaskList();
+        Todo groceries = new Todo("buy milk, \"fresh\" eggs");
+        groceries.setDuration("1h 30m");
+        groceries.setNote("corner shop; not the mall");
+        tasks.add(groceries);
+        Deadline essay = new Deadline(" essay", "2/12/2026 1800");
+        essay.setRecurrence(Recurrence.parse("2 weeks /until 2027-01-31"));
+        essay.markAsDone();
+        tasks.add(essay);
+        tasks.add(new Event("team sync", "2026-12-03", "2026-12-04"));
+        return tasks;
+    }
+
+    @Test
+    public void writeTo_csv_importsBackToSameTasks() throws IOException {
+        TaskList tasks = sampleTasks();
+        Path target = tempDir.resolve("out.csv");
+
+        TaskExporter.snapshotOf(tasks).writeTo(TaskExporter.Format.CSV, target);
+        TaskList imported = new TaskList();
+        TaskImporter.Result result = new TaskImporter(2, 1).importInto(target, imported);
+
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getRejected());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toJson(), imported.get(i).toJson());
+        }
+    }
+
+    @Test
+    public void writeTo_jsonLines_writesDataFileRecords() throws IOException {
+        TaskList tasks = sampleTasks();
+        Path target = tempDir.resolve("out.jsonl");
+
+        TaskExporter.snapshotOf(tasks).writeTo(TaskExporter.Format.JSON_LINES, target);
+
+        List<String> lines = Files.readAllLines(target);
+        assertEquals(3, lines.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toJson(), lines.get(i));
+        }
+    }
+
+    @Test
+    public void writeTo_iCalendar_writesTodosAndEventsWithFoldedLines() throws IOException {
+        TaskList tasks = sampleTasks();
+        tasks.add(new Todo("a very long description that will not fit on one iCalendar content line "
+                + "\u00e9\u00e9\u00e9"));
+        Path target = tempDir.resolve("out.ics");
+
+        TaskExporter.snapshotOf(tasks).writeTo(TaskExporter.Format.ICALENDAR, target);
+
+        String text = new String(Files.readAllBytes(target), StandardCharsets.UTF_8);
+        assertTrue(text.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(text.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(text.contains("SUMMARY:buy milk\\, \"fresh\" eggs\r\n"));
+        assertTrue(text.contains("DESCRIPTION:corner shop\\; not the mall\r\n"));
+        assertTrue(text.contains("DUE:20261202T180000\r\nSTATUS:COMPLETED\r\n"));
+        assertTrue(text.contains("RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20270131T235959\r\n"));
+        assertTrue(text.contains("BEGIN:VEVENT\r\n"));
+        assertTrue(text.contains("DTSTART:20261203T000000\r\nDTEND:20261204T000000\r\n"));
+        for (String line : text.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+        assertTrue(text.replace("\r\n ", "").contains("content line \u00e9\u00e9\u00e9\r\n"));
+    }
+
+    @Test
+    public void snapshotOf_filter_keepsMatchingTasksAsOfSnapshot() throws Exception {
+        TaskList tasks = sampleTasks();
+        TaskExporter snapshot = TaskExporter.snapshotOf(tasks, Query.compile("type:T"));
+        tasks.add(new Todo("added after the snapshot"));
+        tasks.setNote(0, "edited after the snapshot");
+        tasks.markTask(0);
+        tasks.delete(0);
+        Path target = tempDir.resolve("todos.jsonl");
+
+        snapshot.writeTo(TaskExporter.Format.JSON_LINES, target);
+
+        assertEquals(1, snapshot.size());
+        assertTrue(Files.readAllLines(target).get(0).contains("buy milk"));
+        assertFalse(Files.readAllLines(target).get(0).contains("edited after the snapshot"));
+        assertTrue(Files.readAllLines(target).get(0).contains("\"done\":false"), Files.readAllLines(target).get(0));
+    }
+}
@@ -0,0 +1,126 @@
+package edith.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import edith.task.DateTimeParser;
+import edith.task.Deadline;
+import edith.task.Event;
+import edith.task.Task;
+import edith.task.Todo;
+
+public class TaskImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void importInto_csvRows_appendsInFileOrderAndRejectsBadRows() throws IOException {
+        Path source = tempDir.resolve("tasks.csv");
+        Files.write(source, List.of(
+                "Type,Description,Done,By,From,To,Duration,Note,Every",
+                "todo,\"buy milk, eggs\",,,,,30m,,",
+                "D,essay,x,2/12/2026 1800,,,,\"say \"\"thanks\"\"\",weekly",
+                "event,\"talk",
+                "part two\",no,,2026-12-03 14:00,2026-12-03 15:00,,,",
+                "deadline,report,,someday,,,,,",
+                ",no type column value,,,,,,,",
+                "",
+                "chore,sweep,,,,,,,",
+                "todo,,,,,,,,",
+                "todo,too,many,fields,,,,,,,",
+                ",inferred deadline,,2026-12-05,,,,,"));
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("already here"));
+
+        TaskImporter.Result result = new TaskImporter(3, 2).importInto(source, tasks);
+
+        assertEquals(5, result.getImported());
+        assertEquals(4, result.getRejected());
+        assertEquals(6, tasks.size());
+        assertEquals("already here", tasks.get(0).getDescription());
+        assertEquals("buy milk, eggs", tasks.get(1).getDescription());
+        assertEquals(30, tasks.get(1).getDurationMinutes());
+        Deadline essay = (Deadline) tasks.get(2);
+        assertTrue(essay.isDone());
+        assertEquals("say \"thanks\"", essay.getNote());
+        assertTrue(essay.isRecurring());
+        assertEquals(DateTimeParser.parseDateTime("2/12/2026 1800"), essay.getBy());
+        Event talk = (Event) tasks.get(3);
+        assertEquals("talk\npart two", talk.getDescription());
+        assertEquals(DateTimeParser.parseFromJson("2026-12-03 14:00"), talk.getFrom());
+        assertTrue(tasks.get(4) instanceof Todo);
+        assertTrue(tasks.get(5) instanceof Deadline);
+
+        List<String> rejects = Files.readAllLines(result.getRejectsPath());
+        assertEquals(4, rejects.size());
+        assertTrue(rejects.get(0).startsWith("6\t"), rejects.get(0));
+        assertTrue(rejects.get(1).startsWith("9\tUnknown task type: chore\t"), rejects.get(1));
+        assertTrue(rejects.get(2).startsWith("10\tDescription cannot be empty\t"), rejects.get(2));
+        assertTrue(rejects.get(3).startsWith("11\tRow has 11 fields but the header has 9\t"), rejects.get(3));
+        assertTrue(result.getRowsPerSecond() > 0);
+    }
+
+    @Test
+    public void importInto_jsonLines_readsDataFileRecords() throws IOException {
+        List<Task> originals = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Todo todo = new Todo("chore " + i);
+            if (i % 3 == 0) {
+                todo.markAsDone();
+            }
+            originals.add(todo);
+        }
+        originals.add(new Event("launch", DateTimeParser.parseDateTime("2026-11-01"),
+                DateTimeParser.parseDateTime("2026-11-02")));
+        List<String> lines = new ArrayList<>();
+        for (Task task : originals) {
+            lines.add(task.toJson());
+        }
+        lines.add(25, "{\"type\":\"X\"}");
+        Path source = tempDir.resolve("export.jsonl");
+        Files.write(source, lines);
+        Files.write(tempDir.resolve("export.jsonl" + TaskImporter.REJECTS_SUFFIX), List.of("stale"));
+
+        TaskList tasks = new TaskList();
+        TaskImporter.Result result = new TaskImporter(4, 7).importInto(source, tasks);
+
+        assertEquals(originals.size(), result.getImported());
+        assertEquals(1, result.getRejected());
+        for (int i = 0; i < originals.size(); i++) {
+            assertEquals(originals.get(i).toString(), tasks.get(i).toString());
+        }
+        assertTrue(Files.readAllLines(result.getRejectsPath()).get(0).startsWith("26\t"));
+    }
+
+    @Test
+    public void importInto_noRejects_leavesNoRejectsFile() throws IOException {
+        Path source = tempDir.resolve("clean.csv");
+        Files.write(source, List.of("description", "one", "two"));
+        Path stale = tempDir.resolve("clean.csv" + TaskImporter.REJECTS_SUFFIX);
+        Files.write(stale, List.of("stale"));
+
+        TaskImporter.Result result = new TaskImporter().importInto(source, new TaskList());
+
+        assertEquals(2, result.getImported());
+        assertNull(result.getRejectsPath());
+        assertFalse(Files.exists(stale));
+    }
+
+    @Test
+    public void importInto_csvWithoutDescriptionColumn_throwsIoException() throws IOException {
+        Path source = tempDir.resolve("bad.csv");
+        Files.write(source, List.of("type,by", "D,2026-12-01"));
+        TaskList tasks = new TaskList();
+
+        assertThrows(IOException.class, () -> new TaskImporter().importInto(source, tasks));
+        assertEquals(0, tasks.size());
+    }
+}
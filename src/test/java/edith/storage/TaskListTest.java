@@ -216,4 +216,23 @@ public class TaskListTest {
             taskList.delete(0);
         });
     }
+
+    @Test
+    public void indexOf_afterDeletes_tracksShiftedPositions() {
+        ArrayList<Task> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Todo task = new Todo("task " + i);
+            added.add(task);
+            taskList.add(task);
+        }
+
+        taskList.delete(0);
+        taskList.delete(50);
+
+        assertEquals(-1, taskList.indexOf(added.get(0)));
+        assertEquals(0, taskList.indexOf(added.get(1)));
+        assertEquals(49, taskList.indexOf(added.get(50)));
+        assertEquals(-1, taskList.indexOf(added.get(51)));
+        assertEquals(97, taskList.indexOf(added.get(99)));
+    }
 }
@@ -4,13 +4,17 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.function.Supplier;
 
 /**
  * Comprehensive test suite for DateTimeParser class.
  * Tests various date formats, edge cases, and error conditions.
  */
 public class DateTimeParserTest {
+    private static final int MINUTES_PER_DAY = 24 * 60;
 
     @Test
     public void parseDateTime_yyyyMMddFormat_parsesCorrectly() {
@@ -187,4 +191,125 @@ public class DateTimeParserTest {
         assertTrue(formatted.contains("25"));
         assertTrue(formatted.contains("2024"));
     }
+
+    @Test
+    public void formatForJson_everyDayOfFourCenturies_matchesFormatter() {
+        DateTimeFormatter reference = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        LocalDateTime dateTime = LocalDateTime.of(1800, 1, 1, 0, 0);
+        for (int day = 0; dateTime.getYear() < 2200; day++) {
+            LocalDateTime withTime = dateTime.plusMinutes(day * 37L % MINUTES_PER_DAY);
+            assertEquals(withTime.format(reference), DateTimeParser.formatForJson(withTime));
+            dateTime = dateTime.plusDays(1);
+        }
+        for (LocalDateTime edge : new LocalDateTime[] {LocalDateTime.of(1, 1, 1, 0, 0),
+                LocalDateTime.of(9999, 12, 31, 23, 59), LocalDateTime.of(10000, 1, 1, 0, 0),
+                LocalDateTime.of(0, 6, 15, 12, 0), LocalDateTime.of(-44, 3, 15, 9, 5),
+                LocalDateTime.of(2024, 2, 29, 7, 8, 59)}) {
+            assertEquals(edge.format(reference), DateTimeParser.formatForJson(edge));
+        }
+    }
+
+    @Test
+    public void parseFromJson_everyFieldCombination_matchesFormatter() {
+        DateTimeFormatter reference = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        int[] hours = {0, 1, 9, 12, 23, 24, 25, 99};
+        int[] minutes = {0, 1, 30, 59, 60, 99};
+        for (int year : new int[] {0, 1, 1900, 2000, 2023, 2024, 9999}) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    for (int hour : hours) {
+                        for (int minute : minutes) {
+                            String text = String.format("%04d-%02d-%02d %02d:%02d", year, month, day, hour, minute);
+                            assertEquals(outcome(() -> LocalDateTime.parse(text, reference)),
+                                    outcome(() -> DateTimeParser.parseFromJson(text)), text);
+                        }
+                    }
+                }
+            }
+        }
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            String text = String.format("2024-02-29 %02d:%02d", minute / 60, minute % 60);
+            assertEquals(LocalDateTime.parse(text, reference), DateTimeParser.parseFromJson(text));
+        }
+        for (String text : new String[] {"", "2024-01-01", "2024-01-01 1200", "2024-01-01T12:00",
+                "2024/01/01 12:00", "2024-1-01 12:00", " 2024-01-01 12:00", "2024-01-01 12:00 ",
+                "+2024-01-01 12:00", "20240-01-01 12:00", "2024-01-0a 12:00", "\uFF12\uFF10\uFF12\uFF14-01-01 12:00"}) {
+            assertEquals(outcome(() -> LocalDateTime.parse(text, reference)),
+                    outcome(() -> DateTimeParser.parseFromJson(text)), text);
+        }
+    }
+
+    @Test
+    public void parseDateTime_everyFieldCombination_matchesRegexAndFormatter() {
+        String[] times = {"0000", "0930", "2359", "2400", "1260"};
+        for (String year : new String[] {"0000", "1900", "2023", "2024"}) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    for (String time : times) {
+                        for (String text : new String[] {day + "/" + month + "/" + year + " " + time,
+                                String.format("%02d/%02d/%s %s", day, month, year, time),
+                                String.format("%s-%02d-%02d", year, month, day)}) {
+                            assertEquals(outcome(() -> referenceParseDateTime(text)),
+                                    outcome(() -> DateTimeParser.parseDateTime(text)), text);
+                        }
+                    }
+                }
+            }
+        }
+        for (String text : new String[] {"", " ", " 1/1/2024 0000 ", "1/1/24 0000", "123/1/2024 0000",
+                "1//2024 0000", "1/123/2024 0000", "a/1/2024 0000", "1/1/2024  0000", "1/1/2024 000",
+                "1/1/2024 00000", "1/1/2024", "2024-1-01", "2024-01-01 ", "2024-01-01 00:00", "/1/2024 0000",
+                "1/1/2024\t0000", "\uFF11/1/2024 0000", "\uFF12\uFF10\uFF12\uFF14-01-01"}) {
+            assertEquals(outcome(() -> referenceParseDateTime(text)),
+                    outcome(() -> DateTimeParser.parseDateTime(text)), text);
+        }
+    }
+
+    @Test
+    public void epochMinutes_everyDayOfFourCenturies_roundTripsAndMatchesUtcSeconds() {
+        DateTimeFormatter reference = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        LocalDateTime dateTime = LocalDateTime.of(1800, 1, 1, 0, 0);
+        for (int day = 0; dateTime.getYear() < 2200; day++) {
+            LocalDateTime withTime = dateTime.plusMinutes(day * 37L % MINUTES_PER_DAY);
+            long minutes = DateTimeParser.toEpochMinutes(withTime);
+            assertEquals(Math.floorDiv(withTime.toEpochSecond(ZoneOffset.UTC), 60), minutes);
+            assertEquals(withTime, DateTimeParser.fromEpochMinutes(minutes));
+            assertEquals(withTime.format(reference), DateTimeParser.formatForJson(minutes));
+            dateTime = dateTime.plusDays(1);
+        }
+    }
+
+    @Test
+    public void toEpochMinutes_withSeconds_roundsDown() {
+        LocalDateTime withSeconds = LocalDateTime.of(1969, 12, 31, 23, 59, 59);
+        assertEquals(-1, DateTimeParser.toEpochMinutes(withSeconds));
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59), DateTimeParser.fromEpochMinutes(-1));
+    }
+
+    /**
+     * The regex and formatter implementation that the fixed-width codec replaced.
+     */
+    private static LocalDateTime referenceParseDateTime(String dateTimeString) {
+        String trimmed = dateTimeString.trim();
+        try {
+            if (trimmed.matches("\\d{4}-\\d{2}-\\d{2}")) {
+                return LocalDateTime.parse(trimmed + " 00:00", DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+            }
+            if (trimmed.matches("\\d{1,2}/\\d{1,2}/\\d{4} \\d{4}")) {
+                return LocalDateTime.parse(trimmed, DateTimeFormatter.ofPattern("d/M/yyyy HHmm"));
+            }
+            throw new DateTimeParseException("Unsupported date format: " + dateTimeString, dateTimeString, 0);
+        } catch (DateTimeParseException e) {
+            throw new DateTimeParseException("Invalid date format: " + dateTimeString
+                    + ". Supported formats: yyyy-mm-dd, d/m/yyyy HHmm", dateTimeString, 0);
+        }
+    }
+
+    private static String outcome(Supplier<LocalDateTime> parse) {
+        try {
+            return "parsed " + parse.get();
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
 }
@@ -3,6 +3,10 @@ package edith.task;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.time.Duration;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class DurationParserTest {
     
@@ -112,4 +116,77 @@ public class DurationParserTest {
         assertThrows(IllegalArgumentException.class, () -> 
             DurationParser.parseDurationFromJson("invalid"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parseMinutes_noDuration_returnsSentinel() {
+        assertEquals(90, DurationParser.parseMinutes("1h 30m"));
+        assertEquals(0, DurationParser.parseMinutes("0m"));
+        assertEquals(DurationParser.NO_DURATION, DurationParser.parseMinutes("0h 0m"));
+        assertEquals(DurationParser.NO_DURATION, DurationParser.parseMinutes(null));
+        assertEquals(DurationParser.NO_DURATION, DurationParser.parseMinutesFromJson(" "));
+    }
+
+    @Test
+    public void parseDuration_randomText_matchesRegexParser() {
+        String[] tokens = {"0", "1", "2", "7", "30", "90", "007", "1.5", "0.75", "2.", ".5", "1.123456789",
+            "99999999999999999", "9223372036854775807", "9223372036854775808", "153722867280912930",
+            "1234567890123.25", " ", "  ", "\t", "\n", "h", "H", "hour", "Hours", "hOURS", "m", "M", "min", "MINS",
+            "minute", "Minutes", "hr", "x", "-", "+", ".", "s", "\u00e9", "\u0663"};
+        Random random = new Random(45);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 1 + random.nextInt(6);
+            for (int k = 0; k < length; k++) {
+                text.append(tokens[random.nextInt(tokens.length)]);
+            }
+            String input = text.toString();
+            assertEquals(outcome(() -> referenceParseDuration(input)),
+                    outcome(() -> DurationParser.parseDuration(input)), input);
+        }
+    }
+
+    private static String outcome(Supplier<Duration> parse) {
+        try {
+            return "parsed " + parse.get();
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    private static final Pattern REFERENCE_DURATION_PATTERN = Pattern.compile(
+        "(?:(\\d+)\\s*h(?:ours?)?)?\\s*(?:(\\d+)\\s*m(?:inutes?)?)?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern REFERENCE_SIMPLE_PATTERN = Pattern.compile(
+        "(\\d+(?:\\.\\d+)?)\\s*(h|hour|hours|m|min|mins|minute|minutes)", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * The regular expression parser the scanner replaced, kept as the reference it must agree with.
+     */
+    private static Duration referenceParseDuration(String durationStr) {
+        if (durationStr == null || durationStr.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = durationStr.trim().toLowerCase();
+        Matcher simpleMatcher = REFERENCE_SIMPLE_PATTERN.matcher(trimmed);
+        if (simpleMatcher.matches()) {
+            double value = Double.parseDouble(simpleMatcher.group(1));
+            if (simpleMatcher.group(2).startsWith("h")) {
+                return Duration.ofMinutes((long) (value * 60));
+            }
+            return Duration.ofMinutes((long) value);
+        }
+        Matcher matcher = REFERENCE_DURATION_PATTERN.matcher(trimmed);
+        if (matcher.matches()) {
+            long hours = matcher.group(1) == null ? 0 : Long.parseLong(matcher.group(1));
+            long minutes = matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2));
+            if (hours == 0 && minutes == 0) {
+                return null;
+            }
+            return Duration.ofHours(hours).plusMinutes(minutes);
+        }
+        try {
+            return Duration.ofMinutes(Long.parseLong(trimmed));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration format: " + durationStr);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package edith.task;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class RecurrenceTest {
+
+    private static final LocalDateTime FIRST = DateTimeParser.parseDateTime("1/1/2026 0900");
+
+    private static List<LocalDateTime> startsOf(Iterator<Occurrence> occurrences) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        occurrences.forEachRemaining(occurrence -> starts.add(occurrence.getStart()));
+        return starts;
+    }
+
+    @Test
+    public void parse_supportedRules_giveIntervalInDays() {
+        assertEquals(1, Recurrence.parse("daily").getIntervalDays());
+        assertEquals(7, Recurrence.parse("weekly").getIntervalDays());
+        assertEquals(3, Recurrence.parse("3 days").getIntervalDays());
+        assertEquals(14, Recurrence.parse("2 weeks").getIntervalDays());
+        assertEquals(5, Recurrence.parse("5").getIntervalDays());
+    }
+
+    @Test
+    public void parse_withUntil_setsEndDate() {
+        Recurrence recurrence = Recurrence.parse("daily /until 2026-01-05");
+
+        assertEquals(DateTimeParser.parseDateTime("2026-01-05"), recurrence.getUntil());
+        assertEquals("every day until Jan 05 2026", recurrence.describe());
+    }
+
+    @Test
+    public void parse_invalidRule_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("fortnightly"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("0 days"));
+    }
+
+    @Test
+    public void between_windowFarFromFirst_jumpsStraightToWindow() {
+        Deadline deadline = new Deadline("pay rent", FIRST);
+        deadline.setRecurrence(Recurrence.parse("weekly"));
+
+        List<LocalDateTime> starts = startsOf(Occurrence.between(deadline,
+                FIRST.plusDays(7000), FIRST.plusDays(7015)));
+
+        assertEquals(List.of(FIRST.plusDays(7000), FIRST.plusDays(7007), FIRST.plusDays(7014)), starts);
+    }
+
+    @Test
+    public void between_untilDate_stopsSeries() {
+        Deadline deadline = new Deadline("course", FIRST);
+        deadline.setRecurrence(Recurrence.parse("daily /until 2026-01-03"));
+
+        List<LocalDateTime> starts = startsOf(Occurrence.between(deadline, FIRST, FIRST.plusYears(1)));
+
+        assertEquals(3, starts.size());
+    }
+
+    @Test
+    public void between_skippedOccurrence_isLeftOutAndDoneIsReported() {
+        Event event = new Event("standup", FIRST, FIRST.plusMinutes(15));
+        event.setRecurrence(Recurrence.parse("daily"));
+        event.getRecurrence().skipOccurrence(1);
+        event.getRecurrence().markOccurrenceDone(2);
+
+        Iterator<Occurrence> occurrences = Occurrence.between(event, FIRST, FIRST.plusDays(3));
+        Occurrence first = occurrences.next();
+        Occurrence third = occurrences.next();
+
+        assertFalse(occurrences.hasNext());
+        assertEquals(0, first.getNumber());
+        assertEquals(2, third.getNumber());
+        assertTrue(third.isDone());
+        assertEquals(FIRST.plusDays(2).plusMinutes(15), third.getEnd());
+        assertTrue(third.toString().startsWith("[E][X] standup"));
+    }
+
+    @Test
+    public void occurrenceOn_matchesCalendarDayOnly() {
+        Recurrence recurrence = Recurrence.parse("2 days");
+
+        assertEquals(2, recurrence.occurrenceOn(FIRST, DateTimeParser.parseDateTime("2026-01-05")));
+        assertEquals(-1, recurrence.occurrenceOn(FIRST, DateTimeParser.parseDateTime("2026-01-04")));
+        assertEquals(-1, recurrence.occurrenceOn(FIRST, DateTimeParser.parseDateTime("2025-12-30")));
+    }
+
+    @Test
+    public void json_roundTrip_keepsRuleAndExceptions() throws IOException {
+        Deadline deadline = new Deadline("report", FIRST);
+        deadline.setRecurrence(Recurrence.parse("weekly /until 2026-06-30"));
+        for (int i = 0; i < 5; i++) {
+            deadline.getRecurrence().markOccurrenceDone(i);
+        }
+        deadline.getRecurrence().skipOccurrence(9);
+
+        String json = deadline.toJson();
+        Deadline loaded = (Deadline) Task.convertFromJson(json);
+
+        assertTrue(json.contains("\"doneOn\":\"0-4\""));
+        assertEquals(json, loaded.toJson());
+        assertTrue(loaded.getRecurrence().isOccurrenceDone(3));
+        assertTrue(loaded.getRecurrence().isOccurrenceSkipped(9));
+        assertEquals(deadline.toString(), loaded.toString());
+    }
+
+    @Test
+    public void toString_recurringDeadline_showsRule() {
+        Deadline deadline = new Deadline("standup notes", FIRST);
+        assertFalse(deadline.toString().contains("every"));
+        deadline.setRecurrence(Recurrence.parse("daily"));
+
+        assertTrue(deadline.toString().endsWith("(every day)"));
+    }
+}
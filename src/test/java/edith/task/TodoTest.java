@@ -3,8 +3,11 @@ package edith.task;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+
 public class TodoTest {
     
     @Test
@@ -69,4 +72,30 @@ public class TodoTest {
         String expected = "{\"type\":\"T\",\"done\":false,\"description\":\"read \\\"book\\\" with \\\\backslash\",\"note\":\"\"}";
         assertEquals(expected, todo.toJson());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void toString_repeatedCalls_returnsSameString() {
+        Todo todo = new Todo("read book");
+        assertSame(todo.toString(), todo.toString());
+    }
+
+    @Test
+    public void toString_afterChanges_reflectsEachChange() {
+        Todo todo = new Todo("read book");
+        assertEquals("[T][ ] read book", todo.toString());
+
+        todo.markAsDone();
+        assertEquals("[T][X] read book", todo.toString());
+
+        todo.setNote("chapter 3");
+        assertEquals("[T][X] read book (Note: chapter 3)", todo.toString());
+
+        todo.setDuration("2h");
+        assertEquals("[T][X] read book (Note: chapter 3) (duration: 2h)", todo.toString());
+
+        todo.markAsUndone();
+        todo.setNote("");
+        todo.setDuration((Duration) null);
+        assertEquals("[T][ ] read book", todo.toString());
+    }
+}